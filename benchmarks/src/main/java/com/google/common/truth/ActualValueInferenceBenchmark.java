@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for {@link ActualValueInference}, which reads and analyzes the bytecode of the calling
+ * method on every failure that doesn't have an explicit description.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ActualValueInferenceBenchmark {
+  private final Failures failures = new Failures();
+  private StackTraceElement site;
+
+  @Setup
+  public void setUp() {
+    site = failingAssertionSite();
+    checkState(
+        ActualValueInference.describeActualValue(
+                site.getClassName(), site.getMethodName(), site.getLineNumber())
+            != null,
+        "inference did not find the assertion at %s",
+        site);
+  }
+
+  /** Returns the stack frame of the failing assertion in {@link #failingAssertion}. */
+  private StackTraceElement failingAssertionSite() {
+    failingAssertion(Arrays.asList(1, 2, 3));
+    AssertionError failure = failures.take();
+    // The cleaned stack trace starts at the line that called assertThat.
+    return failure.getStackTrace()[0];
+  }
+
+  private void failingAssertion(List<Integer> values) {
+    failures.expect().that(values.subList(0, 2)).containsExactly(1, 2, 3);
+  }
+
+  @Benchmark
+  public Object describeActualValue() {
+    return ActualValueInference.describeActualValue(
+        site.getClassName(), site.getMethodName(), site.getLineNumber());
+  }
+
+  @Benchmark
+  public Object failureWithInference() {
+    failingAssertion(Arrays.asList(1, 2, 3));
+    return failures.take();
+  }
+}
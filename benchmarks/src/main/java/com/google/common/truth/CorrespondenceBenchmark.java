@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.LinkedListMultimap;
+import com.google.common.collect.Multimap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for correspondence-based matching, both end to end through {@link
+ * IterableSubject.UsingCorrespondence} and directly through {@link GraphMatching}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CorrespondenceBenchmark {
+  private static final Correspondence<Integer, Integer> WITHIN_ONE =
+      Correspondence.from((Integer a, Integer e) -> Math.abs(a - e) <= 1, "is within 1 of");
+
+  @Param({"10", "100", "1000"})
+  int size;
+
+  /** How many candidate expected values each actual value corresponds to. */
+  @Param({"1", "3"})
+  int degree;
+
+  private List<Integer> actual;
+  private List<Integer> expected;
+  private Multimap<Integer, Integer> graph;
+
+  @Setup
+  public void setUp() {
+    actual = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      actual.add(i * 10);
+    }
+    expected = new ArrayList<>(actual);
+    Collections.shuffle(expected, new Random(0));
+
+    graph = LinkedListMultimap.create();
+    Random random = new Random(1);
+    for (int i = 0; i < size; i++) {
+      graph.put(i, i);
+      for (int j = 1; j < degree; j++) {
+        graph.put(i, random.nextInt(size));
+      }
+    }
+  }
+
+  @Benchmark
+  public Object containsExactlyElementsIn() {
+    assertThat(actual)
+        .comparingElementsUsing(WITHIN_ONE)
+        .containsExactlyElementsIn(expected);
+    return actual;
+  }
+
+  @Benchmark
+  public Object maximumCardinalityBipartiteMatching() {
+    return GraphMatching.maximumCardinalityBipartiteMatching(graph);
+  }
+}
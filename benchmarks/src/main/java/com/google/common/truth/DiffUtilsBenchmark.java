@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import com.google.common.base.Splitter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for the unified diff that Truth prints when two multi-line strings differ, both
+ * directly through {@link DiffUtils} and end to end through a failing {@code isEqualTo}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DiffUtilsBenchmark {
+  @Param({"100", "10000"})
+  int lines;
+
+  /** Every {@code changeEvery}-th line differs between the two strings. */
+  @Param({"10", "1000"})
+  int changeEvery;
+
+  private final Failures failures = new Failures();
+  private String expected;
+  private String actual;
+  private List<String> expectedLines;
+  private List<String> actualLines;
+
+  @Setup
+  public void setUp() {
+    StringBuilder expectedBuilder = new StringBuilder();
+    StringBuilder actualBuilder = new StringBuilder();
+    for (int i = 0; i < lines; i++) {
+      String line = "line " + i + ": lorem ipsum dolor sit amet";
+      expectedBuilder.append(line).append('\n');
+      actualBuilder.append(i % changeEvery == 0 ? line + " (changed)" : line).append('\n');
+    }
+    expected = expectedBuilder.toString();
+    actual = actualBuilder.toString();
+    expectedLines = new ArrayList<>(Splitter.on('\n').splitToList(expected));
+    actualLines = new ArrayList<>(Splitter.on('\n').splitToList(actual));
+  }
+
+  @Benchmark
+  public Object generateUnifiedDiff() {
+    return DiffUtils.generateUnifiedDiff(expectedLines, actualLines, /* contextSize= */ 3);
+  }
+
+  @Benchmark
+  public Object failingIsEqualTo() {
+    failures.expect().that(actual).isEqualTo(expected);
+    return failures.take();
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link FailureStrategy} that records the last failure instead of throwing it, so that benchmarks
+ * measure the cost of building a failure message without the cost of unwinding the stack.
+ */
+final class Failures implements FailureStrategy {
+  private @Nullable AssertionError last;
+
+  @Override
+  public void fail(AssertionError failure) {
+    last = failure;
+  }
+
+  /** Returns an assertion builder that reports its failures to this object. */
+  StandardSubjectBuilder expect() {
+    return StandardSubjectBuilder.forCustomFailureStrategy(this);
+  }
+
+  /** Returns and clears the last recorded failure. */
+  @Nullable AssertionError take() {
+    AssertionError result = last;
+    last = null;
+    return result;
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Benchmarks for the passing and failing paths of {@link Subject#isEqualTo}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IsEqualToBenchmark {
+  /**
+   * Whether failures should infer a description of the actual value from bytecode, which is the
+   * default for ordinary assertions.
+   */
+  @Param({"false", "true"})
+  boolean inferDescription;
+
+  private final Failures failures = new Failures();
+  private StandardSubjectBuilder expect;
+  private String actual;
+  private String expected;
+  private String other;
+
+  @Setup
+  public void setUp() {
+    expect =
+        StandardSubjectBuilder.forCustomFailureStrategy(
+            failures, /* suppressInferDescription= */ !inferDescription);
+    actual = "the quick brown fox";
+    expected = new String(actual.toCharArray());
+    other = "the quick brown dog";
+  }
+
+  @Benchmark
+  public Object passing() {
+    assertThat(actual).isEqualTo(expected);
+    return actual;
+  }
+
+  @Benchmark
+  public Object failing() {
+    expect.that(actual).isEqualTo(other);
+    return failures.take();
+  }
+
+  @Benchmark
+  public Object failingInteger() {
+    expect.that(actual.length()).isEqualTo(other.length() + 1);
+    return failures.take();
+  }
+}
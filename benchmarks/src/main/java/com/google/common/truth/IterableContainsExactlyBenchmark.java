@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Benchmarks for {@link IterableSubject#containsExactlyElementsIn}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IterableContainsExactlyBenchmark {
+  /*
+   * The unordered and mismatch paths reconcile leftovers with repeated ArrayList.remove calls, which
+   * is quadratic. Sizes above 10^4 can take minutes per iteration there, so the default range stops
+   * short of 10^6. Pass -p size=1000000 to measure the full range.
+   */
+  @Param({"10", "100", "1000", "10000"})
+  int size;
+
+  private final Failures failures = new Failures();
+  private List<Integer> actual;
+  private List<Integer> sameOrder;
+  private List<Integer> shuffled;
+  private List<Integer> mismatched;
+
+  @Setup
+  public void setUp() {
+    actual = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      actual.add(i);
+    }
+    sameOrder = new ArrayList<>(actual);
+    shuffled = new ArrayList<>(actual);
+    Collections.shuffle(shuffled, new Random(0));
+    mismatched = new ArrayList<>(shuffled);
+    mismatched.set(size / 2, -1);
+  }
+
+  @Benchmark
+  public Object ordered() {
+    assertThat(actual).containsExactlyElementsIn(sameOrder).inOrder();
+    return actual;
+  }
+
+  @Benchmark
+  public Object unordered() {
+    assertThat(actual).containsExactlyElementsIn(shuffled);
+    return actual;
+  }
+
+  @Benchmark
+  public Object mismatch() {
+    failures.expect().that(actual).containsExactlyElementsIn(mismatched);
+    return failures.take();
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Benchmarks for {@link MapSubject#containsExactlyEntriesIn}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapContainsExactlyBenchmark {
+  @Param({"10", "1000", "100000"})
+  int size;
+
+  private final Failures failures = new Failures();
+  private Map<String, Integer> actual;
+  private Map<String, Integer> expected;
+  private Map<String, Integer> mismatched;
+
+  @Setup
+  public void setUp() {
+    actual = new LinkedHashMap<>();
+    for (int i = 0; i < size; i++) {
+      actual.put("key" + i, i);
+    }
+    expected = new HashMap<>(actual);
+    mismatched = new HashMap<>(actual);
+    mismatched.put("key" + (size / 2), -1);
+  }
+
+  @Benchmark
+  public Object passing() {
+    assertThat(actual).containsExactlyEntriesIn(expected);
+    return actual;
+  }
+
+  @Benchmark
+  public Object mismatch() {
+    failures.expect().that(actual).containsExactlyEntriesIn(mismatched);
+    return failures.take();
+  }
+}
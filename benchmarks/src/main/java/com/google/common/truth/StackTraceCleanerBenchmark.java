@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Benchmarks for {@link StackTraceCleaner}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StackTraceCleanerBenchmark {
+  /** The number of user frames between the Truth frames and the JMH frames. */
+  @Param({"10", "100", "1000"})
+  int depth;
+
+  private StackTraceElement[] frames;
+
+  @Setup
+  public void setUp() {
+    List<StackTraceElement> list = new ArrayList<>();
+    // The frames that a failing isEqualTo would contribute above the caller.
+    list.add(frame(FailureMetadata.class, "doFail"));
+    list.add(frame(FailureMetadata.class, "failEqualityCheck"));
+    list.add(frame(Subject.class, "failEqualityCheck"));
+    list.add(frame(Subject.class, "standardIsEqualTo"));
+    list.add(frame(Subject.class, "isEqualTo"));
+    list.addAll(Arrays.asList(captureAtDepth(depth)));
+    frames = list.toArray(new StackTraceElement[0]);
+  }
+
+  private static StackTraceElement frame(Class<?> clazz, String method) {
+    return new StackTraceElement(clazz.getName(), method, clazz.getSimpleName() + ".java", 1);
+  }
+
+  private static StackTraceElement[] captureAtDepth(int remaining) {
+    return remaining <= 0 ? new Throwable().getStackTrace() : captureAtDepth(remaining - 1);
+  }
+
+  /** The cost of creating a throwable with the benchmark's stack, for subtracting from below. */
+  @Benchmark
+  public Object baseline() {
+    AssertionError error = new AssertionError();
+    error.setStackTrace(frames);
+    return error;
+  }
+
+  @Benchmark
+  public Object cleanStackTrace() {
+    AssertionError error = new AssertionError();
+    error.setStackTrace(frames);
+    StackTraceCleaner.cleanStackTrace(error);
+    return error;
+  }
+}
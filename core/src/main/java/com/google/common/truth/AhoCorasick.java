@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An Aho-Corasick automaton over a fixed list of literal strings, which finds where each of them
+ * first occurs in a text in a single pass over the text.
+ *
+ * <p>Nodes are numbered from 0, the root, and all per-node state is kept in primitive arrays
+ * indexed by node. The outgoing edges of each node are kept sorted by character, so that a step
+ * through the automaton is a binary search with no boxing.
+ */
+final class AhoCorasick {
+  private final int[] patternLengths;
+  /**
+   * For each node, the characters of its outgoing edges in ascending order, in the first {@code
+   * degree[node]} slots, or null if it has no edges yet.
+   */
+  private final char[][] edgeChars;
+  /** For each node, the nodes that its edges lead to, at the same indexes as {@link #edgeChars}. */
+  private final int[][] edgeTargets;
+  private final int[] degree;
+  private int nodeCount;
+  /**
+   * For each node, the index of a pattern that ends there, or -1 if none does. Any further patterns
+   * that end at the same node are chained through {@link #nextPatternAtNode}.
+   */
+  private final int[] firstPatternAtNode;
+  /** For each pattern, the next pattern that ends at the same node, or -1. */
+  private final int[] nextPatternAtNode;
+  /** For each node, the node for its longest proper suffix that is also a prefix of a pattern. */
+  private final int[] failure;
+  /**
+   * For each node, the nearest node along its failure chain (excluding the root) at which some
+   * pattern ends, or 0 if there is none.
+   */
+  private final int[] nextMatch;
+
+  AhoCorasick(List<String> patterns) {
+    int patternCount = patterns.size();
+    patternLengths = new int[patternCount];
+    nextPatternAtNode = new int[patternCount];
+    // The trie has at most one node per pattern character, plus the root.
+    int maxNodes = 1;
+    for (String pattern : patterns) {
+      maxNodes += pattern.length();
+    }
+    edgeChars = new char[maxNodes][];
+    edgeTargets = new int[maxNodes][];
+    degree = new int[maxNodes];
+    firstPatternAtNode = new int[maxNodes];
+    Arrays.fill(firstPatternAtNode, -1);
+    failure = new int[maxNodes];
+    nextMatch = new int[maxNodes];
+    nodeCount = 1;
+    for (int i = 0; i < patternCount; i++) {
+      String pattern = patterns.get(i);
+      patternLengths[i] = pattern.length();
+      int node = 0;
+      for (int j = 0; j < pattern.length(); j++) {
+        char c = pattern.charAt(j);
+        int next = child(node, c);
+        if (next < 0) {
+          next = nodeCount++;
+          addEdge(node, c, next);
+        }
+        node = next;
+      }
+      nextPatternAtNode[i] = firstPatternAtNode[node];
+      firstPatternAtNode[node] = i;
+    }
+    computeFailureLinks();
+  }
+
+  /** Returns the node that the edge labeled {@code c} leads to from {@code node}, or -1. */
+  private int child(int node, char c) {
+    int n = degree[node];
+    int i = n == 0 ? -1 : Arrays.binarySearch(edgeChars[node], 0, n, c);
+    return i < 0 ? -1 : edgeTargets[node][i];
+  }
+
+  private void addEdge(int node, char c, int target) {
+    int n = degree[node];
+    if (n == 0) {
+      edgeChars[node] = new char[2];
+      edgeTargets[node] = new int[2];
+    } else if (n == edgeChars[node].length) {
+      edgeChars[node] = Arrays.copyOf(edgeChars[node], 2 * n);
+      edgeTargets[node] = Arrays.copyOf(edgeTargets[node], 2 * n);
+    }
+    char[] chars = edgeChars[node];
+    int[] targets = edgeTargets[node];
+    int i = n == 0 ? 0 : -(Arrays.binarySearch(chars, 0, n, c) + 1);
+    System.arraycopy(chars, i, chars, i + 1, n - i);
+    System.arraycopy(targets, i, targets, i + 1, n - i);
+    chars[i] = c;
+    targets[i] = target;
+    degree[node] = n + 1;
+  }
+
+  private void computeFailureLinks() {
+    // A breadth-first traversal, so that each node's failure link is set before its children's.
+    int[] queue = new int[nodeCount];
+    int head = 0;
+    int tail = 0;
+    queue[tail++] = 0;
+    while (head < tail) {
+      int node = queue[head++];
+      for (int k = 0; k < degree[node]; k++) {
+        int child = edgeTargets[node][k];
+        int fallback = node == 0 ? 0 : step(failure[node], edgeChars[node][k]);
+        failure[child] = fallback;
+        nextMatch[child] = firstPatternAtNode[fallback] < 0 ? nextMatch[fallback] : fallback;
+        queue[tail++] = child;
+      }
+    }
+  }
+
+  private int step(int node, char c) {
+    while (true) {
+      int next = child(node, c);
+      if (next >= 0) {
+        return next;
+      } else if (node == 0) {
+        return 0;
+      }
+      node = failure[node];
+    }
+  }
+
+  /**
+   * Returns the offset in {@code text} at which each pattern first starts, or -1 for patterns that
+   * don't occur. The scan stops early once {@code stopAfter} of the patterns have been found, in
+   * which case the patterns not found by then are also reported as -1.
+   */
+  int[] firstOccurrences(CharSequence text, int stopAfter) {
+    int[] first = new int[patternLengths.length];
+    Arrays.fill(first, -1);
+    // Empty patterns end at the root and occur at offset 0.
+    int found = record(0, first, 0);
+    int node = 0;
+    for (int i = 0; i < text.length() && found < stopAfter; i++) {
+      node = step(node, text.charAt(i));
+      int m = firstPatternAtNode[node] < 0 ? nextMatch[node] : node;
+      for (; m != 0; m = nextMatch[m]) {
+        found += record(m, first, i + 1);
+      }
+    }
+    return first;
+  }
+
+  /** Records the patterns that end at {@code node}, returning how many were not found before. */
+  private int record(int node, int[] first, int end) {
+    int newlyFound = 0;
+    for (int p = firstPatternAtNode[node]; p >= 0; p = nextPatternAtNode[p]) {
+      if (first[p] < 0) {
+        first[p] = end - patternLengths[p];
+        newlyFound++;
+      }
+    }
+    return newlyFound;
+  }
+}
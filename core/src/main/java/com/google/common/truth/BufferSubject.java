@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.truth.Fact.fact;
+import static com.google.common.truth.Fact.simpleFact;
+import static com.google.common.truth.MathUtil.equalWithinTolerance;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.collect.ImmutableList;
+import com.google.j2objc.annotations.J2ObjCIncompatible;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A subject for the contents of NIO {@link Buffer}s, such as {@link ByteBuffer}, {@link IntBuffer}
+ * and {@link DoubleBuffer}, whether heap or direct.
+ *
+ * <p>As in the buffers' own {@code equals} methods, the contents of a buffer are its remaining
+ * elements: those from its position up to its limit. The assertions read them in place, without
+ * copying them into an array and without changing the buffer's position, so direct buffers and
+ * views can be checked as they are. Failure messages show only a window of elements around the
+ * first difference, rather than the whole buffer.
+ *
+ * <p>Use this subject with {@code assertAbout(buffers()).that(buffer)}. There is no {@code
+ * assertThat(Buffer)} overload, since the buffer types are {@link Comparable} and {@code
+ * assertThat(buffer)} already returns a {@link ComparableSubject}.
+ *
+ * @since 1.5.0
+ */
+@GwtIncompatible
+@J2ObjCIncompatible
+@J2ktIncompatible
+public final class BufferSubject extends Subject {
+  /** The number of elements shown on each side of a difference in failure messages. */
+  private static final int WINDOW_RADIUS = 8;
+
+  /** The length of a row of the hex windows shown for byte buffers. */
+  private static final int ROW = 16;
+
+  private final @Nullable Buffer actual;
+
+  private BufferSubject(FailureMetadata metadata, @Nullable Buffer actual) {
+    super(metadata, actual);
+    this.actual = actual;
+  }
+
+  @Override
+  protected String actualCustomStringRepresentation() {
+    return actual == null ? "null" : describe(actual);
+  }
+
+  /** Checks that the actual buffer has exactly the given number of remaining elements. */
+  public void hasRemaining(int remaining) {
+    checkArgument(remaining >= 0, "expected remaining (%s) must be >= 0", remaining);
+    if (actual == null) {
+      failWithActual("expected a buffer with remaining", remaining);
+      return;
+    }
+    check("remaining()").that(actual.remaining()).isEqualTo(remaining);
+  }
+
+  /**
+   * Checks that the actual buffer is equal to {@code expected}. For two buffers of the same kind,
+   * this means that their remaining elements are equal, as defined by the buffers' {@code equals}
+   * methods. If they are not, the failure message shows the index, relative to each buffer's
+   * position, of the first difference, along with the elements around it.
+   *
+   * <p>The comparison calls {@code equals} first, which newer JDKs implement with a vectorized
+   * mismatch search. Only a failing comparison looks for the first difference itself.
+   */
+  @Override
+  public void isEqualTo(@Nullable Object expected) {
+    if (actual != null && actual.equals(expected)) {
+      return;
+    }
+    if (actual == null
+        || !(expected instanceof Buffer)
+        || kind(actual) == null
+        || kind(actual) != kind((Buffer) expected)) {
+      super.isEqualTo(expected);
+      return;
+    }
+    Buffer other = (Buffer) expected;
+    int index = mismatch(actual, other);
+    failWithoutActual(describeDifference(other, index, simpleFact("expected to be equal")));
+  }
+
+  /**
+   * Prepares for a check that the actual buffer, a {@link DoubleBuffer} or {@link FloatBuffer},
+   * has as many remaining elements as the expected buffer, and that each is a finite number within
+   * {@code tolerance} of the corresponding expected element.
+   *
+   * @param tolerance an inclusive upper bound on the difference between each actual element and
+   *     the corresponding expected element, which must be a non-negative finite value
+   */
+  public TolerantBufferComparison isWithin(double tolerance) {
+    checkArgument(!Double.isNaN(tolerance), "tolerance cannot be NaN");
+    checkArgument(
+        Double.compare(tolerance, 0.0) >= 0, "tolerance (%s) cannot be negative", tolerance);
+    checkArgument(tolerance != Double.POSITIVE_INFINITY, "tolerance cannot be POSITIVE_INFINITY");
+    return new TolerantBufferComparison(this, tolerance);
+  }
+
+  /** A partially specified check about an approximate relationship to a floating-point buffer. */
+  public static final class TolerantBufferComparison {
+    private final BufferSubject subject;
+    private final double tolerance;
+
+    private TolerantBufferComparison(BufferSubject subject, double tolerance) {
+      this.subject = subject;
+      this.tolerance = tolerance;
+    }
+
+    /**
+     * Fails if the actual buffer does not have the same number of remaining elements as {@code
+     * expected}, each within the tolerance of the corresponding expected element.
+     */
+    public void of(Buffer expected) {
+      checkNotNull(expected);
+      Kind kind = kind(expected);
+      checkArgument(
+          kind == Kind.DOUBLE || kind == Kind.FLOAT,
+          "expected must be a DoubleBuffer or FloatBuffer, but was %s",
+          expected.getClass().getName());
+      Buffer actual = subject.actual;
+      if (actual == null || kind(actual) != kind) {
+        subject.failWithoutActual(
+            fact("expected a " + kind.bufferName + " within tolerance of", expected),
+            subject.butWas(),
+            fact("tolerance", tolerance));
+        return;
+      }
+      int index = -1;
+      int common = min(actual.remaining(), expected.remaining());
+      for (int i = 0; i < common; i++) {
+        if (!equalWithinTolerance(
+            doubleAt(actual, actual.position() + i),
+            doubleAt(expected, expected.position() + i),
+            tolerance)) {
+          index = i;
+          break;
+        }
+      }
+      if (index < 0 && actual.remaining() != expected.remaining()) {
+        index = common;
+      }
+      if (index >= 0) {
+        subject.failWithoutActual(
+            subject.describeDifference(
+                expected, index, fact("expected elements within tolerance", tolerance)));
+      }
+    }
+  }
+
+  /**
+   * Returns the index, relative to the positions, of the first remaining element at which the
+   * buffers differ, or of the end of the shorter one.
+   */
+  private static int mismatch(Buffer actual, Buffer expected) {
+    int common = min(actual.remaining(), expected.remaining());
+    if (actual instanceof ByteBuffer) {
+      int index = FileContents.mismatch((ByteBuffer) actual, (ByteBuffer) expected);
+      return index >= 0 ? index : common;
+    }
+    for (int i = 0; i < common; i++) {
+      if (!sameElement(
+          elementAt(actual, actual.position() + i),
+          elementAt(expected, expected.position() + i))) {
+        return i;
+      }
+    }
+    return common;
+  }
+
+  /**
+   * Whether the elements are equal by the rules of the buffers' {@code equals} methods, under
+   * which {@code -0.0} equals {@code 0.0} and NaN equals NaN.
+   */
+  private static boolean sameElement(Object actual, Object expected) {
+    if (actual instanceof Double) {
+      double a = (Double) actual;
+      double b = (Double) expected;
+      return a == b || (Double.isNaN(a) && Double.isNaN(b));
+    } else if (actual instanceof Float) {
+      float a = (Float) actual;
+      float b = (Float) expected;
+      return a == b || (Float.isNaN(a) && Float.isNaN(b));
+    }
+    return actual.equals(expected);
+  }
+
+  private ImmutableList<Fact> describeDifference(Buffer expected, int index, Fact expectation) {
+    Buffer actual = checkNotNull(this.actual);
+    ImmutableList.Builder<Fact> facts = ImmutableList.builder();
+    facts.add(expectation);
+    facts.add(fact("first difference at index", index));
+    if (actual.remaining() != expected.remaining()) {
+      facts.add(fact("expected remaining", expected.remaining()));
+      facts.add(fact("but remaining was", actual.remaining()));
+    }
+    facts.add(fact("expected", window(expected, index)));
+    facts.add(fact("but was", window(actual, index)));
+    facts.add(fact("buffer", describe(actual)));
+    return facts.build();
+  }
+
+  /**
+   * Describes the buffer's indexes without its contents, since {@code toString()} on a {@link
+   * CharBuffer} returns all of its remaining characters.
+   */
+  private static String describe(Buffer buffer) {
+    return buffer.getClass().getName()
+        + "[pos="
+        + buffer.position()
+        + " lim="
+        + buffer.limit()
+        + " cap="
+        + buffer.capacity()
+        + "]";
+  }
+
+  /**
+   * Returns the remaining elements of {@code buffer} around {@code index}, which is relative to its
+   * position. Byte buffers are shown as a hex dump, as for {@link PathSubject#hasContent}.
+   */
+  private static String window(Buffer buffer, int index) {
+    int position = buffer.position();
+    int remaining = buffer.remaining();
+    if (buffer instanceof ByteBuffer) {
+      int from = min(max(0, index / ROW * ROW - ROW), remaining);
+      int to = min(from + 3 * ROW, remaining);
+      byte[] bytes = new byte[to - from];
+      for (int i = from; i < to; i++) {
+        bytes[i - from] = ((ByteBuffer) buffer).get(position + i);
+      }
+      return FileContents.hexWindow(bytes, 0, bytes.length, from, index);
+    }
+    int from = max(0, index - WINDOW_RADIUS);
+    int to = min(remaining, index + WINDOW_RADIUS + 1);
+    StringBuilder builder = new StringBuilder("[");
+    if (from > 0) {
+      builder.append("... (").append(from).append(" more), ");
+    }
+    for (int i = from; i < to; i++) {
+      if (i > from) {
+        builder.append(", ");
+      }
+      builder.append(elementAt(buffer, position + i));
+    }
+    if (to < remaining) {
+      builder.append(", ... (").append(remaining - to).append(" more)");
+    }
+    return builder.append(']').toString();
+  }
+
+  private enum Kind {
+    BYTE("ByteBuffer"),
+    CHAR("CharBuffer"),
+    SHORT("ShortBuffer"),
+    INT("IntBuffer"),
+    LONG("LongBuffer"),
+    FLOAT("FloatBuffer"),
+    DOUBLE("DoubleBuffer");
+
+    final String bufferName;
+
+    Kind(String bufferName) {
+      this.bufferName = bufferName;
+    }
+  }
+
+  /** Returns the kind of {@code buffer}, or null for a {@link Buffer} subclass of another kind. */
+  private static @Nullable Kind kind(Buffer buffer) {
+    if (buffer instanceof ByteBuffer) {
+      return Kind.BYTE;
+    } else if (buffer instanceof CharBuffer) {
+      return Kind.CHAR;
+    } else if (buffer instanceof ShortBuffer) {
+      return Kind.SHORT;
+    } else if (buffer instanceof IntBuffer) {
+      return Kind.INT;
+    } else if (buffer instanceof LongBuffer) {
+      return Kind.LONG;
+    } else if (buffer instanceof FloatBuffer) {
+      return Kind.FLOAT;
+    } else if (buffer instanceof DoubleBuffer) {
+      return Kind.DOUBLE;
+    }
+    return null;
+  }
+
+  /** Returns the element at the given absolute index, boxed. */
+  private static Object elementAt(Buffer buffer, int index) {
+    switch (checkNotNull(kind(buffer))) {
+      case BYTE:
+        return ((ByteBuffer) buffer).get(index);
+      case CHAR:
+        return ((CharBuffer) buffer).get(index);
+      case SHORT:
+        return ((ShortBuffer) buffer).get(index);
+      case INT:
+        return ((IntBuffer) buffer).get(index);
+      case LONG:
+        return ((LongBuffer) buffer).get(index);
+      case FLOAT:
+        return ((FloatBuffer) buffer).get(index);
+      case DOUBLE:
+        return ((DoubleBuffer) buffer).get(index);
+    }
+    throw new AssertionError();
+  }
+
+  private static double doubleAt(Buffer buffer, int index) {
+    return buffer instanceof DoubleBuffer
+        ? ((DoubleBuffer) buffer).get(index)
+        : ((FloatBuffer) buffer).get(index);
+  }
+
+  /** Returns a factory for assertions about the contents of NIO {@link Buffer}s. */
+  public static Factory<BufferSubject, Buffer> buffers() {
+    return BufferSubject::new;
+  }
+}
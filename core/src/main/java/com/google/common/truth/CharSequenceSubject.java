@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.truth.Fact.fact;
+import static com.google.common.truth.Fact.simpleFact;
+import static com.google.common.truth.SubstringSearch.fold;
+import static com.google.common.truth.SubstringSearch.indexOf;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.j2objc.annotations.J2ObjCIncompatible;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A subject for {@link CharSequence} values, such as {@link StringBuilder} and {@link
+ * java.nio.CharBuffer}, that offers the content assertions of {@link StringSubject} without first
+ * copying the actual value into a {@link String}.
+ *
+ * <p>The assertions read the actual value through {@link CharSequence#charAt} and {@link
+ * Pattern#matcher(CharSequence)}. When an assertion fails, the message includes the whole actual
+ * value only if it is reasonably short; longer values are shown as an excerpt of their first
+ * characters, along with their length.
+ *
+ * <p>Use this subject with {@code assertAbout(charSequences()).that(sequence)}. There is no {@code
+ * assertThat(CharSequence)} overload, since it would make {@code assertThat(stringBuilder)}
+ * ambiguous with {@code assertThat(Comparable)}.
+ *
+ * @since 1.5.0
+ */
+@GwtIncompatible
+@J2ObjCIncompatible
+@J2ktIncompatible
+public final class CharSequenceSubject extends Subject {
+  /** Actual values up to this length are shown in full in failure messages. */
+  private static final int MAX_LENGTH_SHOWN_IN_FULL = 1000;
+
+  /** The number of leading characters shown for longer actual values. */
+  private static final int EXCERPT_LENGTH = 500;
+
+  private final @Nullable CharSequence actual;
+
+  private CharSequenceSubject(FailureMetadata metadata, @Nullable CharSequence actual) {
+    super(metadata, actual);
+    this.actual = actual;
+  }
+
+  @Override
+  protected String actualCustomStringRepresentation() {
+    return actual == null ? super.actualCustomStringRepresentation() : excerpt(actual);
+  }
+
+  /** Checks that the actual value has the given length. */
+  public void hasLength(int length) {
+    checkArgument(length >= 0, "expected length (%s) must be >= 0", length);
+    if (actual == null) {
+      failWithActual("expected a char sequence with length", length);
+      return;
+    }
+    check("length()").that(actual.length()).isEqualTo(length);
+  }
+
+  /** Checks that the actual value is empty. */
+  public void isEmpty() {
+    if (actual == null) {
+      failWithActual(simpleFact("expected an empty char sequence"));
+    } else if (actual.length() != 0) {
+      failWithActual(simpleFact("expected to be empty"));
+    }
+  }
+
+  /** Checks that the actual value is not empty. */
+  public void isNotEmpty() {
+    if (actual == null) {
+      failWithActual(simpleFact("expected a non-empty char sequence"));
+    } else if (actual.length() == 0) {
+      failWithoutActual(simpleFact("expected not to be empty"));
+    }
+  }
+
+  /** Checks that the actual value contains the given sequence. */
+  public void contains(@Nullable CharSequence string) {
+    checkNotNull(string);
+    if (actual == null) {
+      failWithActual("expected a char sequence that contains", string);
+    } else if (indexOf(actual, string, /* ignoreCase= */ false) < 0) {
+      failWithActual("expected to contain", string);
+    }
+  }
+
+  /** Checks that the actual value does not contain the given sequence. */
+  public void doesNotContain(@Nullable CharSequence string) {
+    checkNotNull(string);
+    if (actual == null) {
+      failWithActual("expected a char sequence that does not contain", string);
+    } else if (indexOf(actual, string, /* ignoreCase= */ false) >= 0) {
+      failWithActual("expected not to contain", string);
+    }
+  }
+
+  /** Checks that the actual value starts with the given sequence. */
+  public void startsWith(@Nullable CharSequence string) {
+    checkNotNull(string);
+    if (actual == null) {
+      failWithActual("expected a char sequence that starts with", string);
+    } else if (string.length() > actual.length()
+        || !regionMatches(actual, 0, string, /* ignoreCase= */ false)) {
+      failWithActual("expected to start with", string);
+    }
+  }
+
+  /** Checks that the actual value ends with the given sequence. */
+  public void endsWith(@Nullable CharSequence string) {
+    checkNotNull(string);
+    if (actual == null) {
+      failWithActual("expected a char sequence that ends with", string);
+    } else if (string.length() > actual.length()
+        || !regionMatches(
+            actual, actual.length() - string.length(), string, /* ignoreCase= */ false)) {
+      failWithActual("expected to end with", string);
+    }
+  }
+
+  /** Checks that the actual value matches the given regex. */
+  public void matches(@Nullable String regex) {
+    checkNotNull(regex);
+    matches(Platform.compiledPattern(regex));
+  }
+
+  /** Checks that the actual value matches the given regex. */
+  public void matches(@Nullable Pattern regex) {
+    checkNotNull(regex);
+    if (actual == null) {
+      failWithActual("expected a char sequence that matches", regex);
+    } else if (!regex.matcher(actual).matches()) {
+      if (regex.matcher(actual).find()) {
+        failWithoutActual(
+            fact("expected to match", regex),
+            butWas(),
+            simpleFact("Did you mean to call containsMatch() instead of match()?"));
+      } else {
+        failWithActual("expected to match", regex);
+      }
+    }
+  }
+
+  /** Checks that the actual value does not match the given regex. */
+  public void doesNotMatch(@Nullable String regex) {
+    checkNotNull(regex);
+    doesNotMatch(Platform.compiledPattern(regex));
+  }
+
+  /** Checks that the actual value does not match the given regex. */
+  public void doesNotMatch(@Nullable Pattern regex) {
+    checkNotNull(regex);
+    if (actual == null) {
+      failWithActual("expected a char sequence that does not match", regex);
+    } else if (regex.matcher(actual).matches()) {
+      failWithActual("expected not to match", regex);
+    }
+  }
+
+  /** Checks that the actual value contains a match on the given regex. */
+  public void containsMatch(@Nullable String regex) {
+    checkNotNull(regex);
+    containsMatch(Platform.compiledPattern(regex));
+  }
+
+  /** Checks that the actual value contains a match on the given regex. */
+  public void containsMatch(@Nullable Pattern regex) {
+    checkNotNull(regex);
+    if (actual == null) {
+      failWithActual("expected a char sequence that contains a match for", regex);
+    } else if (!regex.matcher(actual).find()) {
+      failWithActual("expected to contain a match for", regex);
+    }
+  }
+
+  /** Checks that the actual value does not contain a match on the given regex. */
+  public void doesNotContainMatch(@Nullable String regex) {
+    checkNotNull(regex);
+    doesNotContainMatch(Platform.compiledPattern(regex));
+  }
+
+  /** Checks that the actual value does not contain a match on the given regex. */
+  public void doesNotContainMatch(@Nullable Pattern regex) {
+    checkNotNull(regex);
+    if (actual == null) {
+      failWithActual("expected a char sequence that does not contain a match for", regex);
+      return;
+    }
+    Matcher matcher = regex.matcher(actual);
+    if (matcher.find()) {
+      failWithoutActual(
+          fact("expected not to contain a match for", regex),
+          fact("but contained", excerpt(actual.subSequence(matcher.start(), matcher.end()))),
+          fact("at offset", matcher.start()),
+          actualValue("full char sequence"));
+    }
+  }
+
+  /**
+   * Returns a {@link CharSequenceSubject}-like instance that will ignore the case of the
+   * characters.
+   *
+   * <p>Character equality ignoring case is defined as in {@link StringSubject#ignoringCase}:
+   * characters must be equal either after calling {@link Character#toLowerCase} or after calling
+   * {@link Character#toUpperCase}. Characters are compared one {@code char} at a time.
+   */
+  public CaseInsensitiveCharSequenceComparison ignoringCase() {
+    return new CaseInsensitiveCharSequenceComparison(this);
+  }
+
+  /** Offers case-insensitive checks for char sequence values. */
+  public static final class CaseInsensitiveCharSequenceComparison {
+    private final CharSequenceSubject subject;
+    private final @Nullable CharSequence actual;
+
+    private CaseInsensitiveCharSequenceComparison(CharSequenceSubject subject) {
+      this.subject = subject;
+      this.actual = subject.actual;
+    }
+
+    /**
+     * Checks that the actual value has the same characters as the given sequence (while ignoring
+     * case), or that both are null. Unlike {@link Subject#isEqualTo}, this compares the contents
+     * of the two sequences, not the sequences themselves.
+     */
+    public void isEqualTo(@Nullable CharSequence expected) {
+      if (actual == null) {
+        if (expected != null) {
+          subject.failWithoutActual(
+              fact("expected a char sequence that is equal to", expected),
+              subject.butWas(),
+              simpleFact("(case is ignored)"));
+        }
+      } else if (expected == null) {
+        subject.failWithoutActual(
+            fact("expected", "null (null reference)"),
+            subject.butWas(),
+            simpleFact("(case is ignored)"));
+      } else if (expected.length() != actual.length()
+          || !regionMatches(actual, 0, expected, /* ignoreCase= */ true)) {
+        subject.failWithoutActual(
+            fact("expected", excerpt(expected)), subject.butWas(), simpleFact("(case is ignored)"));
+      }
+    }
+
+    /**
+     * Checks that the actual value does not have the same characters as the given sequence (while
+     * ignoring case). The meaning of equality is the same as for the {@link #isEqualTo} method.
+     */
+    public void isNotEqualTo(@Nullable CharSequence other) {
+      if (actual == null) {
+        if (other == null) {
+          subject.failWithoutActual(
+              fact("expected a char sequence that is not equal to", "null (null reference)"),
+              simpleFact("(case is ignored)"));
+        }
+      } else if (other != null
+          && other.length() == actual.length()
+          && regionMatches(actual, 0, other, /* ignoreCase= */ true)) {
+        subject.failWithoutActual(
+            fact("expected not to be", excerpt(other)),
+            subject.butWas(),
+            simpleFact("(case is ignored)"));
+      }
+    }
+
+    /** Checks that the actual value contains the given sequence (while ignoring case). */
+    public void contains(@Nullable CharSequence string) {
+      checkNotNull(string);
+      if (actual == null) {
+        subject.failWithoutActual(
+            fact("expected a char sequence that contains", string),
+            subject.butWas(),
+            simpleFact("(case is ignored)"));
+      } else if (indexOf(actual, string, /* ignoreCase= */ true) < 0) {
+        subject.failWithoutActual(
+            fact("expected to contain", string), subject.butWas(), simpleFact("(case is ignored)"));
+      }
+    }
+
+    /** Checks that the actual value does not contain the given sequence (while ignoring case). */
+    public void doesNotContain(@Nullable CharSequence string) {
+      checkNotNull(string);
+      if (actual == null) {
+        subject.failWithoutActual(
+            fact("expected a char sequence that does not contain", string),
+            subject.butWas(),
+            simpleFact("(case is ignored)"));
+      } else if (indexOf(actual, string, /* ignoreCase= */ true) >= 0) {
+        subject.failWithoutActual(
+            fact("expected not to contain", string),
+            subject.butWas(),
+            simpleFact("(case is ignored)"));
+      }
+    }
+  }
+
+  /** Returns whether {@code text} has the characters of {@code other} at {@code offset}. */
+  private static boolean regionMatches(
+      CharSequence text, int offset, CharSequence other, boolean ignoreCase) {
+    for (int i = 0; i < other.length(); i++) {
+      if (fold(text.charAt(offset + i), ignoreCase) != fold(other.charAt(i), ignoreCase)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns {@code sequence} as a string if it is short enough to show in full, or else its first
+   * characters followed by its length. The excerpt never ends between the two halves of a
+   * surrogate pair.
+   */
+  static String excerpt(CharSequence sequence) {
+    int length = sequence.length();
+    if (length <= MAX_LENGTH_SHOWN_IN_FULL) {
+      return sequence.toString();
+    }
+    int end = EXCERPT_LENGTH;
+    if (Character.isHighSurrogate(sequence.charAt(end - 1))) {
+      end--;
+    }
+    return sequence.subSequence(0, end) + "... (" + length + " characters in total)";
+  }
+
+  /**
+   * Returns a factory for assertions about {@link CharSequence} values, for use as {@code
+   * assertAbout(charSequences()).that(sequence)}.
+   */
+  public static Factory<CharSequenceSubject, CharSequence> charSequences() {
+    return CharSequenceSubject::new;
+  }
+}
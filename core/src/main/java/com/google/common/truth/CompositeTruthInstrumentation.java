@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link TruthInstrumentation} that passes every event on to each of several others, in order, so
+ * that instrumentation found by {@link java.util.ServiceLoader} and instrumentation enabled by
+ * system properties can all be active at once.
+ */
+@GwtIncompatible
+@J2ktIncompatible
+final class CompositeTruthInstrumentation extends TruthInstrumentation {
+  /**
+   * Returns an instrumentation that passes events on to each of the given ones: null if there are
+   * none, or the only one if there is exactly one.
+   */
+  static @Nullable TruthInstrumentation of(List<TruthInstrumentation> instrumentations) {
+    switch (instrumentations.size()) {
+      case 0:
+        return null;
+      case 1:
+        return instrumentations.get(0);
+      default:
+        return new CompositeTruthInstrumentation(ImmutableList.copyOf(instrumentations));
+    }
+  }
+
+  private final ImmutableList<TruthInstrumentation> delegates;
+
+  private CompositeTruthInstrumentation(ImmutableList<TruthInstrumentation> delegates) {
+    this.delegates = delegates;
+  }
+
+  @Override
+  void workStarted(Work work) {
+    for (TruthInstrumentation delegate : delegates) {
+      delegate.workStarted(work);
+    }
+  }
+
+  @Override
+  public void subjectCreated(Class<?> subjectClass) {
+    for (TruthInstrumentation delegate : delegates) {
+      delegate.subjectCreated(subjectClass);
+    }
+  }
+
+  @Override
+  public void assertionStarted(Class<?> subjectClass) {
+    for (TruthInstrumentation delegate : delegates) {
+      delegate.assertionStarted(subjectClass);
+    }
+  }
+
+  @Override
+  public void assertionFailed(@Nullable Class<?> subjectClass, int factCount, long elapsedNanos) {
+    for (TruthInstrumentation delegate : delegates) {
+      delegate.assertionFailed(subjectClass, factCount, elapsedNanos);
+    }
+  }
+
+  @Override
+  public void failureFormatted(int factCount, long elapsedNanos) {
+    for (TruthInstrumentation delegate : delegates) {
+      delegate.failureFormatted(factCount, elapsedNanos);
+    }
+  }
+
+  @Override
+  public void stackTraceCleaned(int originalFrames, int cleanedFrames, long elapsedNanos) {
+    for (TruthInstrumentation delegate : delegates) {
+      delegate.stackTraceCleaned(originalFrames, cleanedFrames, elapsedNanos);
+    }
+  }
+
+  @Override
+  public void descriptionInferred(boolean inferred, long elapsedNanos) {
+    for (TruthInstrumentation delegate : delegates) {
+      delegate.descriptionInferred(inferred, elapsedNanos);
+    }
+  }
+
+  @Override
+  public void diffComputed(int expectedLines, int actualLines, long elapsedNanos) {
+    for (TruthInstrumentation delegate : delegates) {
+      delegate.diffComputed(expectedLines, actualLines, elapsedNanos);
+    }
+  }
+
+  @Override
+  public void patternLookedUp(boolean cached) {
+    for (TruthInstrumentation delegate : delegates) {
+      delegate.patternLookedUp(cached);
+    }
+  }
+}
@@ -272,6 +272,21 @@ public abstract class Correspondence<A extends @Nullable Object, E extends @Null
       return Objects.equals(actualTransform.apply(actual), expectedTransform.apply(expected));
     }
 
+    @Override
+    boolean hasEqualityKeys() {
+      return true;
+    }
+
+    @Override
+    @Nullable Object actualKey(A actual) {
+      return actualTransform.apply(actual);
+    }
+
+    @Override
+    @Nullable Object expectedKey(E expected) {
+      return expectedTransform.apply(expected);
+    }
+
     @Override
     public String toString() {
       return description;
@@ -468,6 +483,21 @@ public abstract class Correspondence<A extends @Nullable Object, E extends @Null
       return delegate.isEquality();
     }
 
+    @Override
+    boolean hasEqualityKeys() {
+      return delegate.hasEqualityKeys();
+    }
+
+    @Override
+    @Nullable Object actualKey(A actual) {
+      return delegate.actualKey(actual);
+    }
+
+    @Override
+    @Nullable Object expectedKey(E expected) {
+      return delegate.expectedKey(expected);
+    }
+
     static <A extends @Nullable Object, E extends @Nullable Object> FormattingDiffs<A, E> create(
         Correspondence<A, E> delegate, DiffFormatter<? super A, ? super E> formatter) {
       return new FormattingDiffs<>(delegate, formatter);
@@ -838,6 +868,31 @@ public abstract class Correspondence<A extends @Nullable Object, E extends @Null
     return false;
   }
 
+  /**
+   * Returns whether {@link #compare} holds exactly when {@link #actualKey} of the actual value
+   * equals {@link #expectedKey} of the expected value, so that values can be paired up by hashing
+   * their keys instead of by comparing every actual value with every expected value.
+   */
+  boolean hasEqualityKeys() {
+    return isEquality();
+  }
+
+  /**
+   * Returns the key of {@code actual}, as described by {@link #hasEqualityKeys}. Only called if
+   * that method returns true.
+   */
+  @Nullable Object actualKey(A actual) {
+    return actual;
+  }
+
+  /**
+   * Returns the key of {@code expected}, as described by {@link #hasEqualityKeys}. Only called if
+   * that method returns true.
+   */
+  @Nullable Object expectedKey(E expected) {
+    return expected;
+  }
+
   /**
    * Returns a list of {@link Fact} instance describing how this correspondence compares elements of
    * an iterable. There will be one "testing whether" fact, unless this {@link #isEquality is an
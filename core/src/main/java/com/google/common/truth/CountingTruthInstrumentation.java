@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import static com.google.common.collect.Maps.immutableEntry;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.google.common.annotations.GwtIncompatible;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link TruthInstrumentation} that keeps running totals of each kind of event and can print a
+ * summary of them.
+ *
+ * <p>Counters are striped, so recording an event from many test threads at once doesn't contend on
+ * a single memory location. To enable it for a whole run without code changes, set the system
+ * property {@code com.google.common.truth.instrumentation_summary} to {@code true}; the summary is
+ * then printed to {@code System.err} when the JVM exits.
+ *
+ * @since 1.5.0
+ */
+@GwtIncompatible
+@J2ktIncompatible
+public final class CountingTruthInstrumentation extends TruthInstrumentation {
+  /** Returns a new instance with all counts at zero. It is not installed automatically. */
+  public static CountingTruthInstrumentation create() {
+    return new CountingTruthInstrumentation();
+  }
+
+  private final ConcurrentHashMap<Class<?>, LongAdder> subjectsByClass = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<Class<?>, LongAdder> failuresByClass = new ConcurrentHashMap<>();
+  private final LongAdder assertionsStarted = new LongAdder();
+  private final Counter failures = new Counter();
+  private final Counter formatting = new Counter();
+  private final Counter stackCleaning = new Counter();
+  private final LongAdder framesRemoved = new LongAdder();
+  private final Counter inference = new Counter();
+  private final LongAdder inferenceHits = new LongAdder();
+  private final Counter diffs = new Counter();
+  private final LongAdder patternLookups = new LongAdder();
+  private final LongAdder patternCacheHits = new LongAdder();
+
+  private CountingTruthInstrumentation() {}
+
+  /**
+   * Registers a shutdown hook that prints {@link #summary} to {@code System.err}, and returns this
+   * instance.
+   */
+  public CountingTruthInstrumentation printSummaryAtExit() {
+    Runtime.getRuntime()
+        .addShutdownHook(new Thread(() -> System.err.println(summary()), "Truth summary"));
+    return this;
+  }
+
+  @Override
+  public void subjectCreated(Class<?> subjectClass) {
+    increment(subjectsByClass, subjectClass);
+  }
+
+  @Override
+  public void assertionStarted(Class<?> subjectClass) {
+    assertionsStarted.increment();
+  }
+
+  @Override
+  public void assertionFailed(@Nullable Class<?> subjectClass, int factCount, long elapsedNanos) {
+    if (subjectClass != null) {
+      increment(failuresByClass, subjectClass);
+    }
+    failures.record(factCount, elapsedNanos);
+  }
+
+  @Override
+  public void failureFormatted(int factCount, long elapsedNanos) {
+    formatting.record(factCount, elapsedNanos);
+  }
+
+  @Override
+  public void stackTraceCleaned(int originalFrames, int cleanedFrames, long elapsedNanos) {
+    stackCleaning.record(originalFrames, elapsedNanos);
+    framesRemoved.add(originalFrames - cleanedFrames);
+  }
+
+  @Override
+  public void descriptionInferred(boolean inferred, long elapsedNanos) {
+    inference.record(1, elapsedNanos);
+    if (inferred) {
+      inferenceHits.increment();
+    }
+  }
+
+  @Override
+  public void diffComputed(int expectedLines, int actualLines, long elapsedNanos) {
+    diffs.record((long) expectedLines + actualLines, elapsedNanos);
+  }
+
+  @Override
+  public void patternLookedUp(boolean cached) {
+    patternLookups.increment();
+    if (cached) {
+      patternCacheHits.increment();
+    }
+  }
+
+  /** Returns the number of subjects of the given class that have been created. */
+  public long subjectsCreated(Class<?> subjectClass) {
+    LongAdder count = subjectsByClass.get(subjectClass);
+    return count == null ? 0 : count.sum();
+  }
+
+  /** Returns the number of assertions that have been started, across all subject classes. */
+  public long assertionsStarted() {
+    return assertionsStarted.sum();
+  }
+
+  /**
+   * Returns the number of assertions that have been started and have not failed. An assertion that
+   * is still running counts as passed.
+   */
+  public long assertionsPassed() {
+    return max(0, assertionsStarted.sum() - total(failuresByClass));
+  }
+
+  /** Returns the number of assertions that have failed, across all subject classes. */
+  public long assertionsFailed() {
+    return failures.count.sum();
+  }
+
+  /** Returns the number of regex lookups that found the compiled pattern already cached. */
+  public long patternCacheHits() {
+    return patternCacheHits.sum();
+  }
+
+  /** Returns the number of regex lookups that had to compile the pattern. */
+  public long patternCacheMisses() {
+    return patternLookups.sum() - patternCacheHits.sum();
+  }
+
+  /** Returns a multi-line, human-readable summary of all the events recorded so far. */
+  public String summary() {
+    StringBuilder out = new StringBuilder("Truth instrumentation summary\n");
+    line(out, "subjects created", total(subjectsByClass));
+    line(out, "assertions started", assertionsStarted.sum());
+    line(out, "  passed", assertionsPassed());
+    line(out, "assertions failed", failures, "facts");
+    line(out, "failures formatted", formatting, "facts");
+    line(out, "stack traces cleaned", stackCleaning, "frames");
+    line(out, "  frames removed", framesRemoved.sum());
+    line(out, "descriptions inferred", inference, "attempts");
+    line(out, "  found", inferenceHits.sum());
+    line(out, "diffs computed", diffs, "lines");
+    line(out, "patterns looked up", patternLookups.sum());
+    line(out, "  found cached", patternCacheHits.sum());
+    appendTopClasses(out, "subjects created by class", subjectsByClass);
+    appendTopClasses(out, "failures by class", failuresByClass);
+    return out.toString();
+  }
+
+  private static final int TOP_CLASSES = 10;
+
+  private static void appendTopClasses(
+      StringBuilder out, String heading, ConcurrentHashMap<Class<?>, LongAdder> counts) {
+    if (counts.isEmpty()) {
+      return;
+    }
+    List<Map.Entry<Class<?>, Long>> entries = new ArrayList<>();
+    for (Map.Entry<Class<?>, LongAdder> entry : counts.entrySet()) {
+      entries.add(immutableEntry(entry.getKey(), entry.getValue().sum()));
+    }
+    entries.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+    out.append(heading).append(":\n");
+    for (Map.Entry<Class<?>, Long> entry : entries.subList(0, min(TOP_CLASSES, entries.size()))) {
+      line(out, "  " + entry.getKey().getName(), entry.getValue());
+    }
+  }
+
+  private static void line(StringBuilder out, String label, long count) {
+    out.append(String.format(Locale.ROOT, "%-30s %,12d%n", label, count));
+  }
+
+  private static void line(StringBuilder out, String label, Counter counter, String sizeUnit) {
+    long count = counter.count.sum();
+    out.append(
+        String.format(
+            Locale.ROOT,
+            "%-30s %,12d  %,10.3f ms  %,14d %s%n",
+            label,
+            count,
+            counter.nanos.sum() / (double) MILLISECONDS.toNanos(1),
+            counter.size.sum(),
+            sizeUnit));
+  }
+
+  private static long total(ConcurrentHashMap<Class<?>, LongAdder> counts) {
+    long total = 0;
+    for (LongAdder count : counts.values()) {
+      total += count.sum();
+    }
+    return total;
+  }
+
+  private static void increment(ConcurrentHashMap<Class<?>, LongAdder> counts, Class<?> key) {
+    LongAdder count = counts.get(key);
+    if (count == null) {
+      count = counts.computeIfAbsent(key, k -> new LongAdder());
+    }
+    count.increment();
+  }
+
+  /** An event count with the total time and total input size of those events. */
+  private static final class Counter {
+    final LongAdder count = new LongAdder();
+    final LongAdder nanos = new LongAdder();
+    final LongAdder size = new LongAdder();
+
+    void record(long inputSize, long elapsedNanos) {
+      count.increment();
+      nanos.add(elapsedNanos);
+      size.add(inputSize);
+    }
+  }
+}
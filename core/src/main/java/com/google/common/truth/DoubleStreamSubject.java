@@ -0,0 +1,548 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import static com.google.common.base.Suppliers.memoize;
+import static com.google.common.truth.Correspondence.tolerance;
+import static com.google.common.truth.Fact.fact;
+import static com.google.common.truth.Fact.simpleFact;
+import static com.google.common.truth.PrimitiveDoubleArraySubject.EXACT_EQUALITY_CORRESPONDENCE;
+import static com.google.common.truth.PrimitiveOrdering.checkInOrder;
+
+import com.google.common.base.Supplier;
+import com.google.common.primitives.Doubles;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.DoubleSummaryStatistics;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A subject for {@link DoubleStream} values.
+ *
+ * <p><b>Note:</b> When you perform an assertion based on the <i>contents</i> of the stream, or when
+ * <i>any</i> assertion <i>fails</i>, the wrapped stream will be drained immediately into a private
+ * {@code double[]} to provide more readable failure messages. This consumes the stream. Take care
+ * if you intend to leave the stream un-consumed or if the stream is <i>very</i> large or infinite.
+ *
+ * <p>The exact-value assertions on this class, such as {@link #contains} and {@link
+ * #containsExactly}, define element equality the same way that {@link Double#equals} does. As with
+ * {@link PrimitiveDoubleArraySubject}, they are <i>not</i> recommended when the code under test is
+ * doing any kind of arithmetic: use {@link #usingTolerance} with a suitable tolerance in that case.
+ *
+ * <p>For very large or infinite streams, you may want to first {@linkplain Stream#limit limit} the
+ * stream before asserting on it.
+ *
+ * @since 1.5.0
+ */
+@IgnoreJRERequirement
+public final class DoubleStreamSubject extends Subject {
+  private final Supplier<double @Nullable []> arraySupplier;
+  private final Supplier<@Nullable DoubleSummaryStatistics> summarySupplier;
+
+  private DoubleStreamSubject(FailureMetadata metadata, @Nullable DoubleStream actual) {
+    super(metadata, actual);
+    // For discussion of when we collect(), see the Javadoc and also StreamSubject.
+    this.arraySupplier = memoize(arrayCollector(actual));
+    this.summarySupplier = memoize(() -> summarize(arraySupplier.get()));
+  }
+
+  @Override
+  protected String actualCustomStringRepresentation() {
+    double[] array;
+    try {
+      array = arraySupplier.get();
+    } catch (IllegalStateException e) {
+      return "Stream that has already been operated upon or closed: "
+          + actualForPackageMembersToCall();
+    }
+    return String.valueOf(asListOrNull(array));
+  }
+
+  /** Checks that the actual stream is empty. */
+  public void isEmpty() {
+    double[] actual = arraySupplier.get();
+    if (actual == null) {
+      checkThatContentsList().isEmpty(); // fails
+    } else if (actual.length > 0) {
+      failWithActual(simpleFact("expected to be empty"));
+    }
+  }
+
+  /** Checks that the actual stream is not empty. */
+  public void isNotEmpty() {
+    double[] actual = arraySupplier.get();
+    if (actual == null) {
+      checkThatContentsList().isNotEmpty(); // fails
+    } else if (actual.length == 0) {
+      failWithoutActual(simpleFact("expected not to be empty"));
+    }
+  }
+
+  /**
+   * Checks that the actual stream has the given size.
+   *
+   * <p>If you'd like to check that your stream contains more than {@link Integer#MAX_VALUE}
+   * elements, use {@code assertThat(stream.count()).isEqualTo(...)}.
+   */
+  public void hasSize(int size) {
+    double[] actual = arraySupplier.get();
+    if (actual == null || size < 0) {
+      checkThatContentsList().hasSize(size); // fails
+    } else {
+      check("size()").that(actual.length).isEqualTo(size);
+    }
+  }
+
+  /** Checks that the actual stream contains the given element. */
+  public void contains(double element) {
+    double[] actual = arraySupplier.get();
+    if (actual == null) {
+      checkThatContentsList().contains(element); // fails
+    } else if (indexOf(actual, element) < 0) {
+      failWithActual("expected to contain", element);
+    }
+  }
+
+  /** Checks that the actual stream does not contain the given element. */
+  public void doesNotContain(double element) {
+    double[] actual = arraySupplier.get();
+    if (actual == null) {
+      checkThatContentsList().doesNotContain(element); // fails
+    } else if (indexOf(actual, element) >= 0) {
+      failWithActual("expected not to contain", element);
+    }
+  }
+
+  /** Checks that the actual stream does not contain duplicate elements. */
+  public void containsNoDuplicates() {
+    double[] actual = arraySupplier.get();
+    if (actual == null || hasDuplicates(sortedCopy(actual))) {
+      checkThatContentsList().containsNoDuplicates(); // fails
+    }
+  }
+
+  /** Checks that the actual stream contains at least one of the given elements. */
+  public void containsAnyOf(double first, double second, double... rest) {
+    double[] actual = arraySupplier.get();
+    double[] sortedExpected = sortedCopy(Doubles.concat(new double[] {first, second}, rest));
+    if (actual != null) {
+      for (double element : actual) {
+        if (Arrays.binarySearch(sortedExpected, element) >= 0) {
+          return;
+        }
+      }
+    }
+    checkThatContentsList().containsAnyOf(first, second, box(rest)); // fails
+  }
+
+  /** Checks that the actual stream contains at least one of the given elements. */
+  public void containsAnyIn(@Nullable Iterable<?> expected) {
+    checkThatContentsList().containsAnyIn(expected);
+  }
+
+  /**
+   * Checks that the actual stream contains all of the given elements. If an element appears more
+   * than once in the given elements, then it must appear at least that number of times in the
+   * actual elements.
+   *
+   * <p>To also test that the contents appear in the given order, make a call to {@code inOrder()}
+   * on the object returned by this method. The expected elements must appear in the given order
+   * within the actual elements, but they are not required to be consecutive.
+   */
+  @CanIgnoreReturnValue
+  public Ordered containsAtLeast(double first, double second, double... rest) {
+    double[] actual = arraySupplier.get();
+    double[] expected = Doubles.concat(new double[] {first, second}, rest);
+    if (actual == null || !containsAllCopies(sortedCopy(actual), sortedCopy(expected))) {
+      return checkThatContentsList().containsAtLeast(first, second, box(rest)); // fails
+    }
+    if (isSubsequence(expected, actual)) {
+      return IN_ORDER;
+    }
+    return () -> checkThatContentsList().containsAtLeast(first, second, box(rest)).inOrder();
+  }
+
+  /**
+   * Checks that the actual stream contains all of the given elements. If an element appears more
+   * than once in the given elements, then it must appear at least that number of times in the
+   * actual elements.
+   *
+   * <p>To also test that the contents appear in the given order, make a call to {@code inOrder()}
+   * on the object returned by this method. The expected elements must appear in the given order
+   * within the actual elements, but they are not required to be consecutive.
+   */
+  @CanIgnoreReturnValue
+  public Ordered containsAtLeastElementsIn(@Nullable Iterable<?> expected) {
+    return checkThatContentsList().containsAtLeastElementsIn(expected);
+  }
+
+  /**
+   * Checks that the actual stream contains exactly the given elements.
+   *
+   * <p>Multiplicity is respected. For example, an object duplicated exactly 3 times in the
+   * parameters asserts that the object must likewise be duplicated exactly 3 times in the actual
+   * stream.
+   *
+   * <p>To also test that the contents appear in the given order, make a call to {@code inOrder()}
+   * on the object returned by this method.
+   */
+  @CanIgnoreReturnValue
+  public Ordered containsExactly(double @Nullable ... expected) {
+    if (expected == null) {
+      failWithoutActual(
+          simpleFact("could not perform containment check because expected array was null"),
+          actualValue("actual contents"));
+      return ALREADY_FAILED;
+    }
+    double[] actual = arraySupplier.get();
+    if (actual != null && Arrays.equals(actual, expected)) {
+      return IN_ORDER;
+    } else if (actual == null || !Arrays.equals(sortedCopy(actual), sortedCopy(expected))) {
+      return checkThatContentsList().containsExactlyElementsIn(Doubles.asList(expected)); // fails
+    }
+    return () ->
+        checkThatContentsList().containsExactlyElementsIn(Doubles.asList(expected)).inOrder();
+  }
+
+  /**
+   * Checks that the actual stream contains exactly the given elements.
+   *
+   * <p>Multiplicity is respected. For example, an object duplicated exactly 3 times in the
+   * parameters asserts that the object must likewise be duplicated exactly 3 times in the actual
+   * stream.
+   *
+   * <p>To also test that the contents appear in the given order, make a call to {@code inOrder()}
+   * on the object returned by this method.
+   */
+  @CanIgnoreReturnValue
+  public Ordered containsExactlyElementsIn(@Nullable Iterable<?> expected) {
+    return checkThatContentsList().containsExactlyElementsIn(expected);
+  }
+
+  /** Checks that the actual stream does not contain any of the given elements. */
+  public void containsNoneOf(double first, double second, double... rest) {
+    double[] actual = arraySupplier.get();
+    double[] sortedExcluded = sortedCopy(Doubles.concat(new double[] {first, second}, rest));
+    if (actual != null) {
+      boolean anyFound = false;
+      for (double element : actual) {
+        if (Arrays.binarySearch(sortedExcluded, element) >= 0) {
+          anyFound = true;
+          break;
+        }
+      }
+      if (!anyFound) {
+        return;
+      }
+    }
+    checkThatContentsList().containsNoneOf(first, second, box(rest)); // fails
+  }
+
+  /** Checks that the actual stream does not contain any of the given elements. */
+  public void containsNoneIn(@Nullable Iterable<?> excluded) {
+    checkThatContentsList().containsNoneIn(excluded);
+  }
+
+  /**
+   * Checks that the actual stream is strictly ordered, according to the natural ordering of its
+   * elements. Strictly ordered means that each element in the stream is <i>strictly</i> greater
+   * than the element that preceded it.
+   *
+   * <p>The natural ordering is that of {@link Double#compare}, so {@code -0.0} is less than {@code
+   * 0.0}, and {@link Double#NaN} is greater than every other value.
+   */
+  public void isInStrictOrder() {
+    checkInOrder(this, "a stream", arraySupplier.get(), /* strict= */ true);
+  }
+
+  /**
+   * Checks that the actual stream is strictly ordered, according to the given comparator. Strictly
+   * ordered means that each element in the stream is <i>strictly</i> greater than the element that
+   * preceded it.
+   */
+  public void isInStrictOrder(Comparator<? super Double> comparator) {
+    checkInOrder(
+        this, "a stream", asListOrNull(arraySupplier.get()), comparator, /* strict= */ true);
+  }
+
+  /**
+   * Checks that the actual stream is ordered, according to the natural ordering of its elements.
+   * Ordered means that each element in the stream is greater than or equal to the element that
+   * preceded it.
+   *
+   * <p>The natural ordering is that of {@link Double#compare}, so {@code -0.0} is less than {@code
+   * 0.0}, and {@link Double#NaN} is greater than every other value.
+   */
+  public void isInOrder() {
+    checkInOrder(this, "a stream", arraySupplier.get(), /* strict= */ false);
+  }
+
+  /**
+   * Checks that the actual stream is ordered, according to the given comparator. Ordered means that
+   * each element in the stream is greater than or equal to the element that preceded it.
+   */
+  public void isInOrder(Comparator<? super Double> comparator) {
+    checkInOrder(
+        this, "a stream", asListOrNull(arraySupplier.get()), comparator, /* strict= */ false);
+  }
+
+  /**
+   * Returns a subject for the smallest element of the actual stream, as computed by {@link
+   * DoubleStream#min}. Fails if the stream is empty.
+   *
+   * <p>The smallest and largest elements, the sum, and the average are computed together in a
+   * single pass over the elements of the stream, without boxing them, the first time any of them is
+   * requested.
+   */
+  public DoubleSubject min() {
+    return checkSummary("min()", DoubleSummaryStatistics::getMin, /* allowEmpty= */ false);
+  }
+
+  /**
+   * Returns a subject for the largest element of the actual stream, as computed by {@link
+   * DoubleStream#max}. Fails if the stream is empty.
+   */
+  public DoubleSubject max() {
+    return checkSummary("max()", DoubleSummaryStatistics::getMax, /* allowEmpty= */ false);
+  }
+
+  /**
+   * Returns a subject for the sum of the elements of the actual stream, as computed by {@link
+   * DoubleStream#sum}. The sum of an empty stream is {@code 0.0}.
+   *
+   * <p>Like {@link DoubleStream#sum}, the sum uses compensated summation, so it may differ slightly
+   * from adding the elements in order. Prefer {@link DoubleSubject#isWithin} to exact checks.
+   */
+  public DoubleSubject sum() {
+    return checkSummary("sum()", DoubleSummaryStatistics::getSum, /* allowEmpty= */ true);
+  }
+
+  /**
+   * Returns a subject for the arithmetic mean of the elements of the actual stream, as computed by
+   * {@link DoubleStream#average}. Fails if the stream is empty.
+   */
+  public DoubleSubject average() {
+    return checkSummary("average()", DoubleSummaryStatistics::getAverage, /* allowEmpty= */ false);
+  }
+
+  private DoubleSubject checkSummary(
+      String name, ToDoubleFunction<DoubleSummaryStatistics> statistic, boolean allowEmpty) {
+    DoubleSummaryStatistics summary = summarySupplier.get();
+    if (summary == null) {
+      failWithoutActual(simpleFact("cannot perform assertions on the contents of a null stream"));
+      return ignoreCheck().that(0.0);
+    } else if (summary.getCount() == 0 && !allowEmpty) {
+      failWithoutActual(simpleFact("expected not to be empty"), fact("for", name));
+      return ignoreCheck().that(0.0);
+    }
+    return check(name).that(statistic.applyAsDouble(summary));
+  }
+
+  /**
+   * Starts a method chain for a check in which the elements of the stream are compared to expected
+   * elements using a {@link Correspondence} which considers values to correspond if they are finite
+   * values within {@code tolerance} of each other. The check is actually executed by continuing
+   * the method chain. For example:
+   *
+   * <pre>{@code
+   * assertThat(actualDoubleStream).usingTolerance(1.0e-5).contains(3.14159);
+   * }</pre>
+   *
+   * <p>The correspondence behaves as described in {@link
+   * PrimitiveDoubleArraySubject#usingTolerance}.
+   *
+   * @param tolerance an inclusive upper bound on the difference between the double values of the
+   *     actual and expected numbers, which must be a non-negative finite value, i.e. not {@link
+   *     Double#NaN}, {@link Double#POSITIVE_INFINITY}, or negative, including {@code -0.0}
+   */
+  public DoubleStreamAsIterable usingTolerance(double tolerance) {
+    return usingCorrespondence(tolerance(tolerance));
+  }
+
+  /**
+   * Starts a method chain for a check in which the elements of the stream are compared to expected
+   * elements using a {@link Correspondence} which considers values to correspond if they are
+   * exactly equal, with equality defined by {@link Double#equals}. The check is actually executed
+   * by continuing the method chain. For example:
+   *
+   * <pre>{@code
+   * assertThat(actualDoubleStream).usingExactEquality().contains(3.14159);
+   * }</pre>
+   *
+   * <p>The correspondence, and the expected values that it accepts, are as described in {@link
+   * PrimitiveDoubleArraySubject#usingExactEquality}.
+   */
+  public DoubleStreamAsIterable usingExactEquality() {
+    return usingCorrespondence(EXACT_EQUALITY_CORRESPONDENCE);
+  }
+
+  private DoubleStreamAsIterable usingCorrespondence(
+      Correspondence<? super Double, Number> correspondence) {
+    double[] actual = arraySupplier.get();
+    if (actual == null) {
+      failWithoutActual(simpleFact("cannot perform assertions on the contents of a null stream"));
+      return new DoubleStreamAsIterable(
+          correspondence, ignoreCheck().that(Doubles.asList(new double[0])));
+    }
+    return new DoubleStreamAsIterable(
+        correspondence, substituteCheck().that(Doubles.asList(actual)));
+  }
+
+  /**
+   * A partially specified check for doing assertions on the stream similar to the assertions
+   * supported for {@link Iterable} values, in which the elements of the stream under test are
+   * compared to expected elements using either exact or tolerant double equality: see {@link
+   * #usingExactEquality} and {@link #usingTolerance}. Call methods on this object to actually
+   * execute the check.
+   *
+   * @since 1.5.0
+   */
+  public static final class DoubleStreamAsIterable
+      extends IterableSubject.UsingCorrespondence<Double, Number> {
+
+    private DoubleStreamAsIterable(
+        Correspondence<? super Double, Number> correspondence, IterableSubject subject) {
+      super(subject, correspondence);
+    }
+
+    /**
+     * As {@link #containsAtLeast(Object, Object, Object...)} but taking a primitive double array.
+     */
+    @CanIgnoreReturnValue
+    public Ordered containsAtLeast(double[] expected) {
+      return containsAtLeastElementsIn(Doubles.asList(expected));
+    }
+
+    /** As {@link #containsAnyOf(Object, Object, Object...)} but taking a primitive double array. */
+    public void containsAnyOf(double[] expected) {
+      containsAnyIn(Doubles.asList(expected));
+    }
+
+    /** As {@link #containsExactly(Object...)} but taking a primitive double array. */
+    @CanIgnoreReturnValue
+    public Ordered containsExactly(double[] expected) {
+      return containsExactlyElementsIn(Doubles.asList(expected));
+    }
+
+    /**
+     * As {@link #containsNoneOf(Object, Object, Object...)} but taking a primitive double array.
+     */
+    public void containsNoneOf(double[] excluded) {
+      containsNoneIn(Doubles.asList(excluded));
+    }
+  }
+
+  /** Be careful with using this, as documented on {@link Subject#substituteCheck}. */
+  private IterableSubject checkThatContentsList() {
+    return substituteCheck().that(asListOrNull(arraySupplier.get()));
+  }
+
+  private static Supplier<double @Nullable []> arrayCollector(@Nullable DoubleStream actual) {
+    return () -> actual == null ? null : actual.toArray();
+  }
+
+  private static @Nullable DoubleSummaryStatistics summarize(double @Nullable [] array) {
+    if (array == null) {
+      return null;
+    }
+    DoubleSummaryStatistics summary = new DoubleSummaryStatistics();
+    for (double element : array) {
+      summary.accept(element);
+    }
+    return summary;
+  }
+
+  private static @Nullable List<Double> asListOrNull(double @Nullable [] array) {
+    return array == null ? null : Doubles.asList(array);
+  }
+
+  private static Object[] box(double[] rest) {
+    return DoubleStream.of(rest).boxed().toArray(Double[]::new);
+  }
+
+  /**
+   * Returns a sorted copy of {@code values}. {@link Arrays#sort(double[])} orders values as {@link
+   * Double#compare} does, so values that {@link Double#equals} considers equal end up adjacent.
+   */
+  private static double[] sortedCopy(double[] values) {
+    double[] copy = Arrays.copyOf(values, values.length);
+    Arrays.sort(copy);
+    return copy;
+  }
+
+  /** Returns the index of the first element equal to {@code target}, or -1 if there is none. */
+  private static int indexOf(double[] array, double target) {
+    for (int i = 0; i < array.length; i++) {
+      if (Double.compare(array[i], target) == 0) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static boolean hasDuplicates(double[] sorted) {
+    for (int i = 1; i < sorted.length; i++) {
+      if (Double.compare(sorted[i - 1], sorted[i]) == 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Returns whether {@code sortedActual} contains every element of {@code sortedExpected}. */
+  private static boolean containsAllCopies(double[] sortedActual, double[] sortedExpected) {
+    int i = 0;
+    for (double e : sortedExpected) {
+      while (i < sortedActual.length && Double.compare(sortedActual[i], e) < 0) {
+        i++;
+      }
+      if (i == sortedActual.length || Double.compare(sortedActual[i], e) != 0) {
+        return false;
+      }
+      i++;
+    }
+    return true;
+  }
+
+  private static boolean isSubsequence(double[] expected, double[] actual) {
+    int i = 0;
+    for (double e : expected) {
+      while (i < actual.length && Double.compare(actual[i], e) != 0) {
+        i++;
+      }
+      if (i == actual.length) {
+        return false;
+      }
+      i++;
+    }
+    return true;
+  }
+
+  static Factory<DoubleStreamSubject, DoubleStream> doubleStreams() {
+    return DoubleStreamSubject::new;
+  }
+
+  /** Ordered implementation that does nothing because it's already known to be true. */
+  private static final Ordered IN_ORDER = () -> {};
+
+  /** Ordered implementation that does nothing because an earlier check already caused a failure. */
+  private static final Ordered ALREADY_FAILED = () -> {};
+}
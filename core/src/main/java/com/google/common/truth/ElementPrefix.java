@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The first {@link #LIMIT} elements that a lazy assertion read, and how many it read. Lazy
+ * assertions, like those of {@link StreamSubject#lazily} and {@link IterableSubject#lazily}, use
+ * this to describe what they saw without holding on to every element.
+ */
+final class ElementPrefix {
+  /** The maximum number of elements that a failure message shows. */
+  static final int LIMIT = 100;
+
+  private final List<@Nullable Object> elements = new ArrayList<>();
+  private long count;
+
+  void add(@Nullable Object element) {
+    if (elements.size() < LIMIT) {
+      elements.add(element);
+    }
+    count++;
+  }
+
+  /** Returns the number of elements read, including those beyond the limit. */
+  long count() {
+    return count;
+  }
+
+  /**
+   * Renders the elements read so far like a list, noting how many are omitted. If {@code exhausted}
+   * is false, meaning that the assertion stopped reading before the end, the list ends with "...".
+   * This doesn't ask the iterator whether it has more elements, since for some iterators, like a
+   * stream's, that reads another element.
+   */
+  String render(boolean exhausted) {
+    StringBuilder builder = new StringBuilder("[");
+    for (int i = 0; i < elements.size(); i++) {
+      builder.append(i == 0 ? "" : ", ").append(elements.get(i));
+    }
+    if (count > elements.size()) {
+      builder.append(", <").append(count - elements.size()).append(" more>");
+    }
+    if (!exhausted) {
+      builder.append(elements.isEmpty() ? "..." : ", ...");
+    }
+    return builder.append("]").toString();
+  }
+}
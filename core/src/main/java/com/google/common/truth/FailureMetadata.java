@@ -32,6 +32,7 @@ import static com.google.common.truth.SubjectUtils.concat;
 
 import com.google.common.base.Function;
 import com.google.common.collect.ImmutableList;
+import com.google.common.truth.TruthInstrumentation.Work;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -102,6 +103,14 @@ public final class FailureMetadata {
     return derive(messages, steps);
   }
 
+  /**
+   * Whether a subject created with this metadata starts a new assertion, as from {@code
+   * assertThat}, rather than continuing one, as from {@link Subject#check}.
+   */
+  boolean startsAssertion() {
+    return steps.isEmpty();
+  }
+
   FailureMetadata updateForCheckCall() {
     ImmutableList<Step> steps = append(this.steps, Step.checkCall(null, null));
     return derive(messages, steps);
@@ -138,22 +147,54 @@ public final class FailureMetadata {
   }
 
   void failEqualityCheck(ImmutableList<Fact> tailFacts, String expected, String actual) {
+    TruthInstrumentation instrumentation = TruthInstrumentation.installed();
+    long startNanos = instrumentation == null ? 0 : instrumentation.start(Work.FAILURE);
+    failEqualityCheck(tailFacts, expected, actual, instrumentation, startNanos);
+  }
+
+  /**
+   * Variant of {@link #failEqualityCheck(ImmutableList, String, String)} for a caller that started
+   * timing the failure itself, before it rendered {@code expected} and {@code actual}.
+   */
+  void failEqualityCheck(
+      ImmutableList<Fact> tailFacts,
+      String expected,
+      String actual,
+      @Nullable TruthInstrumentation instrumentation,
+      long startNanos) {
     doFail(
+        instrumentation,
         makeComparisonFailure(
             evaluateAll(messages),
             makeComparisonFailureFacts(
                 description(), concat(tailFacts, rootUnlessThrowable()), expected, actual),
             expected,
             actual,
-            rootCause()));
+            rootCause()),
+        tailFacts.size(),
+        startNanos);
   }
 
   void fail(ImmutableList<Fact> facts) {
+    TruthInstrumentation instrumentation = TruthInstrumentation.installed();
+    long startNanos = instrumentation == null ? 0 : instrumentation.start(Work.FAILURE);
+    fail(facts, instrumentation, startNanos);
+  }
+
+  /**
+   * Variant of {@link #fail(ImmutableList)} for a caller that started timing the failure itself,
+   * before it built {@code facts}.
+   */
+  void fail(
+      ImmutableList<Fact> facts, @Nullable TruthInstrumentation instrumentation, long startNanos) {
     doFail(
+        instrumentation,
         AssertionErrorWithFacts.create(
             evaluateAll(messages),
             concat(description(), facts, rootUnlessThrowable()),
-            rootCause()));
+            rootCause()),
+        facts.size(),
+        startNanos);
   }
 
   /**
@@ -161,7 +202,10 @@ public final class FailureMetadata {
    * cause or message of a null {@link Throwable}.
    */
   void failForNullThrowable(String message) {
+    TruthInstrumentation instrumentation = TruthInstrumentation.installed();
+    long startNanos = instrumentation == null ? 0 : instrumentation.start(Work.FAILURE);
     doFail(
+        instrumentation,
         AssertionErrorWithFacts.create(
             evaluateAll(messages),
             concat(
@@ -169,12 +213,41 @@ public final class FailureMetadata {
                 ImmutableList.of(simpleFact(message)),
                 description(/* factKey= */ "null Throwable was"),
                 rootUnlessThrowable()),
-            rootCause()));
+            rootCause()),
+        /* factCount= */ 1,
+        startNanos);
   }
 
-  private void doFail(AssertionError failure) {
-    cleanStackTrace(failure);
-    strategy.fail(failure);
+  // startNanos was read from the clock only if instrumentation, captured at the same time, is set.
+  private void doFail(
+      @Nullable TruthInstrumentation instrumentation,
+      AssertionError failure,
+      int factCount,
+      long startNanos) {
+    if (instrumentation == null) {
+      cleanStackTrace(failure);
+      strategy.fail(failure);
+      return;
+    }
+    instrumentation.failureFormatted(factCount, System.nanoTime() - startNanos);
+    try {
+      cleanStackTrace(failure);
+      strategy.fail(failure);
+    } finally {
+      instrumentation.assertionFailed(
+          subjectClass(), factCount, System.nanoTime() - startNanos);
+    }
+  }
+
+  /** Returns the class of the most recently created subject in the chain, if any. */
+  private @Nullable Class<?> subjectClass() {
+    for (int i = steps.size() - 1; i >= 0; i--) {
+      Subject subject = steps.get(i).subject;
+      if (subject != null) {
+        return subject.getClass();
+      }
+    }
+    return null;
   }
 
   private FailureMetadata derive(ImmutableList<LazyMessage> messages, ImmutableList<Step> steps) {
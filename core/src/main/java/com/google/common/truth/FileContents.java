@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.j2objc.annotations.J2ObjCIncompatible;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+
+/**
+ * Byte-level comparison of file contents that never loads a whole file into the heap.
+ *
+ * <p>Files are compared one memory-mapped chunk at a time, eight bytes per step, so comparing two
+ * large files costs little more than the I/O to page them in. Failure messages show only a small
+ * window of bytes around the first difference, which is read separately.
+ */
+@GwtIncompatible
+@J2ObjCIncompatible
+@J2ktIncompatible
+@IgnoreJRERequirement
+final class FileContents {
+  /** The number of bytes mapped at a time from each file. */
+  private static final int CHUNK_SIZE = 64 << 20;
+
+  /** Files up to this size are read into a heap buffer instead of mapped. */
+  private static final int MAX_READ_SIZE = 64 << 10;
+
+  private static final int BYTES_PER_ROW = 16;
+
+  /**
+   * Returns the offset of the first byte at which the files differ, or -1 if they have the same
+   * contents. If one file is a proper prefix of the other, the result is the size of the shorter
+   * file.
+   */
+  static long mismatch(Path actual, Path expected) throws IOException {
+    try (FileChannel a = FileChannel.open(actual, StandardOpenOption.READ);
+        FileChannel b = FileChannel.open(expected, StandardOpenOption.READ)) {
+      long actualSize = a.size();
+      long expectedSize = b.size();
+      long commonSize = min(actualSize, expectedSize);
+      for (long position = 0; position < commonSize; position += CHUNK_SIZE) {
+        int length = (int) min(CHUNK_SIZE, commonSize - position);
+        int mismatch = mismatch(chunk(a, position, length), chunk(b, position, length));
+        if (mismatch >= 0) {
+          return position + mismatch;
+        }
+      }
+      return actualSize == expectedSize ? -1 : commonSize;
+    }
+  }
+
+  /** Like {@link #mismatch(Path, Path)}, but compares the file with an array of bytes. */
+  static long mismatch(Path actual, byte[] expected) throws IOException {
+    try (FileChannel a = FileChannel.open(actual, StandardOpenOption.READ)) {
+      long actualSize = a.size();
+      long commonSize = min(actualSize, expected.length);
+      for (long position = 0; position < commonSize; position += CHUNK_SIZE) {
+        int length = (int) min(CHUNK_SIZE, commonSize - position);
+        int mismatch =
+            mismatch(chunk(a, position, length), ByteBuffer.wrap(expected, (int) position, length));
+        if (mismatch >= 0) {
+          return position + mismatch;
+        }
+      }
+      return actualSize == expected.length ? -1 : commonSize;
+    }
+  }
+
+  private static ByteBuffer chunk(FileChannel channel, long position, int length)
+      throws IOException {
+    if (length > MAX_READ_SIZE) {
+      return channel.map(MapMode.READ_ONLY, position, length);
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+    readFully(channel, buffer, position);
+    ((Buffer) buffer).flip(); // cast for Java 8, where flip() returns Buffer
+    return buffer;
+  }
+
+  /** Reads from {@code position} until {@code buffer} is full or the file ends. */
+  private static void readFully(FileChannel channel, ByteBuffer buffer, long position)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Returns the index, relative to their positions, of the first byte at which the buffers differ,
+   * or -1 if their remaining bytes are all equal. The buffers are expected to have the same number
+   * of remaining bytes; if they do not, the extra bytes of the longer one are ignored.
+   */
+  static int mismatch(ByteBuffer a, ByteBuffer b) {
+    int aStart = a.position();
+    int bStart = b.position();
+    int length = min(a.remaining(), b.remaining());
+    int i = 0;
+    // Byte order doesn't matter for an equality check, so use the buffers' own orders.
+    if (a.order() == b.order()) {
+      for (; i <= length - Long.BYTES; i += Long.BYTES) {
+        if (a.getLong(aStart + i) != b.getLong(bStart + i)) {
+          break;
+        }
+      }
+    }
+    for (; i < length; i++) {
+      if (a.get(aStart + i) != b.get(bStart + i)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns a hex dump of the bytes of {@code file} in the rows around {@code offset}: the row that
+   * contains it and up to one row on either side.
+   */
+  static String hexWindow(Path file, long offset) throws IOException {
+    long start = windowStart(offset);
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      int length = (int) max(0, min(3 * BYTES_PER_ROW, channel.size() - start));
+      ByteBuffer buffer = ByteBuffer.allocate(length);
+      readFully(channel, buffer, start);
+      return hexDump(buffer.array(), 0, buffer.position(), start);
+    }
+  }
+
+  /** Like {@link #hexWindow(Path, long)}, but for an array of bytes. */
+  static String hexWindow(byte[] bytes, long offset) {
+    return hexWindow(bytes, 0, bytes.length, 0, offset);
+  }
+
+  /**
+   * Like {@link #hexWindow(Path, long)}, but for a source of which only {@code bytes[from:to]} is
+   * available, starting at offset {@code fromOffset} of the source. Rows outside that range are
+   * left out of the window.
+   */
+  static String hexWindow(byte[] bytes, int from, int to, long fromOffset, long offset) {
+    long start = max(windowStart(offset), fromOffset);
+    long end = min(windowStart(offset) + 3 * BYTES_PER_ROW, fromOffset + to - from);
+    if (start >= end) {
+      return hexDump(bytes, 0, 0, start);
+    }
+    return hexDump(
+        bytes, from + (int) (start - fromOffset), from + (int) (end - fromOffset), start);
+  }
+
+  private static long windowStart(long offset) {
+    return max(0, offset / BYTES_PER_ROW * BYTES_PER_ROW - BYTES_PER_ROW);
+  }
+
+  /**
+   * Formats {@code bytes[from:to]}, which start at {@code firstOffset} in their source, as rows of
+   * an offset, sixteen hex bytes and their printable ASCII characters.
+   */
+  private static String hexDump(byte[] bytes, int from, int to, long firstOffset) {
+    if (from == to) {
+      return "(no bytes at this offset)";
+    }
+    StringBuilder builder = new StringBuilder();
+    for (int row = from; row < to; row += BYTES_PER_ROW) {
+      if (row > from) {
+        builder.append('\n');
+      }
+      builder.append(String.format(Locale.ROOT, "%08x ", firstOffset + row - from));
+      for (int i = row; i < row + BYTES_PER_ROW; i++) {
+        builder.append(i < to ? String.format(Locale.ROOT, " %02x", bytes[i]) : "   ");
+      }
+      builder.append("  |");
+      for (int i = row; i < min(row + BYTES_PER_ROW, to); i++) {
+        builder.append(bytes[i] >= 0x20 && bytes[i] < 0x7f ? (char) bytes[i] : '.');
+      }
+      builder.append('|');
+    }
+    return builder.toString();
+  }
+
+  private FileContents() {}
+}
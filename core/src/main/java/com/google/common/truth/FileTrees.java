@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static java.lang.Math.min;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.j2objc.annotations.J2ObjCIncompatible;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Comparison of the regular files in two directory trees, matched up by their paths relative to
+ * the roots of the trees.
+ *
+ * <p>Files are compared by size first. Only files of equal size have their contents compared,
+ * with {@link FileContents#mismatch(Path, Path)}, and those comparisons are submitted one task per
+ * file to a pool with one thread per available processor.
+ */
+@GwtIncompatible
+@J2ObjCIncompatible
+@J2ktIncompatible
+@IgnoreJRERequirement
+final class FileTrees {
+  /** The differences between an actual tree and an expected tree, each sorted by path. */
+  static final class Difference {
+    final List<String> missing = new ArrayList<>();
+    final List<String> unexpected = new ArrayList<>();
+    final List<String> differing = new ArrayList<>();
+
+    boolean isEmpty() {
+      return missing.isEmpty() && unexpected.isEmpty() && differing.isEmpty();
+    }
+  }
+
+  /**
+   * Compares the regular files under {@code actual} with those under {@code expected}. If {@code
+   * allowUnexpected} is true, files that exist only under {@code actual} are not reported.
+   */
+  static Difference compare(Path actual, Path expected, boolean allowUnexpected)
+      throws IOException {
+    SortedMap<String, Path> actualFiles = regularFiles(actual);
+    SortedMap<String, Path> expectedFiles = regularFiles(expected);
+    Difference difference = new Difference();
+    List<String> sameSize = new ArrayList<>();
+    for (Map.Entry<String, Path> entry : expectedFiles.entrySet()) {
+      Path actualFile = actualFiles.get(entry.getKey());
+      if (actualFile == null) {
+        difference.missing.add(entry.getKey());
+      } else if (Files.size(actualFile) != Files.size(entry.getValue())) {
+        difference.differing.add(entry.getKey());
+      } else {
+        sameSize.add(entry.getKey());
+      }
+    }
+    if (!allowUnexpected) {
+      for (String name : actualFiles.keySet()) {
+        if (!expectedFiles.containsKey(name)) {
+          difference.unexpected.add(name);
+        }
+      }
+    }
+    difference.differing.addAll(withDifferentContents(sameSize, actualFiles, expectedFiles));
+    difference.differing.sort(null);
+    return difference;
+  }
+
+  private static List<String> withDifferentContents(
+      List<String> names, Map<String, Path> actualFiles, Map<String, Path> expectedFiles)
+      throws IOException {
+    if (names.isEmpty()) {
+      return names;
+    }
+    int parallelism = min(names.size(), Runtime.getRuntime().availableProcessors());
+    ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+    try {
+      List<Future<Boolean>> differs = new ArrayList<>(names.size());
+      for (String name : names) {
+        Path actualFile = actualFiles.get(name);
+        Path expectedFile = expectedFiles.get(name);
+        differs.add(pool.submit(() -> FileContents.mismatch(actualFile, expectedFile) >= 0));
+      }
+      List<String> differing = new ArrayList<>();
+      for (int i = 0; i < names.size(); i++) {
+        if (differs.get(i).get()) {
+          differing.add(names.get(i));
+        }
+      }
+      return differing;
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throwIfUnchecked(e.getCause());
+      throw new IllegalStateException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("interrupted while comparing files", e);
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  /**
+   * Returns the regular files under {@code root}, keyed by their paths relative to {@code root},
+   * with {@code /} as the separator.
+   */
+  private static SortedMap<String, Path> regularFiles(Path root) throws IOException {
+    String separator = root.getFileSystem().getSeparator();
+    SortedMap<String, Path> files = new TreeMap<>();
+    try (Stream<Path> paths = Files.walk(root)) {
+      paths
+          .filter(Files::isRegularFile)
+          .forEach(
+              path -> files.put(root.relativize(path).toString().replace(separator, "/"), path));
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    return files;
+  }
+
+  private FileTrees() {}
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import static com.google.common.truth.StreamingByteComparison.source;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.j2objc.annotations.J2ObjCIncompatible;
+import java.io.InputStream;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A subject for the bytes of an {@link InputStream}.
+ *
+ * <p>The assertions read the stream incrementally through a fixed-size buffer, so streams of any
+ * length can be checked in constant memory. When the contents differ, the failure message shows the
+ * offset of the first difference and the bytes around it on both sides.
+ *
+ * <p>Each assertion reads the stream, which is not reset or closed afterward. Generally, make only
+ * one assertion per stream.
+ *
+ * <p>Use this subject with {@code assertAbout(inputStreams()).that(stream)}.
+ *
+ * @since 1.5.0
+ */
+@GwtIncompatible
+@J2ObjCIncompatible
+@J2ktIncompatible
+@IgnoreJRERequirement
+public final class InputStreamSubject extends StreamingByteSubject {
+  private InputStreamSubject(FailureMetadata metadata, @Nullable InputStream actual) {
+    super(metadata, actual, actual == null ? null : source(actual), "stream");
+  }
+
+  /** Returns a factory for assertions about the bytes of {@link InputStream}s. */
+  public static Factory<InputStreamSubject, InputStream> inputStreams() {
+    return InputStreamSubject::new;
+  }
+}
@@ -15,6 +15,7 @@
  */
 package com.google.common.truth;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Strings.lenientFormat;
 import static com.google.common.collect.Iterables.concat;
@@ -45,9 +46,12 @@ import static java.lang.System.identityHashCode;
 
 import com.google.common.base.Function;
 import com.google.common.collect.BiMap;
+import com.google.common.collect.HashMultiset;
 import com.google.common.collect.ImmutableBiMap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.ImmutableMultiset;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Iterators;
@@ -57,6 +61,7 @@ import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multiset;
 import com.google.common.collect.Ordering;
 import com.google.common.collect.Sets;
+import com.google.common.collect.SortedMultiset;
 import com.google.common.truth.Correspondence.DiffFormatter;
 import com.google.common.truth.SubjectUtils.DuplicateGroupedAndTyped;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
@@ -64,12 +69,14 @@ import com.google.errorprone.annotations.DoNotCall;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.SortedSet;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -316,6 +323,10 @@ public class IterableSubject extends Subject {
           actualContents());
       return ALREADY_FAILED;
     }
+    if (actual != null
+        && SortedMergeJoin.setsMatchInOrder(actual, expected, /* allowUnexpected= */ true)) {
+      return IN_ORDER;
+    }
     return containsAtLeastElementsInImpl(iterableToCollection(expected));
   }
 
@@ -506,6 +517,13 @@ public class IterableSubject extends Subject {
       failWithActual("expected an iterable that contains exactly", expected);
       return ALREADY_FAILED;
     }
+    if (SortedMergeJoin.setsMatchInOrder(actual, expected, /* allowUnexpected= */ false)) {
+      return IN_ORDER;
+    }
+    Ordered hashResult = containsExactlyForHashCollections(actual, expected, addElementsInWarning);
+    if (hashResult != null) {
+      return hashResult;
+    }
     Iterator<?> actualIter = actual.iterator();
     Iterator<?> expectedIter = expected.iterator();
 
@@ -608,6 +626,94 @@ public class IterableSubject extends Subject {
     return IN_ORDER;
   }
 
+  /**
+   * Implements {@link #containsExactlyElementsIn} for two sets, or two multisets, whose equality is
+   * based on {@link Object#hashCode} and {@link Object#equals}. Such collections can be compared by
+   * membership (or, for multisets, by the count of each distinct element) in time proportional to
+   * the number of distinct elements. Returns null for other inputs, and also when {@code expected}
+   * is empty or each collection has at most one element, since the general implementation reports
+   * those cases specially.
+   */
+  private @Nullable Ordered containsExactlyForHashCollections(
+      Iterable<?> actual, Iterable<?> expected, boolean addElementsInWarning) {
+    if (!hasHashEquality(actual) || !hasHashEquality(expected) || Iterables.isEmpty(expected)) {
+      return null;
+    }
+    if (actual instanceof Multiset && expected instanceof Multiset) {
+      Multiset<?> actualMultiset = (Multiset<?>) actual;
+      Multiset<?> expectedMultiset = (Multiset<?>) expected;
+      if (actualMultiset.size() <= 1 && expectedMultiset.size() <= 1) {
+        return null;
+      } else if (actualMultiset.equals(expectedMultiset)) {
+        // Multisets iterate over all copies of each element together, in entry order.
+        return Iterables.elementsEqual(actualMultiset.entrySet(), expectedMultiset.entrySet())
+            ? IN_ORDER
+            : orderWasWrong(expected);
+      }
+      return failExactly(
+          expected,
+          addElementsInWarning,
+          surplus(expectedMultiset, actualMultiset),
+          surplus(actualMultiset, expectedMultiset));
+    } else if (actual instanceof Set && expected instanceof Set) {
+      Set<?> actualSet = (Set<?>) actual;
+      Set<?> expectedSet = (Set<?>) expected;
+      if (actualSet.size() <= 1 && expectedSet.size() <= 1) {
+        return null;
+      } else if (actualSet.size() == expectedSet.size() && actualSet.containsAll(expectedSet)) {
+        return Iterables.elementsEqual(actualSet, expectedSet) ? IN_ORDER : orderWasWrong(expected);
+      }
+      return failExactly(
+          expected,
+          addElementsInWarning,
+          difference(expectedSet, actualSet),
+          difference(actualSet, expectedSet));
+    }
+    return null;
+  }
+
+  /** Returns an {@link Ordered} whose {@code inOrder()} fails because the order was wrong. */
+  private Ordered orderWasWrong(Iterable<?> expected) {
+    return () ->
+        failWithActual(
+            simpleFact("contents match, but order was wrong"), fact("expected", expected));
+  }
+
+  /**
+   * Returns whether {@code iterable} is a set or multiset of a type known to define membership by
+   * {@link Object#hashCode} and {@link Object#equals} (and not, for example, by a comparator).
+   */
+  private static boolean hasHashEquality(Iterable<?> iterable) {
+    return iterable instanceof HashSet // including LinkedHashSet
+        || (iterable instanceof ImmutableSet && !(iterable instanceof SortedSet))
+        || iterable instanceof HashMultiset
+        || iterable instanceof LinkedHashMultiset
+        || (iterable instanceof ImmutableMultiset && !(iterable instanceof SortedMultiset));
+  }
+
+  /** Returns the copies of each element of {@code first} that {@code second} lacks. */
+  private static Multiset<?> surplus(Multiset<?> first, Multiset<?> second) {
+    Multiset<@Nullable Object> surplus = LinkedHashMultiset.create();
+    for (Multiset.Entry<?> entry : first.entrySet()) {
+      int count = entry.getCount() - second.count(entry.getElement());
+      if (count > 0) {
+        surplus.add(entry.getElement(), count);
+      }
+    }
+    return surplus;
+  }
+
+  /** Returns the elements of {@code first} that are not in {@code second}, in iteration order. */
+  private static List<?> difference(Set<?> first, Set<?> second) {
+    List<@Nullable Object> difference = new ArrayList<>();
+    for (Object element : first) {
+      if (!second.contains(element)) {
+        difference.add(element);
+      }
+    }
+    return difference;
+  }
+
   private Ordered failExactly(
       Iterable<?> expected,
       boolean addElementsInWarning,
@@ -630,7 +736,7 @@ public class IterableSubject extends Subject {
     return ALREADY_FAILED;
   }
 
-  private static ImmutableList<Fact> makeElementFactsForBoth(
+  static ImmutableList<Fact> makeElementFactsForBoth(
       String firstKey,
       Collection<?> firstCollection,
       String secondKey,
@@ -973,6 +1079,209 @@ public class IterableSubject extends Subject {
     }
   }
 
+  /**
+   * Returns an object for making assertions that iterate over the actual iterable only once, and
+   * only as far as they need. For example, {@code assertThat(iterable).lazily().contains(x)} stops
+   * iterating as soon as it finds {@code x}. This suits iterables whose iteration is expensive,
+   * like those that load their elements page by page.
+   *
+   * <p>Unlike the other assertions on this class, these assertions do not copy the iterable's
+   * contents: a failure message shows only a bounded prefix of the elements that the assertion
+   * read, ending with "..." if the assertion stopped before the end of the iterable.
+   *
+   * @since 1.5.0
+   */
+  public final LazyContents lazily() {
+    return new LazyContents(this, actual, "iterable");
+  }
+
+  /**
+   * Assertions about the contents of an iterable or stream that make a single pass over it and
+   * stop as soon as the outcome is known. See {@link IterableSubject#lazily} and {@link
+   * StreamSubject#lazily}.
+   *
+   * @since 1.5.0
+   */
+  public static final class LazyContents {
+    private final Subject subject;
+    private final @Nullable Iterable<?> actual;
+    private final String kind;
+
+    /**
+     * @param subject the subject to report failures through
+     * @param actual the actual contents, which each assertion iterates over once
+     * @param kind what the actual value is, like "iterable" or "stream"
+     */
+    LazyContents(Subject subject, @Nullable Iterable<?> actual, String kind) {
+      this.subject = subject;
+      this.actual = actual;
+      this.kind = kind;
+    }
+
+    /** Checks that the actual contents are empty. Reads at most one element. */
+    public void isEmpty() {
+      Iterator<?> iterator = iterator();
+      if (iterator != null && iterator.hasNext()) {
+        ElementPrefix prefix = new ElementPrefix();
+        prefix.add(iterator.next());
+        subject.failWithoutActual(
+            simpleFact("expected to be empty"),
+            fact("but was", prefix.render(/* exhausted= */ false)));
+      }
+    }
+
+    /** Checks that the actual contents are not empty. Reads at most one element. */
+    public void isNotEmpty() {
+      Iterator<?> iterator = iterator();
+      if (iterator != null && !iterator.hasNext()) {
+        subject.failWithoutActual(simpleFact("expected not to be empty"));
+      }
+    }
+
+    /**
+     * Checks that the actual contents have the given size. Reads at most {@code size + 1} elements,
+     * so an infinite stream fails rather than hanging.
+     */
+    public void hasSize(int size) {
+      checkArgument(size >= 0, "size (%s) must be >= 0", size);
+      Iterator<?> iterator = iterator();
+      if (iterator == null) {
+        return;
+      }
+      ElementPrefix prefix = new ElementPrefix();
+      while (prefix.count() <= size && iterator.hasNext()) {
+        prefix.add(iterator.next());
+      }
+      if (prefix.count() > size) {
+        subject.failWithoutActual(
+            fact("expected size", size),
+            fact("but had at least", prefix.count()),
+            fact("contents", prefix.render(/* exhausted= */ false)));
+      } else if (prefix.count() < size) {
+        subject.failWithoutActual(
+            fact("expected size", size),
+            fact("but had", prefix.count()),
+            fact("contents", prefix.render(/* exhausted= */ true)));
+      }
+    }
+
+    /** Checks that the actual contents contain the given element. Stops once it is found. */
+    public void contains(@Nullable Object element) {
+      Iterator<?> iterator = iterator();
+      if (iterator == null) {
+        return;
+      }
+      ElementPrefix prefix = new ElementPrefix();
+      while (iterator.hasNext()) {
+        Object next = iterator.next();
+        if (Objects.equals(next, element)) {
+          return;
+        }
+        prefix.add(next);
+      }
+      subject.failWithoutActual(
+          fact("expected to contain", element),
+          fact("but was", prefix.render(/* exhausted= */ true)));
+    }
+
+    /**
+     * Checks that the actual contents contain at least one of the given elements. Stops once one is
+     * found.
+     */
+    public void containsAnyOf(
+        @Nullable Object first, @Nullable Object second, @Nullable Object... rest) {
+      containsAnyIn(accumulate(first, second, rest));
+    }
+
+    /**
+     * Checks that the actual contents contain at least one of the given elements. Stops once one is
+     * found.
+     */
+    public void containsAnyIn(Iterable<?> expected) {
+      Iterator<?> iterator = iterator();
+      if (iterator == null) {
+        return;
+      }
+      Collection<?> expectedCollection = iterableToCollection(expected);
+      ElementPrefix prefix = new ElementPrefix();
+      while (iterator.hasNext()) {
+        Object next = iterator.next();
+        if (expectedCollection.contains(next)) {
+          return;
+        }
+        prefix.add(next);
+      }
+      subject.failWithoutActual(
+          fact("expected to contain any of", expected),
+          fact("but was", prefix.render(/* exhausted= */ true)));
+    }
+
+    /** Checks that the actual contents do not contain the given element. Stops if it is found. */
+    public void doesNotContain(@Nullable Object element) {
+      Iterator<?> iterator = iterator();
+      if (iterator == null) {
+        return;
+      }
+      ElementPrefix prefix = new ElementPrefix();
+      while (iterator.hasNext()) {
+        Object next = iterator.next();
+        prefix.add(next);
+        if (Objects.equals(next, element)) {
+          subject.failWithoutActual(
+              fact("expected not to contain", element),
+              fact("but was", prefix.render(/* exhausted= */ false)));
+          return;
+        }
+      }
+    }
+
+    /**
+     * Checks that the actual contents do not contain any of the given elements. Stops once one is
+     * found.
+     */
+    public void containsNoneOf(
+        @Nullable Object first, @Nullable Object second, @Nullable Object... rest) {
+      containsNoneIn(accumulate(first, second, rest));
+    }
+
+    /**
+     * Checks that the actual contents do not contain any of the given elements. Stops once one is
+     * found.
+     */
+    public void containsNoneIn(Iterable<?> excluded) {
+      Iterator<?> iterator = iterator();
+      if (iterator == null) {
+        return;
+      }
+      Collection<?> excludedCollection = iterableToCollection(excluded);
+      ElementPrefix prefix = new ElementPrefix();
+      while (iterator.hasNext()) {
+        Object next = iterator.next();
+        prefix.add(next);
+        if (excludedCollection.contains(next)) {
+          subject.failWithoutActual(
+              fact("expected not to contain any of", excluded),
+              fact("but contained", next),
+              fact("contents", prefix.render(/* exhausted= */ false)));
+          return;
+        }
+      }
+    }
+
+    /**
+     * Returns an iterator over the actual contents, or reports a failure and returns null if they
+     * are null.
+     */
+    private @Nullable Iterator<?> iterator() {
+      if (actual == null) {
+        subject.failWithoutActual(
+            simpleFact("cannot perform assertions on the contents of a null " + kind));
+        return null;
+      }
+      return actual.iterator();
+    }
+  }
+
   /**
    * Starts a method chain for a check in which the actual elements (i.e. the elements of the {@link
    * Iterable} under test) are compared to expected elements using the given {@link Correspondence}.
@@ -17,13 +17,16 @@ package com.google.common.truth;
 
 import static com.google.common.base.Suppliers.memoize;
 import static com.google.common.truth.Fact.simpleFact;
-import static java.util.stream.Collectors.toCollection;
+import static com.google.common.truth.PrimitiveArrayContainment.elements;
+import static com.google.common.truth.PrimitiveOrdering.checkInOrder;
 
 import com.google.common.base.Supplier;
+import com.google.common.primitives.Longs;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.LongBinaryOperator;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 import org.jspecify.annotations.Nullable;
@@ -53,24 +56,29 @@ import org.jspecify.annotations.Nullable;
  */
 @IgnoreJRERequirement
 public final class LongStreamSubject extends Subject {
-  private final Supplier<@Nullable List<?>> listSupplier;
+  /**
+   * The collected contents, kept as a {@code long[]} so that the assertions compare primitives and
+   * box only the elements that they report. The list view that some assertions still delegate to
+   * is a view of this array, not a copy.
+   */
+  private final Supplier<long @Nullable []> arraySupplier;
 
   private LongStreamSubject(FailureMetadata metadata, @Nullable LongStream actual) {
     super(metadata, actual);
     // For discussion of when we collect(), see the Javadoc and also StreamSubject.
-    this.listSupplier = memoize(listCollector(actual));
+    this.arraySupplier = memoize(arrayCollector(actual));
   }
 
   @Override
   protected String actualCustomStringRepresentation() {
-    List<?> asList;
+    long[] array;
     try {
-      asList = listSupplier.get();
+      array = arraySupplier.get();
     } catch (IllegalStateException e) {
       return "Stream that has already been operated upon or closed: "
           + actualForPackageMembersToCall();
     }
-    return String.valueOf(asList);
+    return String.valueOf(asListOrNull(array));
   }
 
   /**
@@ -90,12 +98,22 @@ public final class LongStreamSubject extends Subject {
 
   /** Checks that the actual stream is empty. */
   public void isEmpty() {
-    checkThatContentsList().isEmpty();
+    long[] actual = arraySupplier.get();
+    if (actual == null) {
+      checkThatContentsList().isEmpty(); // fails
+    } else if (actual.length > 0) {
+      failWithActual(simpleFact("expected to be empty"));
+    }
   }
 
   /** Checks that the actual stream is not empty. */
   public void isNotEmpty() {
-    checkThatContentsList().isNotEmpty();
+    long[] actual = arraySupplier.get();
+    if (actual == null) {
+      checkThatContentsList().isNotEmpty(); // fails
+    } else if (actual.length == 0) {
+      failWithoutActual(simpleFact("expected not to be empty"));
+    }
   }
 
   /**
@@ -105,27 +123,60 @@ public final class LongStreamSubject extends Subject {
    * elements, use {@code assertThat(stream.count()).isEqualTo(...)}.
    */
   public void hasSize(int size) {
-    checkThatContentsList().hasSize(size);
+    long[] actual = arraySupplier.get();
+    if (actual == null || size < 0) {
+      checkThatContentsList().hasSize(size); // fails
+    } else {
+      check("size()").that(actual.length).isEqualTo(size);
+    }
   }
 
   /** Checks that the actual stream contains the given element. */
   public void contains(long element) {
-    checkThatContentsList().contains(element);
+    long[] actual = arraySupplier.get();
+    if (actual == null) {
+      checkThatContentsList().contains(element); // fails
+    } else if (!Longs.contains(actual, element)) {
+      failWithActual("expected to contain", element);
+    }
   }
 
   /** Checks that the actual stream does not contain the given element. */
   public void doesNotContain(long element) {
-    checkThatContentsList().doesNotContain(element);
+    long[] actual = arraySupplier.get();
+    if (actual == null) {
+      checkThatContentsList().doesNotContain(element); // fails
+    } else if (Longs.contains(actual, element)) {
+      failWithActual("expected not to contain", element);
+    }
   }
 
   /** Checks that the actual stream does not contain duplicate elements. */
   public void containsNoDuplicates() {
-    checkThatContentsList().containsNoDuplicates();
+    long[] actual = arraySupplier.get();
+    if (actual == null) {
+      checkThatContentsList().containsNoDuplicates(); // fails
+    } else {
+      containment(actual).containsNoDuplicates();
+    }
   }
 
   /** Checks that the actual stream contains at least one of the given elements. */
   public void containsAnyOf(long first, long second, long... rest) {
-    checkThatContentsList().containsAnyOf(first, second, box(rest));
+    long[] actual = arraySupplier.get();
+    if (actual == null) {
+      checkThatContentsList().containsAnyOf(first, second, box(rest)); // fails
+      return;
+    }
+    long[] expected = Longs.concat(new long[] {first, second}, rest);
+    long[] sortedExpected = Arrays.copyOf(expected, expected.length);
+    Arrays.sort(sortedExpected);
+    for (long element : actual) {
+      if (Arrays.binarySearch(sortedExpected, element) >= 0) {
+        return;
+      }
+    }
+    failWithActual("expected to contain any of", Longs.asList(expected));
   }
 
   /** Checks that the actual stream contains at least one of the given elements. */
@@ -144,7 +195,12 @@ public final class LongStreamSubject extends Subject {
    */
   @CanIgnoreReturnValue
   public Ordered containsAtLeast(long first, long second, long... rest) {
-    return checkThatContentsList().containsAtLeast(first, second, box(rest));
+    long[] actual = arraySupplier.get();
+    if (actual == null) {
+      return checkThatContentsList().containsAtLeast(first, second, box(rest)); // fails
+    }
+    long[] expected = Longs.concat(new long[] {first, second}, rest);
+    return containment(actual).containsAtLeast(elements(expected));
   }
 
   /**
@@ -179,7 +235,12 @@ public final class LongStreamSubject extends Subject {
           actualContents());
       return ALREADY_FAILED;
     }
-    return checkThatContentsList().containsExactlyElementsIn(box(expected));
+    long[] actual = arraySupplier.get();
+    if (actual == null || expected.length == 0 || (actual.length == 1 && expected.length == 1)) {
+      // These cases fail (if at all) with messages that involve at most one element.
+      return checkThatContentsList().containsExactlyElementsIn(box(expected));
+    }
+    return containment(actual).containsExactly(elements(expected));
   }
 
   /**
@@ -199,7 +260,13 @@ public final class LongStreamSubject extends Subject {
 
   /** Checks that the actual stream does not contain any of the given elements. */
   public void containsNoneOf(long first, long second, long... rest) {
-    checkThatContentsList().containsNoneOf(first, second, box(rest));
+    long[] actual = arraySupplier.get();
+    if (actual == null) {
+      checkThatContentsList().containsNoneOf(first, second, box(rest)); // fails
+    } else {
+      long[] excluded = Longs.concat(new long[] {first, second}, rest);
+      containment(actual).containsNoneOf(elements(excluded));
+    }
   }
 
   /** Checks that the actual stream does not contain any of the given elements. */
@@ -211,54 +278,88 @@ public final class LongStreamSubject extends Subject {
    * Checks that the actual stream is strictly ordered, according to the natural ordering of its
    * elements. Strictly ordered means that each element in the stream is <i>strictly</i> greater
    * than the element that preceded it.
-   *
-   * @throws ClassCastException if any pair of elements is not mutually Comparable
-   * @throws NullPointerException if any element is null
    */
   public void isInStrictOrder() {
-    checkThatContentsList().isInStrictOrder();
+    checkInOrder(this, "a stream", elements(arraySupplier.get()), /* strict= */ true);
   }
 
   /**
    * Checks that the actual stream is strictly ordered, according to the given comparator. Strictly
    * ordered means that each element in the stream is <i>strictly</i> greater than the element that
    * preceded it.
-   *
-   * @throws ClassCastException if any pair of elements is not mutually Comparable
    */
   public void isInStrictOrder(Comparator<? super Long> comparator) {
-    checkThatContentsList().isInStrictOrder(comparator);
+    checkInOrder(
+        this, "a stream", asListOrNull(arraySupplier.get()), comparator, /* strict= */ true);
   }
 
   /**
    * Checks that the actual stream is ordered, according to the natural ordering of its elements.
    * Ordered means that each element in the stream is greater than or equal to the element that
    * preceded it.
-   *
-   * @throws ClassCastException if any pair of elements is not mutually Comparable
-   * @throws NullPointerException if any element is null
    */
   public void isInOrder() {
-    checkThatContentsList().isInOrder();
+    checkInOrder(this, "a stream", elements(arraySupplier.get()), /* strict= */ false);
   }
 
   /**
    * Checks that the actual stream is ordered, according to the given comparator. Ordered means that
    * each element in the stream is greater than or equal to the element that preceded it.
-   *
-   * @throws ClassCastException if any pair of elements is not mutually Comparable
    */
   public void isInOrder(Comparator<? super Long> comparator) {
-    checkThatContentsList().isInOrder(comparator);
+    checkInOrder(
+        this, "a stream", asListOrNull(arraySupplier.get()), comparator, /* strict= */ false);
+  }
+
+  /**
+   * Checks that the actual stream is strictly ordered, according to the given comparator, which
+   * compares the elements without boxing them. Strictly ordered means that each element in the
+   * stream is <i>strictly</i> greater than the element that preceded it.
+   *
+   * <p>The comparator returns a negative value, zero, or a positive value as its first argument is
+   * less than, equal to, or greater than its second. This method has its own name, rather than
+   * overloading {@link #isInStrictOrder(Comparator)}, so that lambda arguments stay unambiguous.
+   *
+   * @since 1.5.0
+   */
+  public void isInStrictOrderUsing(LongBinaryOperator comparator) {
+    checkInOrder(this, "a stream", elements(arraySupplier.get()), comparator, /* strict= */ true);
+  }
+
+  /**
+   * Checks that the actual stream is ordered, according to the given comparator, which compares the
+   * elements without boxing them. Ordered means that each element in the stream is greater than or
+   * equal to the element that preceded it.
+   *
+   * <p>The comparator returns a negative value, zero, or a positive value as its first argument is
+   * less than, equal to, or greater than its second. This method has its own name, rather than
+   * overloading {@link #isInOrder(Comparator)}, so that lambda arguments stay unambiguous.
+   *
+   * @since 1.5.0
+   */
+  public void isInOrderUsing(LongBinaryOperator comparator) {
+    checkInOrder(this, "a stream", elements(arraySupplier.get()), comparator, /* strict= */ false);
   }
 
   /** Be careful with using this, as documented on {@link Subject#substituteCheck}. */
   private IterableSubject checkThatContentsList() {
-    return substituteCheck().that(listSupplier.get());
+    return substituteCheck().that(asListOrNull(arraySupplier.get()));
+  }
+
+  /**
+   * Returns the containment checks for the collected contents, which must be non-null. Those checks
+   * box only the elements that they report in a failure message.
+   */
+  private PrimitiveArrayContainment containment(long[] actual) {
+    return new PrimitiveArrayContainment(this, elements(actual));
+  }
+
+  private static Supplier<long @Nullable []> arrayCollector(@Nullable LongStream actual) {
+    return () -> actual == null ? null : actual.toArray();
   }
 
-  private static Supplier<@Nullable List<?>> listCollector(@Nullable LongStream actual) {
-    return () -> actual == null ? null : actual.boxed().collect(toCollection(ArrayList::new));
+  private static @Nullable List<Long> asListOrNull(long @Nullable [] array) {
+    return array == null ? null : Longs.asList(array);
   }
 
   private static Object[] box(long[] rest) {
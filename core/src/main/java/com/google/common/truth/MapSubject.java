@@ -31,14 +31,17 @@ import static java.util.Collections.singletonList;
 
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.LinkedHashMultiset;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Multiset;
 import com.google.common.collect.Sets;
 import com.google.common.truth.Correspondence.DiffFormatter;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -46,6 +49,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.SortedMap;
 import org.jspecify.annotations.Nullable;
 
 /** A subject for {@link Map} values. */
@@ -285,6 +289,9 @@ public class MapSubject extends Subject {
     } else if (expected.isEmpty()) {
       return containsExactly();
     }
+    if (SortedMergeJoin.mapsMatchInOrder(actual, expected, /* allowUnexpected= */ false)) {
+      return IN_ORDER;
+    }
     return containsEntriesInAnyOrder(actual, expected, /* allowUnexpected= */ false)
         ? MapInOrder.create(
             this, actual, expected, /* allowUnexpected= */ false, /* correspondence= */ null)
@@ -305,6 +312,9 @@ public class MapSubject extends Subject {
     } else if (expected.isEmpty()) {
       return IN_ORDER;
     }
+    if (SortedMergeJoin.mapsMatchInOrder(actual, expected, /* allowUnexpected= */ true)) {
+      return IN_ORDER;
+    }
     return containsEntriesInAnyOrder(actual, expected, /* allowUnexpected= */ true)
         ? MapInOrder.create(
             this, actual, expected, /* allowUnexpected= */ true, /* correspondence= */ null)
@@ -353,53 +363,120 @@ public class MapSubject extends Subject {
   @SuppressWarnings("ImmutableMemberCollection") // null elements (b/173628387#comment8)
   private static final class MapDifference<
       K extends @Nullable Object, A extends @Nullable Object, E extends @Nullable Object> {
-    private final Map<K, E> missing;
-    private final Map<K, A> unexpected;
-    private final Map<K, ValueDifference<A, E>> wrongValues;
+    /**
+     * The maximum number of keys of each kind (wrong value, missing, unexpected) that a failure
+     * message lists individually. Past this, the diff only counts the keys, so a failure between
+     * two huge maps doesn't copy them.
+     */
+    private static final int MAX_REPORTED_KEYS_PER_KIND = 100;
+
+    private final Map<K, E> missing = new LinkedHashMap<>();
+    private final Map<K, A> unexpected = new LinkedHashMap<>();
+    private final Map<K, ValueDifference<A, E>> wrongValues = new LinkedHashMap<>();
+    private int missingCount;
+    private int unexpectedCount;
+    private int wrongValueCount;
     private final Set<K> allKeys;
 
+    /**
+     * Compares the maps. When both maps match keys by {@link Object#equals}, this does one lookup
+     * in {@code actual} per expected entry, and it scans the actual map for unexpected keys only if
+     * the sizes (or the lookups) already show a difference. Otherwise, keys are matched by {@code
+     * equals} against a copy of the actual map, so that a map with a looser notion of key equality
+     * (like a case-insensitive {@code TreeMap}) can't match one actual key to several expected
+     * keys.
+     */
     static <K extends @Nullable Object, A extends @Nullable Object, E extends @Nullable Object>
         MapDifference<K, A, E> create(
             Map<? extends K, ? extends A> actual,
             Map<? extends K, ? extends E> expected,
             boolean allowUnexpected,
             ValueTester<? super A, ? super E> valueTester) {
-      Map<K, A> unexpected = new LinkedHashMap<>(actual);
-      Map<K, E> missing = new LinkedHashMap<>();
-      Map<K, ValueDifference<A, E>> wrongValues = new LinkedHashMap<>();
+      MapDifference<K, A, E> diff =
+          new MapDifference<>(Sets.union(actual.keySet(), expected.keySet()));
+      if (hasHashEquality(actual) && hasHashEquality(expected)) {
+        // Each expected key matches a distinct actual key, so equal sizes rule out unexpected keys.
+        for (Map.Entry<? extends K, ? extends E> expectedEntry : expected.entrySet()) {
+          K expectedKey = expectedEntry.getKey();
+          E expectedValue = expectedEntry.getValue();
+          if (actual.containsKey(expectedKey)) {
+            @SuppressWarnings("UnnecessaryCast") // needed by nullness checker
+            A actualValue = (A) actual.get(expectedKey);
+            diff.testValue(expectedKey, actualValue, expectedValue, valueTester);
+          } else {
+            diff.addMissing(expectedKey, expectedValue);
+          }
+        }
+        if (!allowUnexpected && (!diff.isEmpty() || actual.size() != expected.size())) {
+          for (Map.Entry<? extends K, ? extends A> actualEntry : actual.entrySet()) {
+            if (!expected.containsKey(actualEntry.getKey())) {
+              diff.addUnexpected(actualEntry.getKey(), actualEntry.getValue());
+            }
+          }
+        }
+        return diff;
+      }
+
+      Map<K, A> unmatched = new LinkedHashMap<>(actual);
       for (Map.Entry<? extends K, ? extends E> expectedEntry : expected.entrySet()) {
         K expectedKey = expectedEntry.getKey();
         E expectedValue = expectedEntry.getValue();
         if (actual.containsKey(expectedKey)) {
           @SuppressWarnings("UnnecessaryCast") // needed by nullness checker
-          A actualValue = (A) unexpected.remove(expectedKey);
-          if (!valueTester.test(actualValue, expectedValue)) {
-            wrongValues.put(expectedKey, ValueDifference.create(actualValue, expectedValue));
-          }
+          A actualValue = (A) unmatched.remove(expectedKey);
+          diff.testValue(expectedKey, actualValue, expectedValue, valueTester);
         } else {
-          missing.put(expectedKey, expectedValue);
+          diff.addMissing(expectedKey, expectedValue);
         }
       }
-      if (allowUnexpected) {
-        unexpected.clear();
+      if (!allowUnexpected) {
+        for (Map.Entry<K, A> unmatchedEntry : unmatched.entrySet()) {
+          diff.addUnexpected(unmatchedEntry.getKey(), unmatchedEntry.getValue());
+        }
       }
-      return new MapDifference<>(
-          missing, unexpected, wrongValues, Sets.union(actual.keySet(), expected.keySet()));
-    }
-
-    private MapDifference(
-        Map<K, E> missing,
-        Map<K, A> unexpected,
-        Map<K, ValueDifference<A, E>> wrongValues,
-        Set<K> allKeys) {
-      this.missing = missing;
-      this.unexpected = unexpected;
-      this.wrongValues = wrongValues;
+      return diff;
+    }
+
+    /**
+     * Returns whether {@code map} is of a type known to match keys by {@link Object#hashCode} and
+     * {@link Object#equals} (and not, for example, by a comparator).
+     */
+    private static boolean hasHashEquality(Map<?, ?> map) {
+      return map instanceof HashMap // including LinkedHashMap
+          || (map instanceof ImmutableMap && !(map instanceof SortedMap));
+    }
+
+    private void testValue(
+        K key, A actualValue, E expectedValue, ValueTester<? super A, ? super E> valueTester) {
+      if (!valueTester.test(actualValue, expectedValue)) {
+        addWrongValue(key, ValueDifference.create(actualValue, expectedValue));
+      }
+    }
+
+    private MapDifference(Set<K> allKeys) {
       this.allKeys = allKeys;
     }
 
+    private void addMissing(K key, E expectedValue) {
+      if (missingCount++ < MAX_REPORTED_KEYS_PER_KIND) {
+        missing.put(key, expectedValue);
+      }
+    }
+
+    private void addUnexpected(K key, A actualValue) {
+      if (unexpectedCount++ < MAX_REPORTED_KEYS_PER_KIND) {
+        unexpected.put(key, actualValue);
+      }
+    }
+
+    private void addWrongValue(K key, ValueDifference<A, E> difference) {
+      if (wrongValueCount++ < MAX_REPORTED_KEYS_PER_KIND) {
+        wrongValues.put(key, difference);
+      }
+    }
+
     boolean isEmpty() {
-      return missing.isEmpty() && unexpected.isEmpty() && wrongValues.isEmpty();
+      return missingCount == 0 && unexpectedCount == 0 && wrongValueCount == 0;
     }
 
     ImmutableList<Fact> describe(@Nullable Differ<? super A, ? super E> differ) {
@@ -412,6 +489,7 @@ public class MapSubject extends Subject {
         facts.add(fact("for key", maybeAddType(entry.getKey(), includeKeyTypes)));
         facts.addAll(entry.getValue().describe(differ));
       }
+      addOmittedCount(facts, wrongValueCount);
       if (!missing.isEmpty()) {
         facts.add(simpleFact("missing keys"));
       }
@@ -419,6 +497,7 @@ public class MapSubject extends Subject {
         facts.add(fact("for key", maybeAddType(entry.getKey(), includeKeyTypes)));
         facts.add(fact("expected value", entry.getValue()));
       }
+      addOmittedCount(facts, missingCount);
       if (!unexpected.isEmpty()) {
         facts.add(simpleFact("unexpected keys"));
       }
@@ -426,9 +505,16 @@ public class MapSubject extends Subject {
         facts.add(fact("for key", maybeAddType(entry.getKey(), includeKeyTypes)));
         facts.add(fact("unexpected value", entry.getValue()));
       }
+      addOmittedCount(facts, unexpectedCount);
       return facts.build();
     }
 
+    private static void addOmittedCount(ImmutableList.Builder<Fact> facts, int count) {
+      if (count > MAX_REPORTED_KEYS_PER_KIND) {
+        facts.add(fact("keys not shown", count - MAX_REPORTED_KEYS_PER_KIND));
+      }
+    }
+
     private boolean includeKeyTypes() {
       // We will annotate all the keys in the diff with their types if any of the keys involved have
       // the same toString() without being equal.
@@ -507,12 +593,12 @@ public class MapSubject extends Subject {
      */
     @Override
     public void inOrder() {
-      // We're using the fact that Sets.intersection keeps the order of the first set.
-      List<?> expectedKeyOrder =
-          new ArrayList<>(Sets.intersection(expectedMap.keySet(), actual.keySet()));
-      List<?> actualKeyOrder =
-          new ArrayList<>(Sets.intersection(actual.keySet(), expectedMap.keySet()));
-      if (!actualKeyOrder.equals(expectedKeyOrder)) {
+      // Compare the common keys in each map's iteration order, without copying either key set.
+      Iterator<?> actualKeyOrder =
+          Iterators.filter(actual.keySet().iterator(), expectedMap::containsKey);
+      Iterator<?> expectedKeyOrder =
+          Iterators.filter(expectedMap.keySet().iterator(), actual::containsKey);
+      if (!Iterators.elementsEqual(actualKeyOrder, expectedKeyOrder)) {
         ImmutableList.Builder<Fact> facts =
             factsBuilder()
                 .add(
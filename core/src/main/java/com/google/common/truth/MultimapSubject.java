@@ -31,19 +31,24 @@ import static java.util.Collections.emptyList;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.base.Joiner;
+import com.google.common.collect.HashMultiset;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.LinkedHashMultiset;
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.collect.Multiset;
 import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
@@ -611,12 +616,29 @@ public class MultimapSubject extends Subject {
     private final MultimapSubject subject;
     private final Correspondence<? super A, ? super E> correspondence;
     private final @Nullable Multimap<?, ?> actual;
+    private final boolean parallel;
 
     private UsingCorrespondence(
-        MultimapSubject subject, Correspondence<? super A, ? super E> correspondence) {
+        MultimapSubject subject,
+        Correspondence<? super A, ? super E> correspondence,
+        boolean parallel) {
       this.subject = subject;
       this.correspondence = checkNotNull(correspondence);
       this.actual = subject.actual;
+      this.parallel = parallel;
+    }
+
+    /**
+     * Returns a version of this check that compares the values for different keys in parallel
+     * when evaluating {@link #containsExactlyEntriesIn} and {@link #containsAtLeastEntriesIn}.
+     * Only use this if the correspondence can safely be called from multiple threads at once.
+     *
+     * <p>Under GWT, the values are still compared sequentially.
+     *
+     * @since 1.5.0
+     */
+    public UsingCorrespondence<A, E> comparingKeysInParallel() {
+      return new UsingCorrespondence<>(subject, correspondence, /* parallel= */ true);
     }
 
     /**
@@ -800,6 +822,21 @@ public class MultimapSubject extends Subject {
       // the case where inOrder() fails it says the keys and/or the values for some keys are out of
       // order. We don't bother with that here. It would be nice, but it would be a lot of added
       // complexity for little gain.
+      if (valuesCorrespondPerKey(actual, expected, /* allowUnexpected= */ false)) {
+        // The general algorithm is needed only to describe the failure if the order is wrong.
+        return () -> {
+          if (!entriesCorrespondInOrder(actual, expected, /* allowUnexpected= */ false)) {
+            subject
+                .substituteCheck()
+                .about(subject.iterableEntries())
+                .that(actual.entries())
+                .comparingElementsUsing(
+                    MultimapSubject.<K, A, V>entryCorrespondence(correspondence))
+                .containsExactlyElementsIn(expected.entries())
+                .inOrder(); // fails
+          }
+        };
+      }
       return subject
           .substituteCheck()
           .about(subject.iterableEntries())
@@ -844,6 +881,21 @@ public class MultimapSubject extends Subject {
       // the case where inOrder() fails it says the keys and/or the values for some keys are out of
       // order. We don't bother with that here. It would be nice, but it would be a lot of added
       // complexity for little gain.
+      if (valuesCorrespondPerKey(actual, expected, /* allowUnexpected= */ true)) {
+        // The general algorithm is needed only to describe the failure if the order is wrong.
+        return () -> {
+          if (!entriesCorrespondInOrder(actual, expected, /* allowUnexpected= */ true)) {
+            subject
+                .substituteCheck()
+                .about(subject.iterableEntries())
+                .that(actual.entries())
+                .comparingElementsUsing(
+                    MultimapSubject.<K, A, V>entryCorrespondence(correspondence))
+                .containsAtLeastElementsIn(expected.entries())
+                .inOrder(); // fails
+          }
+        };
+      }
       return subject
           .substituteCheck()
           .about(subject.iterableEntries())
@@ -884,6 +936,129 @@ public class MultimapSubject extends Subject {
       return containsAtLeastEntriesIn(expectedMultimap);
     }
 
+    /**
+     * Returns whether the check passes, deciding it one key at a time. Entries with different keys
+     * never correspond, so each key's values can be matched on their own, which keeps the cost
+     * quadratic only in the number of values per key rather than in the size of the multimap. For
+     * correspondences that {@linkplain Correspondence#hasEqualityKeys have equality keys}, such as
+     * those from {@link Correspondence#transforming}, values are matched by hash in linear time.
+     * Returns false whenever the check fails or a comparison throws, leaving it to the general
+     * algorithm to produce the failure message.
+     */
+    private boolean valuesCorrespondPerKey(
+        Multimap<?, ?> actual, Multimap<?, ? extends E> expected, boolean allowUnexpected) {
+      if (allowUnexpected ? actual.size() < expected.size() : actual.size() != expected.size()) {
+        return false;
+      }
+      // Copy the (usually much smaller) key index so that keys are compared with equals() even if
+      // the actual multimap is sorted by a comparator.
+      Map<@Nullable Object, Collection<A>> actualValuesByKey =
+          new HashMap<>(castActual(actual).asMap());
+      Map<?, ? extends Collection<? extends E>> expectedValuesByKey = expected.asMap();
+      if (!allowUnexpected && actualValuesByKey.size() != expectedValuesByKey.size()) {
+        return false;
+      }
+      return Platform.allMatch(
+          expectedValuesByKey.entrySet(),
+          entry -> {
+            Collection<A> actualValues = actualValuesByKey.get(entry.getKey());
+            return actualValues != null
+                && valuesCorrespond(actualValues, entry.getValue(), allowUnexpected);
+          },
+          parallel);
+    }
+
+    private boolean valuesCorrespond(
+        Collection<A> actualValues,
+        Collection<? extends E> expectedValues,
+        boolean allowUnexpected) {
+      int actualCount = actualValues.size();
+      int expectedCount = expectedValues.size();
+      if (allowUnexpected ? actualCount < expectedCount : actualCount != expectedCount) {
+        return false;
+      }
+      List<A> actualList = new ArrayList<>(actualValues);
+      List<? extends E> expectedList = new ArrayList<>(expectedValues);
+      try {
+        if (actualCount == expectedCount && correspondInOrder(actualList, expectedList)) {
+          return true;
+        } else if (correspondence.hasEqualityKeys()) {
+          return correspondByKey(actualList, expectedList);
+        }
+        ImmutableListMultimap.Builder<Integer, Integer> edges = ImmutableListMultimap.builder();
+        for (int i = 0; i < actualCount; i++) {
+          for (int j = 0; j < expectedCount; j++) {
+            if (correspondence.compare(actualList.get(i), expectedList.get(j))) {
+              edges.put(i, j);
+            }
+          }
+        }
+        return GraphMatching.maximumCardinalityBipartiteMatching(edges.build()).size()
+            == expectedCount;
+      } catch (RuntimeException e) {
+        return false;
+      }
+    }
+
+    /**
+     * Returns whether each expected value can be paired with a distinct actual value that has an
+     * equal key, for a correspondence that {@linkplain Correspondence#hasEqualityKeys has equality
+     * keys}. Since such a correspondence holds only between values with equal keys, matching the
+     * keys by hash is exact, and an expected value whose key is left unmatched has no other actual
+     * value that it could correspond to.
+     */
+    private boolean correspondByKey(List<A> actualList, List<? extends E> expectedList) {
+      Multiset<@Nullable Object> unmatchedActualKeys = HashMultiset.create();
+      for (A actualValue : actualList) {
+        unmatchedActualKeys.add(correspondence.actualKey(actualValue));
+      }
+      for (E expectedValue : expectedList) {
+        if (!unmatchedActualKeys.remove(correspondence.expectedKey(expectedValue))) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /**
+     * Returns whether the entries of {@code expected} correspond, in order, to those of {@code
+     * actual}: pairwise if {@code allowUnexpected} is false, or else to a subsequence of them. This
+     * is the check that {@link Ordered#inOrder} makes after a passing containment check. Returns
+     * false if a comparison throws, leaving it to the general algorithm to report the exception.
+     */
+    private boolean entriesCorrespondInOrder(
+        Multimap<?, ?> actual, Multimap<?, ? extends E> expected, boolean allowUnexpected) {
+      Iterator<? extends Entry<?, A>> actualEntries = castActual(actual).entries().iterator();
+      try {
+        for (Entry<?, ? extends E> expectedEntry : expected.entries()) {
+          while (true) {
+            if (!actualEntries.hasNext()) {
+              return false;
+            }
+            Entry<?, A> actualEntry = actualEntries.next();
+            if (Objects.equals(actualEntry.getKey(), expectedEntry.getKey())
+                && correspondence.compare(actualEntry.getValue(), expectedEntry.getValue())) {
+              break;
+            } else if (!allowUnexpected) {
+              return false;
+            }
+          }
+        }
+      } catch (RuntimeException e) {
+        return false;
+      }
+      return allowUnexpected || !actualEntries.hasNext();
+    }
+
+    private boolean correspondInOrder(List<A> actualList, List<? extends E> expectedList) {
+      for (int i = 0; i < actualList.size(); i++) {
+        if (!correspondence.compare(actualList.get(i), expectedList.get(i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+
     @SuppressWarnings("unchecked") // throwing ClassCastException is the correct behaviour
     private Multimap<?, A> castActual(Multimap<?, ?> actual) {
       return (Multimap<?, A>) actual;
@@ -912,7 +1087,7 @@ public class MultimapSubject extends Subject {
     static <E extends @Nullable Object, A extends @Nullable Object>
         UsingCorrespondence<A, E> create(
             MultimapSubject subject, Correspondence<? super A, ? super E> correspondence) {
-      return new UsingCorrespondence<>(subject, correspondence);
+      return new UsingCorrespondence<>(subject, correspondence, /* parallel= */ false);
     }
   }
 
@@ -15,27 +15,217 @@
  */
 package com.google.common.truth;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.truth.Fact.fact;
+import static com.google.common.truth.Fact.simpleFact;
+import static java.lang.Math.min;
+
 import com.google.common.annotations.GwtIncompatible;
 import com.google.j2objc.annotations.J2ObjCIncompatible;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import org.jspecify.annotations.Nullable;
 
 /**
  * A subject for {@link Path} values.
  *
- * <p>This subject does not currently add any assertions to the ones inherited from {@link Subject}.
- * A future version may. Meanwhile, we do at least need to have {@link Truth#assertThat(Path)}
- * because otherwise {@code assertThat(path)} would not compile: it would be ambiguous because
- * {@link Path} extends both {@link Comparable} and {@link Iterable}.
+ * <p>In addition to the assertions inherited from {@link Subject}, which treat the path as a
+ * value, this subject offers assertions about the file that the path locates. Those assertions
+ * compare file contents a chunk at a time through memory mapping, so they can be used on files far
+ * larger than the heap. (We would need {@link Truth#assertThat(Path)} in any case, because
+ * otherwise {@code assertThat(path)} would not compile: it would be ambiguous because {@link Path}
+ * extends both {@link Comparable} and {@link Iterable}.)
  *
  * @since 1.3.0 (previously part of {@code truth-java8-extension})
  */
 @GwtIncompatible
 @J2ObjCIncompatible
 @J2ktIncompatible
+@IgnoreJRERequirement
 public final class PathSubject extends Subject {
+  private static final int MAX_REPORTED_FILES_PER_KIND = 100;
+
+  private final @Nullable Path actual;
+
   private PathSubject(FailureMetadata failureMetadata, @Nullable Path actual) {
     super(failureMetadata, actual);
+    this.actual = actual;
+  }
+
+  /**
+   * Checks that the actual path locates a file of the given size in bytes.
+   *
+   * @since 1.5.0
+   */
+  public void hasSize(long size) {
+    checkArgument(size >= 0, "expected size (%s) must be >= 0", size);
+    if (actual == null) {
+      failWithActual("expected a file with size", size);
+      return;
+    }
+    long actualSize;
+    try {
+      actualSize = Files.size(actual);
+    } catch (IOException e) {
+      failBecauseUnreadable(e);
+      return;
+    }
+    check("size()").that(actualSize).isEqualTo(size);
+  }
+
+  /**
+   * Checks that the actual path locates a file whose bytes are exactly {@code expected}.
+   *
+   * <p>The file is compared a chunk at a time without being read into the heap as a whole. If the
+   * contents differ, the failure message shows the first offset at which they do, along with the
+   * bytes around that offset.
+   *
+   * @since 1.5.0
+   */
+  public void hasContent(byte[] expected) {
+    checkNotNull(expected);
+    if (actual == null) {
+      failWithActual("expected a file with content of size", expected.length);
+      return;
+    }
+    try {
+      long offset = FileContents.mismatch(actual, expected);
+      if (offset >= 0) {
+        failWithContentDifference(
+            simpleFact("expected to have the given content"),
+            offset,
+            expected.length,
+            FileContents.hexWindow(expected, offset));
+      }
+    } catch (IOException e) {
+      failBecauseUnreadable(e);
+    }
+  }
+
+  /**
+   * Checks that the actual path locates a file with exactly the same bytes as the file located by
+   * {@code expected}.
+   *
+   * <p>Neither file is read into the heap as a whole: the two are compared a memory-mapped chunk
+   * at a time. If the contents differ, the failure message shows the first offset at which they
+   * do, along with the bytes of both files around that offset.
+   *
+   * @since 1.5.0
+   */
+  public void hasSameContentAs(Path expected) {
+    checkNotNull(expected);
+    if (actual == null) {
+      failWithActual("expected a file with the same content as", expected);
+      return;
+    }
+    try {
+      long offset = FileContents.mismatch(actual, expected);
+      if (offset >= 0) {
+        failWithContentDifference(
+            fact("expected to have the same content as", expected),
+            offset,
+            Files.size(expected),
+            FileContents.hexWindow(expected, offset));
+      }
+    } catch (IOException e) {
+      failBecauseUnreadable(e);
+    }
+  }
+
+  /**
+   * Checks that the actual path locates a directory whose tree of regular files is the same as the
+   * tree under {@code expected}: every file under either directory exists, at the same relative
+   * path, under the other, with the same contents. Directories themselves, including empty ones,
+   * are not compared.
+   *
+   * <p>Files are compared by size first, and then, when the sizes match, by contents, with several
+   * files compared in parallel. On failure, the message lists the missing, unexpected and differing
+   * files by relative path, sorted, and showing at most {@value #MAX_REPORTED_FILES_PER_KIND} of
+   * each.
+   *
+   * @since 1.5.0
+   */
+  public void hasSameTreeAs(Path expected) {
+    compareTree(expected, /* allowUnexpected= */ false, "expected to have the same tree as");
+  }
+
+  /**
+   * Checks that the actual path locates a directory that contains every regular file under {@code
+   * expected}, at the same relative path and with the same contents. Unlike {@link #hasSameTreeAs},
+   * this allows the actual directory to contain other files, too.
+   *
+   * @since 1.5.0
+   */
+  public void containsFilesMatching(Path expected) {
+    compareTree(
+        expected, /* allowUnexpected= */ true, "expected to contain files matching those in");
+  }
+
+  private void compareTree(Path expected, boolean allowUnexpected, String expectation) {
+    checkNotNull(expected);
+    checkArgument(Files.isDirectory(expected), "expected (%s) must be a directory", expected);
+    if (actual == null) {
+      failWithActual(expectation, expected);
+      return;
+    }
+    if (!Files.isDirectory(actual)) {
+      failWithActual(simpleFact("expected to be a directory"));
+      return;
+    }
+    FileTrees.Difference difference;
+    try {
+      difference = FileTrees.compare(actual, expected, allowUnexpected);
+    } catch (IOException e) {
+      failBecauseUnreadable(e);
+      return;
+    }
+    if (difference.isEmpty()) {
+      return;
+    }
+    List<Fact> facts = new ArrayList<>();
+    addFileList(facts, "missing", difference.missing);
+    addFileList(facts, "unexpected", difference.unexpected);
+    addFileList(facts, "with different contents", difference.differing);
+    facts.add(simpleFact("---"));
+    facts.add(fact(expectation, expected));
+    facts.add(butWas());
+    failWithoutActual(facts);
+  }
+
+  private static void addFileList(List<Fact> facts, String kind, List<String> files) {
+    if (files.isEmpty()) {
+      return;
+    }
+    int shown = min(files.size(), MAX_REPORTED_FILES_PER_KIND);
+    facts.add(fact(kind + " (" + files.size() + ")", files.subList(0, shown)));
+    if (files.size() > shown) {
+      facts.add(fact("files not shown", files.size() - shown));
+    }
+  }
+
+  private void failWithContentDifference(
+      Fact expectation, long offset, long expectedSize, String expectedBytes) throws IOException {
+    checkNotNull(actual);
+    List<Fact> facts = new ArrayList<>();
+    facts.add(expectation);
+    facts.add(fact("but differed at offset", offset));
+    long actualSize = Files.size(actual);
+    if (actualSize != expectedSize) {
+      facts.add(fact("expected size", expectedSize));
+      facts.add(fact("but size was", actualSize));
+    }
+    facts.add(fact("expected bytes", expectedBytes));
+    facts.add(fact("but bytes were", FileContents.hexWindow(actual, offset)));
+    facts.add(actualValue("file"));
+    failWithoutActual(facts);
+  }
+
+  private void failBecauseUnreadable(IOException e) {
+    failWithoutActual(fact("could not read file contents because of", e), actualValue("file"));
   }
 
   /**
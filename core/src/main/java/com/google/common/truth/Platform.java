@@ -18,6 +18,7 @@ package com.google.common.truth;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Strings.lenientFormat;
 import static com.google.common.base.Suppliers.memoize;
+import static com.google.common.base.Throwables.throwIfUnchecked;
 import static com.google.common.truth.DiffUtils.generateUnifiedDiff;
 import static com.google.common.truth.Fact.fact;
 import static com.google.common.truth.Fact.makeMessage;
@@ -28,11 +29,23 @@ import com.google.common.base.Splitter;
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.base.Throwables;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableList;
+import com.google.common.truth.TruthInstrumentation.Work;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.google.errorprone.annotations.Keep;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import org.jspecify.annotations.Nullable;
 import org.junit.ComparisonFailure;
@@ -52,16 +65,51 @@ final class Platform {
 
   /** Determines if the given actual value contains a match for the given regex. */
   static boolean containsMatch(String actual, String regex) {
-    return Pattern.compile(regex).matcher(actual).find();
+    return compiledPattern(regex).matcher(actual).find();
   }
 
   /** Determines if the given actual value is fully matched by the given regex. */
   static boolean matches(String actual, String regex) {
-    return actual.matches(regex);
+    return compiledPattern(regex).matcher(actual).matches();
+  }
+
+  /**
+   * Compiled forms of the regexes passed to the {@code String} overloads of the {@link
+   * StringSubject} and {@link CharSequenceSubject} regex assertions. Tests often apply the same
+   * few regexes to many strings, and a failing {@code matches} check looks up its regex a second
+   * time to refine the message.
+   */
+  private static final LoadingCache<String, Pattern> compiledPatterns =
+      CacheBuilder.newBuilder()
+          .maximumSize(256)
+          .build(CacheLoader.from(Pattern::compile));
+
+  static Pattern compiledPattern(String regex) {
+    TruthInstrumentation instrumentation = TruthInstrumentation.installed();
+    if (instrumentation != null) {
+      instrumentation.patternLookedUp(compiledPatterns.getIfPresent(regex) != null);
+    }
+    try {
+      return compiledPatterns.getUnchecked(regex);
+    } catch (UncheckedExecutionException e) {
+      // Surface a PatternSyntaxException just as Pattern.compile would.
+      throwIfUnchecked(e.getCause());
+      throw e;
+    }
   }
 
   static void cleanStackTrace(Throwable throwable) {
+    TruthInstrumentation instrumentation = TruthInstrumentation.installed();
+    if (instrumentation == null) {
+      StackTraceCleaner.cleanStackTrace(throwable);
+      return;
+    }
+    int originalFrames = throwable.getStackTrace().length;
+    long startNanos = instrumentation.start(Work.STACK_TRACE_CLEANING);
     StackTraceCleaner.cleanStackTrace(throwable);
+    long elapsedNanos = System.nanoTime() - startNanos;
+    instrumentation.stackTraceCleaned(
+        originalFrames, throwable.getStackTrace().length, elapsedNanos);
   }
 
   /**
@@ -101,10 +149,18 @@ final class Platform {
        */
       String clazz =
           Joiner.on('.').join("com", "google", "common", "truth", "ActualValueInference");
-      return (String)
-          Class.forName(clazz)
-              .getDeclaredMethod("describeActualValue", String.class, String.class, int.class)
-              .invoke(null, top.getClassName(), top.getMethodName(), top.getLineNumber());
+      TruthInstrumentation instrumentation = TruthInstrumentation.installed();
+      long startNanos =
+          instrumentation == null ? 0 : instrumentation.start(Work.DESCRIPTION_INFERENCE);
+      String description =
+          (String)
+              Class.forName(clazz)
+                  .getDeclaredMethod("describeActualValue", String.class, String.class, int.class)
+                  .invoke(null, top.getClassName(), top.getMethodName(), top.getLineNumber());
+      if (instrumentation != null) {
+        instrumentation.descriptionInferred(description != null, System.nanoTime() - startNanos);
+      }
+      return description;
     } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
       // Some possible reasons:
       // - Someone has omitted ASM from the classpath.
@@ -121,8 +177,14 @@ final class Platform {
   static @Nullable List<Fact> makeDiff(String expected, String actual) {
     List<String> expectedLines = splitLines(expected);
     List<String> actualLines = splitLines(actual);
+    TruthInstrumentation instrumentation = TruthInstrumentation.installed();
+    long startNanos = instrumentation == null ? 0 : instrumentation.start(Work.DIFF);
     List<String> unifiedDiff =
         generateUnifiedDiff(expectedLines, actualLines, /* contextSize= */ 3);
+    if (instrumentation != null) {
+      instrumentation.diffComputed(
+          expectedLines.size(), actualLines.size(), System.nanoTime() - startNanos);
+    }
     if (unifiedDiff.isEmpty()) {
       return ImmutableList.of(
           fact(DIFF_KEY, "(line contents match, but line-break characters differ)"));
@@ -242,6 +304,65 @@ final class Platform {
     }
   }
 
+  /**
+   * Returns the instrumentation to start with: the one registered with {@link ServiceLoader}, if
+   * any, together with each one enabled by a system property:
+   *
+   * <ul>
+   *   <li>{@code com.google.common.truth.jfr_events}: Java Flight Recorder events, if {@code
+   *       jdk.jfr} is available
+   *   <li>{@code com.google.common.truth.instrumentation_summary}: a {@link
+   *       CountingTruthInstrumentation} that prints its summary when the JVM exits
+   * </ul>
+   *
+   * <p>If more than one is found, events are passed on to each of them in that order.
+   */
+  static @Nullable TruthInstrumentation loadInstrumentation() {
+    List<TruthInstrumentation> found = new ArrayList<>();
+    try {
+      ClassLoader loader = TruthInstrumentation.class.getClassLoader();
+      Iterator<TruthInstrumentation> loaded =
+          ServiceLoader.load(TruthInstrumentation.class, loader).iterator();
+      if (loaded.hasNext()) {
+        found.add(loaded.next());
+      }
+    } catch (ServiceConfigurationError | SecurityException e) {
+      // Instrumentation is optional, so a broken configuration shouldn't break assertions.
+    }
+    try {
+      if (Boolean.parseBoolean(System.getProperty("com.google.common.truth.jfr_events"))) {
+        TruthInstrumentation jfr = loadJfrInstrumentation();
+        if (jfr != null) {
+          found.add(jfr);
+        }
+      }
+      if (Boolean.parseBoolean(
+          System.getProperty("com.google.common.truth.instrumentation_summary"))) {
+        found.add(CountingTruthInstrumentation.create().printSummaryAtExit());
+      }
+    } catch (SecurityException e) {
+      // Hope for the best.
+    }
+    return CompositeTruthInstrumentation.of(found);
+  }
+
+  /**
+   * Returns a new {@code JfrTruthInstrumentation}, or null if it can't be loaded. That class is
+   * compiled only for Java 11 and up, into the multi-release part of the jar, so it is missing on
+   * older JVMs.
+   */
+  static @Nullable TruthInstrumentation loadJfrInstrumentation() {
+    try {
+      // Load reflectively so that we never link against jdk.jfr on JVMs that don't have it.
+      return (TruthInstrumentation)
+          Class.forName("com.google.common.truth.JfrTruthInstrumentation")
+              .getDeclaredConstructor()
+              .newInstance();
+    } catch (ReflectiveOperationException | LinkageError e) {
+      return null;
+    }
+  }
+
   static boolean forceInferDescription() {
     try {
       return Boolean.parseBoolean(
@@ -337,6 +458,44 @@ final class Platform {
             }
           });
 
+  /**
+   * Returns whether every element of {@code elements} satisfies {@code predicate}. If {@code
+   * parallel} is true, the elements are tested in parallel on the common fork-join pool.
+   */
+  static <T extends @Nullable Object> boolean allMatch(
+      Collection<T> elements, Predicate<? super T> predicate, boolean parallel) {
+    return (parallel ? elements.parallelStream() : elements.stream()).allMatch(predicate);
+  }
+
+  /**
+   * Returns the first index in {@code [from, to)} at which {@code a} and {@code b} differ, or -1 if
+   * they are equal over that range. Both arrays must be at least {@code to} long.
+   */
+  static int mismatch(byte[] a, byte[] b, int from, int to) {
+    if (arraysMismatchAvailable) {
+      try {
+        int i = arraysMismatch(a, b, from, to);
+        return i < 0 ? -1 : from + i;
+      } catch (LinkageError e) {
+        // Arrays.mismatch was added in Java 9 and isn't on older JREs or Android.
+        arraysMismatchAvailable = false;
+      }
+    }
+    for (int i = from; i < to; i++) {
+      if (a[i] != b[i]) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static volatile boolean arraysMismatchAvailable = true;
+
+  @IgnoreJRERequirement
+  private static int arraysMismatch(byte[] a, byte[] b, int from, int to) {
+    return Arrays.mismatch(a, from, to, b, from, to);
+  }
+
   static boolean kotlinRangeContains(Iterable<?> haystack, @Nullable Object needle) {
     try {
       return (boolean) closedRangeContainsMethod.get().invoke(haystack, needle);
@@ -0,0 +1,473 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import static com.google.common.truth.Fact.fact;
+import static com.google.common.truth.Fact.simpleFact;
+import static com.google.common.truth.IterableSubject.makeElementFactsForBoth;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Multiset;
+import com.google.common.collect.Multisets;
+import com.google.common.primitives.Bytes;
+import com.google.common.primitives.Chars;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
+import com.google.common.primitives.Shorts;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Containment assertions for the integral primitive array subjects.
+ *
+ * <p>The subjects pass their arrays here as {@link Elements}, which read each array in place. The
+ * checks count values in a primitive hash table, so they run in expected {@code O(n)} time and box
+ * only the elements that end up in a failure message. The failure messages match those of the
+ * corresponding {@link IterableSubject} methods.
+ */
+final class PrimitiveArrayContainment {
+  private final Subject subject;
+  private final @Nullable Elements actual;
+
+  /**
+   * @param subject the subject to report failures through
+   * @param actual the elements of the actual array
+   */
+  PrimitiveArrayContainment(Subject subject, @Nullable Elements actual) {
+    this.subject = subject;
+    this.actual = actual;
+  }
+
+  Ordered containsExactly(@Nullable Elements expected) {
+    Elements actual = this.actual;
+    if (expected == null) {
+      failForNullExpected("expected array");
+      return ALREADY_FAILED;
+    } else if (actual == null) {
+      failForNullActual();
+      return ALREADY_FAILED;
+    } else if (sameElements(actual, expected)) {
+      return IN_ORDER;
+    } else if (expected.length() == 0) {
+      subject.arrayIsEmptyImpl(); // fails
+      return ALREADY_FAILED;
+    }
+
+    // As in IterableSubject, each expected element matches the first remaining copy of its value.
+    Counts remaining = Counts.of(actual);
+    List<Object> missing = new ArrayList<>();
+    for (int i = 0; i < expected.length(); i++) {
+      if (!remaining.removeOne(expected.get(i))) {
+        missing.add(expected.asList().get(i));
+      }
+    }
+    // So the unmatched copies in the actual array are the last ones.
+    List<Object> unexpected = new ArrayList<>();
+    for (int i = actual.length() - 1; i >= 0; i--) {
+      if (remaining.removeOne(actual.get(i))) {
+        unexpected.add(actual.asList().get(i));
+      }
+    }
+    Collections.reverse(unexpected);
+    if (missing.isEmpty() && unexpected.isEmpty()) {
+      // The same elements in a different order: containsExactly passes, but inOrder() fails.
+      return () ->
+          subject.failWithActual(
+              simpleFact("contents match, but order was wrong"),
+              fact("expected", expected.asList()));
+    }
+    ImmutableList.Builder<Fact> facts = Subject.factsBuilder();
+    facts.addAll(makeElementFactsForBoth("missing", missing, "unexpected", unexpected));
+    facts.add(fact("expected", expected.asList()));
+    facts.add(subject.butWas());
+    subject.failWithoutActual(facts.build());
+    return ALREADY_FAILED;
+  }
+
+  Ordered containsAtLeast(@Nullable Elements expected) {
+    Elements actual = this.actual;
+    if (expected == null) {
+      failForNullExpected("expected array");
+      return ALREADY_FAILED;
+    } else if (actual == null) {
+      failForNullActual();
+      return ALREADY_FAILED;
+    }
+
+    Counts remaining = Counts.of(actual);
+    List<Object> missing = new ArrayList<>();
+    for (int i = 0; i < expected.length(); i++) {
+      if (!remaining.removeOne(expected.get(i))) {
+        missing.add(expected.asList().get(i));
+      }
+    }
+    if (!missing.isEmpty()) {
+      ImmutableList.Builder<Fact> facts = Subject.factsBuilder();
+      /*
+       * IterableSubject also lists actual elements whose string forms match a missing element's.
+       * Two values of the same primitive type with the same string form are equal, so there never
+       * are any here.
+       */
+      facts.addAll(
+          makeElementFactsForBoth("missing", missing, "though it did contain", ImmutableList.of()));
+      facts.add(fact("expected to contain at least", expected.asList()));
+      facts.add(subject.butWas());
+      subject.failWithoutActual(facts.build());
+      return ALREADY_FAILED;
+    }
+
+    // Every expected element is present, so the order is right if they form a subsequence.
+    int j = 0;
+    for (int i = 0; i < expected.length(); i++) {
+      long e = expected.get(i);
+      while (j < actual.length() && actual.get(j) != e) {
+        j++;
+      }
+      if (j == actual.length()) {
+        return () -> failAtLeastOrder(actual, expected);
+      }
+      j++;
+    }
+    return IN_ORDER;
+  }
+
+  private void failAtLeastOrder(Elements actual, Elements expected) {
+    ImmutableList.Builder<Fact> facts = Subject.factsBuilder();
+    facts.add(simpleFact("required elements were all found, but order was wrong"));
+    facts.add(fact("expected order for required elements", expected.asList()));
+    Counts required = Counts.of(expected);
+    List<Object> actualOrder = new ArrayList<>();
+    for (int i = 0; i < actual.length(); i++) {
+      if (required.get(actual.get(i)) > 0) {
+        actualOrder.add(actual.asList().get(i));
+      }
+    }
+    if (actualOrder.size() < actual.length()) {
+      facts.add(fact("but order was", actualOrder));
+      facts.add(subject.actualValue("full contents"));
+      subject.failWithoutActual(facts.build());
+    } else {
+      subject.failWithActual(facts.build());
+    }
+  }
+
+  void containsNoneOf(@Nullable Elements excluded) {
+    Elements actual = this.actual;
+    if (excluded == null) {
+      failForNullExpected("excluded array");
+      return;
+    } else if (actual == null) {
+      failForNullActual();
+      return;
+    }
+
+    Counts excludedCounts = Counts.of(excluded);
+    Counts found = new Counts();
+    boolean anyFound = false;
+    for (int i = 0; i < actual.length(); i++) {
+      long a = actual.get(i);
+      if (excludedCounts.get(a) > 0) {
+        found.add(a);
+        anyFound = true;
+      }
+    }
+    if (!anyFound) {
+      return;
+    }
+    // Report each excluded value once, in the order the caller listed them.
+    List<Object> present = new ArrayList<>();
+    for (int i = 0; i < excluded.length(); i++) {
+      if (found.removeAll(excluded.get(i)) > 0) {
+        present.add(excluded.asList().get(i));
+      }
+    }
+    subject.failWithoutActual(
+        fact("expected not to contain any of", excluded.asList()),
+        fact("but contained", present),
+        subject.actualValue("full contents"));
+  }
+
+  void containsNoDuplicates() {
+    Elements actual = this.actual;
+    if (actual == null) {
+      failForNullActual();
+      return;
+    }
+
+    Counts counts = Counts.of(actual);
+    // Report each duplicated value once, in order of first appearance, as LinkedHashMultiset would.
+    List<Multiset.Entry<?>> entries = new ArrayList<>();
+    for (int i = 0; i < actual.length(); i++) {
+      int count = counts.removeAll(actual.get(i));
+      if (count > 1) {
+        entries.add(Multisets.immutableEntry(actual.asList().get(i), count));
+      }
+    }
+    if (entries.isEmpty()) {
+      return;
+    }
+    subject.failWithoutActual(
+        simpleFact("expected not to contain duplicates"),
+        fact("but contained", entries),
+        subject.actualValue("full contents"));
+  }
+
+  /**
+   * The elements of a primitive array, read in place. Each element is read as a {@code long} for
+   * comparison and counting, and boxed to the array's own wrapper type only through {@link
+   * #asList}.
+   */
+  abstract static class Elements {
+    abstract int length();
+
+    /** Returns the element at {@code index}, widened to {@code long}. */
+    abstract long get(int index);
+
+    /** Returns a view of the elements, boxed as they're read. */
+    abstract List<?> asList();
+  }
+
+  static @Nullable Elements elements(int @Nullable [] array) {
+    return array == null
+        ? null
+        : new Elements() {
+          @Override
+          int length() {
+            return array.length;
+          }
+
+          @Override
+          long get(int index) {
+            return array[index];
+          }
+
+          @Override
+          List<?> asList() {
+            return Ints.asList(array);
+          }
+        };
+  }
+
+  static @Nullable Elements elements(long @Nullable [] array) {
+    return array == null
+        ? null
+        : new Elements() {
+          @Override
+          int length() {
+            return array.length;
+          }
+
+          @Override
+          long get(int index) {
+            return array[index];
+          }
+
+          @Override
+          List<?> asList() {
+            return Longs.asList(array);
+          }
+        };
+  }
+
+  static @Nullable Elements elements(short @Nullable [] array) {
+    return array == null
+        ? null
+        : new Elements() {
+          @Override
+          int length() {
+            return array.length;
+          }
+
+          @Override
+          long get(int index) {
+            return array[index];
+          }
+
+          @Override
+          List<?> asList() {
+            return Shorts.asList(array);
+          }
+        };
+  }
+
+  static @Nullable Elements elements(byte @Nullable [] array) {
+    return array == null
+        ? null
+        : new Elements() {
+          @Override
+          int length() {
+            return array.length;
+          }
+
+          @Override
+          long get(int index) {
+            return array[index];
+          }
+
+          @Override
+          List<?> asList() {
+            return Bytes.asList(array);
+          }
+        };
+  }
+
+  static @Nullable Elements elements(char @Nullable [] array) {
+    return array == null
+        ? null
+        : new Elements() {
+          @Override
+          int length() {
+            return array.length;
+          }
+
+          @Override
+          long get(int index) {
+            return array[index];
+          }
+
+          @Override
+          List<?> asList() {
+            return Chars.asList(array);
+          }
+        };
+  }
+
+  private void failForNullActual() {
+    subject.failWithoutActual(
+        simpleFact("cannot perform assertions on the contents of a null array"));
+  }
+
+  private void failForNullExpected(String what) {
+    subject.failWithoutActual(
+        simpleFact("could not perform containment check because " + what + " was null"),
+        subject.actualValue("actual contents"));
+  }
+
+  private static boolean sameElements(Elements first, Elements second) {
+    if (first.length() != second.length()) {
+      return false;
+    }
+    for (int i = 0; i < first.length(); i++) {
+      if (first.get(i) != second.get(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * A count of each distinct value, kept in an open-addressing hash table with linear probing so
+   * that counting boxes nothing.
+   */
+  private static final class Counts {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] keys;
+    private int[] counts;
+    private boolean[] occupied;
+    private int size;
+
+    Counts() {
+      keys = new long[INITIAL_CAPACITY];
+      counts = new int[INITIAL_CAPACITY];
+      occupied = new boolean[INITIAL_CAPACITY];
+    }
+
+    static Counts of(Elements elements) {
+      Counts counts = new Counts();
+      for (int i = 0; i < elements.length(); i++) {
+        counts.add(elements.get(i));
+      }
+      return counts;
+    }
+
+    int get(long value) {
+      int slot = slot(value);
+      return occupied[slot] ? counts[slot] : 0;
+    }
+
+    void add(long value) {
+      int slot = slot(value);
+      if (occupied[slot]) {
+        counts[slot]++;
+        return;
+      }
+      occupied[slot] = true;
+      keys[slot] = value;
+      counts[slot] = 1;
+      if (++size * 2 > keys.length) {
+        grow();
+      }
+    }
+
+    /** Decrements the count of {@code value} and returns true, unless the count is zero. */
+    boolean removeOne(long value) {
+      int slot = slot(value);
+      if (!occupied[slot] || counts[slot] == 0) {
+        return false;
+      }
+      counts[slot]--;
+      return true;
+    }
+
+    /** Sets the count of {@code value} to zero, returning what it was. */
+    int removeAll(long value) {
+      int slot = slot(value);
+      if (!occupied[slot]) {
+        return 0;
+      }
+      int count = counts[slot];
+      counts[slot] = 0;
+      return count;
+    }
+
+    /** Returns the slot that holds {@code value}, or the empty slot where it would go. */
+    private int slot(long value) {
+      int mask = keys.length - 1;
+      long scrambled = value * 0x9E3779B97F4A7C15L;
+      int slot = (int) (scrambled ^ (scrambled >>> 32)) & mask;
+      while (occupied[slot] && keys[slot] != value) {
+        slot = (slot + 1) & mask;
+      }
+      return slot;
+    }
+
+    private void grow() {
+      long[] oldKeys = keys;
+      int[] oldCounts = counts;
+      boolean[] oldOccupied = occupied;
+      keys = new long[oldKeys.length * 2];
+      counts = new int[oldKeys.length * 2];
+      occupied = new boolean[oldKeys.length * 2];
+      for (int i = 0; i < oldKeys.length; i++) {
+        if (oldOccupied[i]) {
+          int slot = slot(oldKeys[i]);
+          occupied[slot] = true;
+          keys[slot] = oldKeys[i];
+          counts[slot] = oldCounts[i];
+        }
+      }
+    }
+  }
+
+  /** Ordered implementation that does nothing because it's already known to be true. */
+  private static final Ordered IN_ORDER = () -> {};
+
+  /** Ordered implementation that does nothing because an earlier check already caused a failure. */
+  private static final Ordered ALREADY_FAILED = () -> {};
+}
@@ -116,7 +116,7 @@ public final class PrimitiveDoubleArraySubject extends Subject {
     return DoubleArrayAsIterable.create(tolerance(tolerance), iterableSubject(actual));
   }
 
-  private static final Correspondence<Double, Number> EXACT_EQUALITY_CORRESPONDENCE =
+  static final Correspondence<Double, Number> EXACT_EQUALITY_CORRESPONDENCE =
       Correspondence.from(
           (a, e) -> doubleToLongBits(a) == doubleToLongBits(checkedToDouble(e)),
           "is exactly equal to");
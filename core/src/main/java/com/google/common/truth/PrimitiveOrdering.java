@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import static com.google.common.truth.Fact.fact;
+import static com.google.common.truth.Fact.simpleFact;
+
+import com.google.common.truth.PrimitiveArrayContainment.Elements;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntBinaryOperator;
+import java.util.function.LongBinaryOperator;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Ordering assertions for the primitive array and stream subjects.
+ *
+ * <p>The checks on {@link Elements} read the elements as primitives, and they compare them either
+ * naturally or with a primitive comparator, like an {@link IntBinaryOperator} that returns a
+ * negative, zero or positive value as {@link Comparator#compare} would. Neither boxes any element
+ * that isn't reported. The {@link Comparator} checks necessarily box each element as they pass it
+ * to the comparator. Either way, a failure reports the first pair of elements that is out of
+ * order, along with the index of the second one. The messages otherwise match those of {@link
+ * IterableSubject#isInOrder} and {@link IterableSubject#isInStrictOrder}.
+ */
+final class PrimitiveOrdering {
+  /** Checks the order of {@code actual} according to the natural order of its elements. */
+  static void checkInOrder(
+      Subject subject, String noun, @Nullable Elements actual, boolean strict) {
+    checkOrder(subject, noun, actual, Long::compare, strict);
+  }
+
+  /**
+   * Checks the order of {@code actual}, whose elements are of type {@code int} or narrower,
+   * according to the given comparator.
+   */
+  static void checkInOrder(
+      Subject subject,
+      String noun,
+      @Nullable Elements actual,
+      @Nullable IntBinaryOperator comparator,
+      boolean strict) {
+    checkOrder(
+        subject,
+        noun,
+        actual,
+        comparator == null ? null : (a, b) -> comparator.applyAsInt((int) a, (int) b),
+        strict);
+  }
+
+  /** Checks the order of {@code actual} according to the given comparator. */
+  static void checkInOrder(
+      Subject subject,
+      String noun,
+      @Nullable Elements actual,
+      @Nullable LongBinaryOperator comparator,
+      boolean strict) {
+    checkOrder(subject, noun, actual, comparator, strict);
+  }
+
+  private static void checkOrder(
+      Subject subject,
+      String noun,
+      @Nullable Elements actual,
+      @Nullable LongBinaryOperator comparator,
+      boolean strict) {
+    if (comparator == null) {
+      failForNullComparator(subject);
+      return;
+    } else if (actual == null) {
+      failForNullActual(subject, noun, strict);
+      return;
+    }
+    for (int i = 1; i < actual.length(); i++) {
+      long comparison = comparator.applyAsLong(actual.get(i - 1), actual.get(i));
+      if (strict ? comparison >= 0 : comparison > 0) {
+        failOutOfOrder(
+            subject, strict, actual.asList().get(i - 1), actual.asList().get(i), i);
+        return;
+      }
+    }
+  }
+
+  /** Checks the order of {@code actual} according to {@link Double#compare}. */
+  static void checkInOrder(
+      Subject subject, String noun, double @Nullable [] actual, boolean strict) {
+    if (actual == null) {
+      failForNullActual(subject, noun, strict);
+      return;
+    }
+    for (int i = 1; i < actual.length; i++) {
+      int comparison = Double.compare(actual[i - 1], actual[i]);
+      if (strict ? comparison >= 0 : comparison > 0) {
+        failOutOfOrder(subject, strict, actual[i - 1], actual[i], i);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Checks the order of {@code actual}, which is a boxed view of a primitive array, according to
+   * the given comparator.
+   */
+  static <T> void checkInOrder(
+      Subject subject,
+      String noun,
+      @Nullable List<T> actual,
+      @Nullable Comparator<? super T> comparator,
+      boolean strict) {
+    if (comparator == null) {
+      failForNullComparator(subject);
+      return;
+    } else if (actual == null) {
+      failForNullActual(subject, noun, strict);
+      return;
+    }
+    for (int i = 1; i < actual.size(); i++) {
+      T prev = actual.get(i - 1);
+      T next = actual.get(i);
+      int comparison = comparator.compare(prev, next);
+      if (strict ? comparison >= 0 : comparison > 0) {
+        failOutOfOrder(subject, strict, prev, next, i);
+        return;
+      }
+    }
+  }
+
+  private static void failForNullComparator(Subject subject) {
+    subject.failWithoutActual(
+        simpleFact("could not perform ordering check because comparator was null"),
+        subject.actualValue("actual contents"));
+  }
+
+  private static void failForNullActual(Subject subject, String noun, boolean strict) {
+    String order = strict ? "strict order" : "order";
+    subject.failWithActual(simpleFact("expected " + noun + " that is in " + order));
+  }
+
+  private static void failOutOfOrder(
+      Subject subject, boolean strict, Object prev, Object next, int index) {
+    subject.failWithoutActual(
+        simpleFact(strict ? "expected to be in strict order" : "expected to be in order"),
+        fact("but contained", prev),
+        fact("followed by", next),
+        fact("at index", index),
+        subject.actualValue("full contents"));
+  }
+
+  private PrimitiveOrdering() {}
+}
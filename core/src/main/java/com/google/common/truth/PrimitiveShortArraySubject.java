@@ -16,9 +16,13 @@
 package com.google.common.truth;
 
 import static com.google.common.truth.Fact.simpleFact;
+import static com.google.common.truth.PrimitiveArrayContainment.elements;
+import static com.google.common.truth.PrimitiveOrdering.checkInOrder;
 import static java.util.Collections.emptyList;
 
 import com.google.common.primitives.Shorts;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.function.IntBinaryOperator;
 import org.jspecify.annotations.Nullable;
 
 /** A subject for {@code short[]} values. */
@@ -53,6 +57,93 @@ public final class PrimitiveShortArraySubject extends Subject {
     arrayHasLengthImpl(length);
   }
 
+  /**
+   * Checks that the actual array contains exactly the given elements.
+   *
+   * <p>Multiplicity is respected. For example, an element duplicated exactly 3 times in the
+   * parameters asserts that the element must likewise be duplicated exactly 3 times in the actual
+   * array.
+   *
+   * <p>To also test that the contents appear in the given order, make a call to {@code inOrder()}
+   * on the object returned by this method.
+   *
+   * <p>Unlike {@code asList().containsExactly(...)}, this compares {@code short} values directly,
+   * boxing only the elements that appear in a failure message.
+   */
+  @CanIgnoreReturnValue
+  public Ordered containsExactly(short @Nullable ... expected) {
+    return containment().containsExactly(elements(expected));
+  }
+
+  /**
+   * Checks that the actual array contains all of the given elements. If an element appears more
+   * than once in the given elements, then it must appear at least that number of times in the
+   * actual elements.
+   *
+   * <p>To also test that the contents appear in the given order, make a call to {@code inOrder()}
+   * on the object returned by this method. The expected elements must appear in the given order
+   * within the actual elements, but they are not required to be consecutive.
+   */
+  @CanIgnoreReturnValue
+  public Ordered containsAtLeast(short @Nullable ... expected) {
+    return containment().containsAtLeast(elements(expected));
+  }
+
+  /** Checks that the actual array does not contain any of the given elements. */
+  public void containsNoneOf(short @Nullable ... excluded) {
+    containment().containsNoneOf(elements(excluded));
+  }
+
+  /** Checks that the actual array does not contain duplicate elements. */
+  public void containsNoDuplicates() {
+    containment().containsNoDuplicates();
+  }
+
+  /**
+   * Checks that the actual array is strictly ordered, according to the natural ordering of its
+   * elements. Strictly ordered means that each element in the array is <i>strictly</i> greater than
+   * the element that preceded it.
+   */
+  public void isInStrictOrder() {
+    checkInOrder(this, "an array", elements(actual), /* strict= */ true);
+  }
+
+  /**
+   * Checks that the actual array is strictly ordered, according to the given comparator. Strictly
+   * ordered means that each element in the array is <i>strictly</i> greater than the element that
+   * preceded it.
+   *
+   * <p>The comparator returns a negative value, zero, or a positive value as its first argument is
+   * less than, equal to, or greater than its second. It compares the elements without boxing them.
+   */
+  public void isInStrictOrder(IntBinaryOperator comparator) {
+    checkInOrder(this, "an array", elements(actual), comparator, /* strict= */ true);
+  }
+
+  /**
+   * Checks that the actual array is ordered, according to the natural ordering of its elements.
+   * Ordered means that each element in the array is greater than or equal to the element that
+   * preceded it.
+   */
+  public void isInOrder() {
+    checkInOrder(this, "an array", elements(actual), /* strict= */ false);
+  }
+
+  /**
+   * Checks that the actual array is ordered, according to the given comparator. Ordered means that
+   * each element in the array is greater than or equal to the element that preceded it.
+   *
+   * <p>The comparator returns a negative value, zero, or a positive value as its first argument is
+   * less than, equal to, or greater than its second. It compares the elements without boxing them.
+   */
+  public void isInOrder(IntBinaryOperator comparator) {
+    checkInOrder(this, "an array", elements(actual), comparator, /* strict= */ false);
+  }
+
+  private PrimitiveArrayContainment containment() {
+    return new PrimitiveArrayContainment(this, elements(actual));
+  }
+
   static Factory<PrimitiveShortArraySubject, short[]> shortArrays() {
     return PrimitiveShortArraySubject::new;
   }
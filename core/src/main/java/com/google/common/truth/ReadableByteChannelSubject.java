@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import static com.google.common.truth.StreamingByteComparison.source;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.j2objc.annotations.J2ObjCIncompatible;
+import java.nio.channels.ReadableByteChannel;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A subject for the bytes of a {@link ReadableByteChannel}.
+ *
+ * <p>The assertions read the channel incrementally through a fixed-size buffer, so channels of any
+ * length can be checked in constant memory. When the contents differ, the failure message shows the
+ * offset of the first difference and the bytes around it on both sides.
+ *
+ * <p>The channel must be in blocking mode. Each assertion reads the channel from its current
+ * position, which is not reset afterward, and does not close it. Generally, make only one assertion
+ * per channel.
+ *
+ * <p>Use this subject with {@code assertAbout(readableByteChannels()).that(channel)}.
+ *
+ * @since 1.5.0
+ */
+@GwtIncompatible
+@J2ObjCIncompatible
+@J2ktIncompatible
+@IgnoreJRERequirement
+public final class ReadableByteChannelSubject extends StreamingByteSubject {
+  private ReadableByteChannelSubject(
+      FailureMetadata metadata, @Nullable ReadableByteChannel actual) {
+    super(metadata, actual, actual == null ? null : source(actual), "channel");
+  }
+
+  /** Returns a factory for assertions about the bytes of {@link ReadableByteChannel}s. */
+  public static Factory<ReadableByteChannelSubject, ReadableByteChannel> readableByteChannels() {
+    return ReadableByteChannelSubject::new;
+  }
+}
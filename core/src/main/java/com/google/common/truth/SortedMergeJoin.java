@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import com.google.common.collect.Ordering;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Containment checks for pairs of sorted sets or sorted maps that share a comparator.
+ *
+ * <p>Both sides iterate in the same order, so a single linear merge of the two iterators decides
+ * whether the expected elements are all present (and, for exact checks, whether nothing else is),
+ * without allocating. The merge only ever answers "yes, in order": whenever it finds a difference,
+ * or cannot compare the inputs, it returns {@code false} and the caller falls back to its general
+ * algorithm, which produces the usual failure message.
+ */
+final class SortedMergeJoin {
+  /**
+   * Returns whether {@code actual} and {@code expected} are sorted sets with the same comparator
+   * and every element of {@code expected} is in {@code actual}. If {@code allowUnexpected} is
+   * false, {@code actual} must also contain nothing else.
+   */
+  static boolean setsMatchInOrder(
+      Iterable<?> actual, Iterable<?> expected, boolean allowUnexpected) {
+    if (!(actual instanceof SortedSet) || !(expected instanceof SortedSet)) {
+      return false;
+    }
+    Comparator<Object> comparator =
+        sharedComparator(
+            ((SortedSet<?>) actual).comparator(), ((SortedSet<?>) expected).comparator());
+    if (comparator == null) {
+      return false;
+    }
+    return merge(actual.iterator(), expected.iterator(), comparator, allowUnexpected);
+  }
+
+  /**
+   * Returns whether {@code actual} and {@code expected} are sorted maps with the same comparator
+   * and every entry of {@code expected} is in {@code actual}. If {@code allowUnexpected} is false,
+   * {@code actual} must also contain no other entries.
+   */
+  static boolean mapsMatchInOrder(Map<?, ?> actual, Map<?, ?> expected, boolean allowUnexpected) {
+    if (!(actual instanceof SortedMap) || !(expected instanceof SortedMap)) {
+      return false;
+    }
+    Comparator<Object> keyComparator =
+        sharedComparator(
+            ((SortedMap<?, ?>) actual).comparator(), ((SortedMap<?, ?>) expected).comparator());
+    if (keyComparator == null) {
+      return false;
+    }
+    Comparator<Object> entryComparator =
+        (a, b) ->
+            keyComparator.compare(((Map.Entry<?, ?>) a).getKey(), ((Map.Entry<?, ?>) b).getKey());
+    return merge(
+        actual.entrySet().iterator(),
+        expected.entrySet().iterator(),
+        entryComparator,
+        allowUnexpected);
+  }
+
+  /**
+   * Walks both iterators once. Elements that the comparator considers equal must also be {@link
+   * Object#equals equal}, since the assertions are defined in terms of {@code equals}.
+   */
+  private static boolean merge(
+      Iterator<?> actual,
+      Iterator<?> expected,
+      Comparator<Object> comparator,
+      boolean allowUnexpected) {
+    try {
+      while (expected.hasNext()) {
+        Object expectedElement = expected.next();
+        while (true) {
+          if (!actual.hasNext()) {
+            return false;
+          }
+          Object actualElement = actual.next();
+          int cmp = comparator.compare(actualElement, expectedElement);
+          if (cmp > 0) {
+            return false;
+          } else if (cmp == 0) {
+            if (!Objects.equals(actualElement, expectedElement)) {
+              return false;
+            }
+            break;
+          } else if (!allowUnexpected) {
+            return false;
+          }
+        }
+      }
+    } catch (ClassCastException e) {
+      // The two sides hold elements that the comparator can't compare with each other.
+      return false;
+    }
+    return allowUnexpected || !actual.hasNext();
+  }
+
+  /**
+   * Returns the comparator both sides are sorted by, or null if they differ. A null comparator
+   * means natural ordering, as in {@link SortedSet#comparator()}.
+   */
+  @SuppressWarnings("unchecked") // Both collections are already sorted by this comparator.
+  private static @Nullable Comparator<Object> sharedComparator(
+      @Nullable Comparator<?> actual, @Nullable Comparator<?> expected) {
+    Comparator<?> a = normalize(actual);
+    return a.equals(normalize(expected)) ? (Comparator<Object>) a : null;
+  }
+
+  private static Comparator<?> normalize(@Nullable Comparator<?> comparator) {
+    return comparator == null || comparator.equals(Comparator.naturalOrder())
+        ? Ordering.natural()
+        : comparator;
+  }
+
+  private SortedMergeJoin() {}
+}
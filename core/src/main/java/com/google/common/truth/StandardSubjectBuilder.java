@@ -19,6 +19,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.truth.BigDecimalSubject.bigDecimals;
 import static com.google.common.truth.BooleanSubject.booleans;
 import static com.google.common.truth.ClassSubject.classes;
+import static com.google.common.truth.DoubleStreamSubject.doubleStreams;
 import static com.google.common.truth.DoubleSubject.doubles;
 import static com.google.common.truth.FloatSubject.floats;
 import static com.google.common.truth.GuavaOptionalSubject.guavaOptionals;
@@ -62,6 +63,7 @@ import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
@@ -276,7 +278,12 @@ public class StandardSubjectBuilder {
     return about(longStreams()).that(actual);
   }
 
-  // TODO(b/64757353): Add support for DoubleStream?
+  /**
+   * @since 1.5.0
+   */
+  public final DoubleStreamSubject that(@Nullable DoubleStream actual) {
+    return about(doubleStreams()).that(actual);
+  }
 
   /**
    * @since 1.4.0 (with access to {@link PathSubject} previously part of {@code
@@ -15,15 +15,23 @@
  */
 package com.google.common.truth;
 
+import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Suppliers.memoize;
+import static com.google.common.collect.Sets.newHashSet;
+import static com.google.common.truth.SubjectUtils.iterableToCollection;
 import static com.google.common.truth.SubjectUtils.listifyNullableVarargs;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toCollection;
 
 import com.google.common.base.Supplier;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 import org.jspecify.annotations.Nullable;
 
@@ -54,10 +62,12 @@ import org.jspecify.annotations.Nullable;
 public final class StreamSubject extends Subject {
   private final @Nullable Stream<?> actual;
   private final Supplier<@Nullable List<?>> listSupplier;
+  private final boolean parallel;
 
   private StreamSubject(FailureMetadata metadata, @Nullable Stream<?> actual) {
     super(metadata, actual);
     this.actual = actual;
+    this.parallel = actual != null && actual.isParallel();
     this.listSupplier =
         memoize(
             (Supplier<@Nullable List<?>>)
@@ -121,8 +131,19 @@ public final class StreamSubject extends Subject {
     checkThatContentsList().doesNotContain(element);
   }
 
-  /** Checks that the actual stream does not contain duplicate elements. */
+  /**
+   * Checks that the actual stream does not contain duplicate elements.
+   *
+   * <p>If the stream is {@linkplain Stream#isParallel parallel}, this check counts the elements in
+   * parallel.
+   */
   public void containsNoDuplicates() {
+    if (parallel) {
+      List<?> list = checkNotNull(listSupplier.get());
+      if (elementCounts(list).size() == list.size()) {
+        return;
+      }
+    }
     checkThatContentsList().containsNoDuplicates();
   }
 
@@ -180,7 +201,7 @@ public final class StreamSubject extends Subject {
    */
   @CanIgnoreReturnValue
   public Ordered containsExactly(@Nullable Object... expected) {
-    return checkThatContentsList().containsExactlyElementsIn(listifyNullableVarargs(expected));
+    return containsExactlyElementsIn(listifyNullableVarargs(expected));
   }
 
   /**
@@ -192,9 +213,21 @@ public final class StreamSubject extends Subject {
    *
    * <p>To also test that the contents appear in the given order, make a call to {@code inOrder()}
    * on the object returned by this method.
+   *
+   * <p>If the stream is {@linkplain Stream#isParallel parallel}, this check counts the elements in
+   * parallel. The {@code inOrder()} check, if any, still runs sequentially.
    */
   @CanIgnoreReturnValue
   public Ordered containsExactlyElementsIn(@Nullable Iterable<?> expected) {
+    if (parallel && expected != null) {
+      Collection<?> expectedCollection = iterableToCollection(expected);
+      if (elementCounts(checkNotNull(listSupplier.get()))
+          .equals(elementCounts(expectedCollection))) {
+        return () ->
+            checkThatContentsList().containsExactlyElementsIn(expectedCollection).inOrder();
+      }
+      return checkThatContentsList().containsExactlyElementsIn(expectedCollection);
+    }
     return checkThatContentsList().containsExactlyElementsIn(expected);
   }
 
@@ -204,8 +237,19 @@ public final class StreamSubject extends Subject {
     checkThatContentsList().containsNoneOf(first, second, rest);
   }
 
-  /** Checks that the actual stream does not contain any of the given elements. */
+  /**
+   * Checks that the actual stream does not contain any of the given elements.
+   *
+   * <p>If the stream is {@linkplain Stream#isParallel parallel}, this check searches the elements
+   * in parallel.
+   */
   public void containsNoneIn(@Nullable Iterable<?> excluded) {
+    if (parallel && excluded != null) {
+      Set<?> excludedSet = newHashSet(excluded);
+      if (checkNotNull(listSupplier.get()).parallelStream().noneMatch(excludedSet::contains)) {
+        return;
+      }
+    }
     checkThatContentsList().containsNoneIn(excluded);
   }
 
@@ -319,6 +363,41 @@ public final class StreamSubject extends Subject {
     super.isNotEqualTo(other);
   }
 
+  /**
+   * Returns an object for making assertions that read only as much of the stream as they need. For
+   * example, {@code assertThat(stream).lazily().contains(x)} stops reading the stream as soon as it
+   * finds {@code x}, so it can succeed even for an infinite stream.
+   *
+   * <p>Unlike the other assertions on this class, these assertions do not collect the stream's
+   * contents: a failure message shows only a bounded prefix of the elements that the assertion
+   * read, ending with "..." if the assertion stopped before the end of the stream. Each assertion
+   * consumes the stream, so make at most one of them per stream.
+   *
+   * @since 1.5.0
+   */
+  public IterableSubject.LazyContents lazily() {
+    Stream<?> actual = this.actual;
+    return new IterableSubject.LazyContents(
+        this, actual == null ? null : iterableOver(actual), "stream");
+  }
+
+  /** Returns an iterable whose iterator reads the given stream, so it can be iterated only once. */
+  private static <T extends @Nullable Object> Iterable<T> iterableOver(Stream<T> stream) {
+    return stream::iterator;
+  }
+
+  /**
+   * Returns the number of occurrences of each distinct element of {@code elements}, counted in
+   * parallel where the platform supports it. Null elements are counted under a private sentinel
+   * key.
+   */
+  private static Map<Object, Long> elementCounts(Collection<?> elements) {
+    return elements.parallelStream()
+        .collect(groupingBy(e -> e == null ? NULL_ELEMENT : e, counting()));
+  }
+
+  private static final Object NULL_ELEMENT = new Object();
+
   // TODO(user): Do we want to support comparingElementsUsing() on StreamSubject?
 
   /** Be careful with using this, as documented on {@link Subject#substituteCheck}. */
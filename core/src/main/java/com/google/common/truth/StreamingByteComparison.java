@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import static com.google.common.truth.Fact.fact;
+import static com.google.common.truth.Fact.simpleFact;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.collect.ImmutableList;
+import com.google.j2objc.annotations.J2ObjCIncompatible;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Incremental comparison of two sources of bytes, such as {@link InputStream}s, in constant memory.
+ *
+ * <p>Each side is read into its own fixed-size buffer one chunk at a time, and the chunks are
+ * compared before the next ones are read. Each buffer also keeps the last row of the previous chunk
+ * and has room to read a little past the current one, so that a failure can show the bytes around
+ * the first difference without having kept anything else.
+ */
+@GwtIncompatible
+@J2ObjCIncompatible
+@J2ktIncompatible
+final class StreamingByteComparison {
+  /** A blocking source of bytes, like {@link InputStream#read(byte[], int, int)}. */
+  @FunctionalInterface
+  interface ByteSource {
+    int read(byte[] buffer, int offset, int length) throws IOException;
+  }
+
+  static ByteSource source(InputStream stream) {
+    return stream::read;
+  }
+
+  /**
+   * Returns a source for the bytes of {@code channel}. Reading it fails with an {@link IOException}
+   * if the channel returns no bytes, as a channel in non-blocking mode does when none are ready,
+   * rather than retrying indefinitely.
+   */
+  static ByteSource source(ReadableByteChannel channel) {
+    return (buffer, offset, length) -> {
+      int read = channel.read(ByteBuffer.wrap(buffer, offset, length));
+      if (read == 0 && length > 0) {
+        throw new IOException(
+            "channel returned no bytes; it must be in blocking mode to be read by Truth");
+      }
+      return read;
+    };
+  }
+
+  /** Returns a source that reads at most {@code limit} bytes from {@code source}. */
+  static ByteSource limit(ByteSource source, long limit) {
+    return new ByteSource() {
+      long remaining = limit;
+
+      @Override
+      public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (remaining == 0) {
+          return -1;
+        }
+        int read = source.read(buffer, offset, (int) Math.min(length, remaining));
+        if (read > 0) {
+          remaining -= read;
+        }
+        return read;
+      }
+    };
+  }
+
+  private static final int CHUNK_SIZE = 8192;
+
+  /** The length of a row of the hex windows in failure messages. */
+  private static final int ROW = 16;
+
+  /**
+   * Compares the bytes of {@code actual} with those of {@code expected}, reading each no further
+   * than the first difference. Returns null if they have the same bytes, or else facts describing
+   * the first difference. To check only a prefix of {@code actual}, pass it through {@link #limit}.
+   */
+  static @Nullable ImmutableList<Fact> compare(ByteSource actual, ByteSource expected)
+      throws IOException {
+    Side a = new Side(actual);
+    Side b = new Side(expected);
+    for (long chunkOffset = 0; ; chunkOffset += CHUNK_SIZE) {
+      a.fill();
+      b.fill();
+      int common = Math.min(a.length, b.length);
+      int mismatch =
+          FileContents.mismatch(
+              ByteBuffer.wrap(a.buffer, ROW, common), ByteBuffer.wrap(b.buffer, ROW, common));
+      if (mismatch < 0) {
+        if (a.length == b.length) {
+          if (a.length < CHUNK_SIZE) {
+            return null;
+          }
+          continue;
+        }
+        mismatch = common;
+      }
+      long offset = chunkOffset + mismatch;
+      ImmutableList.Builder<Fact> facts = ImmutableList.builder();
+      facts.add(fact("but differed at offset", offset));
+      if (a.length < b.length && a.length == mismatch) {
+        facts.add(fact("but length was", offset));
+      } else if (b.length < a.length && b.length == mismatch) {
+        facts.add(fact("expected length", offset));
+        facts.add(simpleFact("but actual content was longer"));
+      }
+      facts.add(fact("expected bytes", b.window(chunkOffset, offset)));
+      facts.add(fact("but bytes were", a.window(chunkOffset, offset)));
+      return facts.build();
+    }
+  }
+
+  /** Reads {@code source} to its end, returning the number of bytes it had. */
+  static long length(ByteSource source) throws IOException {
+    byte[] buffer = new byte[CHUNK_SIZE];
+    long length = 0;
+    for (int read; (read = source.read(buffer, 0, buffer.length)) >= 0; ) {
+      length += read;
+    }
+    return length;
+  }
+
+  /** One side of a comparison, with the buffer that holds its current chunk. */
+  private static final class Side {
+    final ByteSource source;
+    /**
+     * The last row of the previous chunk, at {@code [ROW - tailLength, ROW)}; the current chunk, at
+     * {@code [ROW, ROW + length)}; and room for two more rows of read-ahead.
+     */
+    final byte[] buffer = new byte[ROW + CHUNK_SIZE + 2 * ROW];
+
+    int tailLength;
+    int length;
+
+    Side(ByteSource source) {
+      this.source = source;
+    }
+
+    void fill() throws IOException {
+      tailLength = Math.min(ROW, length);
+      System.arraycopy(buffer, ROW + length - tailLength, buffer, ROW - tailLength, tailLength);
+      length = readFully(ROW, CHUNK_SIZE);
+    }
+
+    /** Returns the hex window around {@code offset}, reading a little further ahead if needed. */
+    String window(long chunkOffset, long offset) throws IOException {
+      int end = ROW + length;
+      if (length == CHUNK_SIZE) {
+        end += readFully(end, 2 * ROW);
+      }
+      return FileContents.hexWindow(
+          buffer, ROW - tailLength, end, chunkOffset - tailLength, offset);
+    }
+
+    private int readFully(int offset, int length) throws IOException {
+      int total = 0;
+      while (total < length) {
+        int read = source.read(buffer, offset + total, length - total);
+        if (read < 0) {
+          break;
+        }
+        total += read;
+      }
+      return total;
+    }
+  }
+
+  private StreamingByteComparison() {}
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.truth.Fact.fact;
+import static com.google.common.truth.Fact.simpleFact;
+import static com.google.common.truth.StreamingByteComparison.limit;
+import static com.google.common.truth.StreamingByteComparison.source;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.collect.ImmutableList;
+import com.google.common.truth.StreamingByteComparison.ByteSource;
+import com.google.j2objc.annotations.J2ObjCIncompatible;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The assertions shared by {@link InputStreamSubject} and {@link ReadableByteChannelSubject}, which
+ * check the bytes that can be read from the actual value.
+ *
+ * <p>The actual value is read incrementally through a fixed-size buffer, only as far as each
+ * assertion needs, so values of any length can be checked in constant memory. It is not reset or
+ * closed afterward.
+ *
+ * @since 1.5.0
+ */
+@GwtIncompatible
+@J2ObjCIncompatible
+@J2ktIncompatible
+@IgnoreJRERequirement
+public abstract class StreamingByteSubject extends Subject {
+  private final @Nullable ByteSource actual;
+  private final String noun;
+
+  /**
+   * @param actual the actual value, for failure messages
+   * @param source the bytes of {@code actual}, or null if it is null
+   * @param noun what to call the actual value in failure messages, like "stream"
+   */
+  StreamingByteSubject(
+      FailureMetadata metadata, @Nullable Object actual, @Nullable ByteSource source, String noun) {
+    super(metadata, actual);
+    this.actual = source;
+    this.noun = noun;
+  }
+
+  /** Checks that the actual value has exactly {@code length} bytes left, reading to its end. */
+  public void hasLength(long length) {
+    checkArgument(length >= 0, "expected length (%s) must be >= 0", length);
+    if (actual == null) {
+      failWithActual("expected a " + noun + " with length", length);
+      return;
+    }
+    long actualLength;
+    try {
+      actualLength = StreamingByteComparison.length(actual);
+    } catch (IOException e) {
+      failBecauseUnreadable(e);
+      return;
+    }
+    check("length()").that(actualLength).isEqualTo(length);
+  }
+
+  /**
+   * Checks that the actual value starts with the given bytes. It is read only until the prefix ends
+   * or a difference is found, and never more than {@code prefix.length} bytes.
+   */
+  public void startsWith(byte[] prefix) {
+    checkNotNull(prefix);
+    compare(
+        simpleFact("expected to start with the given bytes"),
+        actual == null ? null : limit(actual, prefix.length),
+        source(new ByteArrayInputStream(prefix)));
+  }
+
+  /** Checks that the bytes of the actual value are exactly {@code expected}. */
+  public void hasContent(byte[] expected) {
+    checkNotNull(expected);
+    compare(
+        simpleFact("expected to have the given content"),
+        actual,
+        source(new ByteArrayInputStream(expected)));
+  }
+
+  /**
+   * Checks that the actual value has the same bytes as {@code expected}. Both are read up to their
+   * first difference, and neither is closed.
+   */
+  public void hasSameContentAs(InputStream expected) {
+    checkNotNull(expected);
+    compare(
+        simpleFact("expected to have the same content as the given stream"),
+        actual,
+        source(expected));
+  }
+
+  /** Checks that the actual value has the same bytes as the file located by {@code expected}. */
+  public void hasSameContentAs(Path expected) {
+    checkNotNull(expected);
+    try (InputStream expectedStream = Files.newInputStream(expected)) {
+      compare(
+          fact("expected to have the same content as", expected),
+          actual,
+          source(expectedStream));
+    } catch (IOException e) {
+      failBecauseUnreadable(e);
+    }
+  }
+
+  /**
+   * Compares {@code source}, which reads the actual value, with {@code expected}.
+   *
+   * @param source the bytes of the actual value, or null if it is null
+   */
+  private void compare(Fact expectation, @Nullable ByteSource source, ByteSource expected) {
+    if (source == null) {
+      failWithActual(expectation);
+      return;
+    }
+    ImmutableList<Fact> difference;
+    try {
+      difference = StreamingByteComparison.compare(source, expected);
+    } catch (IOException e) {
+      failBecauseUnreadable(e);
+      return;
+    }
+    if (difference != null) {
+      failWithoutActual(
+          ImmutableList.<Fact>builder().add(expectation).addAll(difference).build());
+    }
+  }
+
+  private void failBecauseUnreadable(IOException e) {
+    failWithoutActual(fact("could not read " + noun + " because of", e));
+  }
+}
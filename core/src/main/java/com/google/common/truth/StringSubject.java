@@ -17,10 +17,14 @@ package com.google.common.truth;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Strings.lenientFormat;
 import static com.google.common.truth.Fact.fact;
 import static com.google.common.truth.Fact.simpleFact;
 
 import com.google.common.annotations.GwtIncompatible;
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.jspecify.annotations.Nullable;
@@ -95,6 +99,120 @@ public class StringSubject extends ComparableSubject<String> {
     }
   }
 
+  /**
+   * Checks that the actual value contains all of the given sequences. The actual value is scanned
+   * only once, however many sequences are given.
+   *
+   * @since 1.5.0
+   */
+  public void containsAllOf(CharSequence first, CharSequence... rest) {
+    containsAllIn(Lists.asList(first, rest));
+  }
+
+  /**
+   * Checks that the actual value contains all of the given sequences. The actual value is scanned
+   * only once, however many sequences are given.
+   *
+   * @since 1.5.0
+   */
+  public void containsAllIn(Iterable<? extends CharSequence> strings) {
+    List<String> expected = toStrings(strings);
+    if (actual == null) {
+      failWithActual("expected a string that contains all of", expected);
+      return;
+    }
+    int[] offsets = new AhoCorasick(expected).firstOccurrences(actual, expected.size());
+    List<String> missing = new ArrayList<>();
+    for (int i = 0; i < offsets.length; i++) {
+      if (offsets[i] < 0) {
+        missing.add(expected.get(i));
+      }
+    }
+    if (!missing.isEmpty()) {
+      failWithoutActual(
+          fact("expected to contain all of", expected),
+          fact("missing (" + missing.size() + ")", missing),
+          butWas());
+    }
+  }
+
+  /**
+   * Checks that the actual value contains at least one of the given sequences. The actual value is
+   * scanned at most once, however many sequences are given.
+   *
+   * @since 1.5.0
+   */
+  public void containsAnyOf(CharSequence first, CharSequence... rest) {
+    containsAnyIn(Lists.asList(first, rest));
+  }
+
+  /**
+   * Checks that the actual value contains at least one of the given sequences. The actual value is
+   * scanned at most once, however many sequences are given.
+   *
+   * @since 1.5.0
+   */
+  public void containsAnyIn(Iterable<? extends CharSequence> strings) {
+    List<String> expected = toStrings(strings);
+    if (actual == null) {
+      failWithActual("expected a string that contains any of", expected);
+      return;
+    }
+    int[] offsets = new AhoCorasick(expected).firstOccurrences(actual, 1);
+    for (int offset : offsets) {
+      if (offset >= 0) {
+        return;
+      }
+    }
+    failWithActual("expected to contain any of", expected);
+  }
+
+  /**
+   * Checks that the actual value contains none of the given sequences. The actual value is scanned
+   * only once, however many sequences are given.
+   *
+   * @since 1.5.0
+   */
+  public void containsNoneOf(CharSequence first, CharSequence... rest) {
+    containsNoneIn(Lists.asList(first, rest));
+  }
+
+  /**
+   * Checks that the actual value contains none of the given sequences. The actual value is scanned
+   * only once, however many sequences are given. On failure, each sequence that was found is
+   * reported with the offset of its first occurrence.
+   *
+   * @since 1.5.0
+   */
+  public void containsNoneIn(Iterable<? extends CharSequence> strings) {
+    List<String> excluded = toStrings(strings);
+    if (actual == null) {
+      failWithActual("expected a string that does not contain any of", excluded);
+      return;
+    }
+    int[] offsets = new AhoCorasick(excluded).firstOccurrences(actual, excluded.size());
+    List<String> found = new ArrayList<>();
+    for (int i = 0; i < offsets.length; i++) {
+      if (offsets[i] >= 0) {
+        found.add(lenientFormat("%s (at offset %s)", excluded.get(i), offsets[i]));
+      }
+    }
+    if (!found.isEmpty()) {
+      failWithoutActual(
+          fact("expected not to contain any of", excluded),
+          fact("but contained", found),
+          butWas());
+    }
+  }
+
+  private static List<String> toStrings(Iterable<? extends CharSequence> strings) {
+    List<String> result = new ArrayList<>();
+    for (CharSequence string : strings) {
+      result.add(checkNotNull(string).toString());
+    }
+    return result;
+  }
+
   /** Checks that the actual value starts with the given string. */
   public void startsWith(@Nullable String string) {
     checkNotNull(string);
@@ -334,7 +452,41 @@ public class StringSubject extends ComparableSubject<String> {
       }
     }
 
+    /**
+     * Returns whether some region of {@code actual} {@linkplain String#regionMatches(boolean, int,
+     * String, int, int) matches} {@code string} when ignoring case.
+     *
+     * <p>For a needle without surrogates, this searches over characters folded the way {@code
+     * regionMatches} compares them, and confirms each candidate with {@code regionMatches} itself.
+     * Folding a character that isn't a surrogate never produces one, so no surrogate in {@code
+     * actual} can be part of a match, whether or not the JDK's {@code regionMatches} compares
+     * supplementary code points. Other needles are searched for with {@code regionMatches} at every
+     * offset.
+     */
     private static boolean containsIgnoreCase(String actual, String string) {
+      for (int i = 0; i < string.length(); i++) {
+        char c = string.charAt(i);
+        if (Character.isHighSurrogate(c) || Character.isLowSurrogate(c)) {
+          return containsIgnoreCaseAtAnyOffset(actual, string);
+        }
+      }
+      SubstringSearch search = new SubstringSearch(string, /* ignoreCase= */ true);
+      for (int offset = search.indexIn(actual, 0);
+          offset >= 0;
+          offset = search.indexIn(actual, offset + 1)) {
+        if (actual.regionMatches(
+            /* ignoreCase= */ true,
+            /* toffset= */ offset,
+            /* other= */ string,
+            /* ooffset= */ 0,
+            /* len= */ string.length())) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private static boolean containsIgnoreCaseAtAnyOffset(String actual, String string) {
       for (int actualOffset = 0;
           actualOffset <= actual.length() - string.length();
           actualOffset++) {
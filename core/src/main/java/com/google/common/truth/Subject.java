@@ -51,6 +51,7 @@ import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.primitives.Primitives;
 import com.google.common.truth.FailureMetadata.OldAndNewValuesAreSimilar;
+import com.google.common.truth.TruthInstrumentation.Work;
 import com.google.errorprone.annotations.DoNotCall;
 import com.google.errorprone.annotations.ForOverride;
 import java.lang.reflect.Array;
@@ -103,6 +104,13 @@ public class Subject {
   protected Subject(FailureMetadata metadata, @Nullable Object actual) {
     this.metadata = metadata.updateForSubject(this);
     this.actual = actual;
+    TruthInstrumentation instrumentation = TruthInstrumentation.installed();
+    if (instrumentation != null) {
+      instrumentation.subjectCreated(getClass());
+      if (metadata.startsAssertion()) {
+        instrumentation.assertionStarted(getClass());
+      }
+    }
   }
 
   /** Checks that the value under test is null. */
@@ -508,6 +516,11 @@ public class Subject {
       return new ComparisonResult(ImmutableList.copyOf(facts));
     }
 
+    /** Returns a non-equal result with the given description. */
+    static ComparisonResult differentWithDescription(ImmutableList<Fact> facts) {
+      return new ComparisonResult(facts);
+    }
+
     /** Returns an equal result. */
     static ComparisonResult equal() {
       return EQUAL;
@@ -545,16 +558,126 @@ public class Subject {
   /**
    * Returns {@link ComparisonResult#equal} if the arrays are equal. If not equal, returns a string
    * comparing the two arrays, displaying them in the style "[1, 2, 3]" to supplement the main
-   * failure message, which uses the style "010203."
+   * failure message, which uses the style "010203." Arrays too long to display in full are instead
+   * described by their lengths and the bytes around their first and last differences.
    */
   private static ComparisonResult checkByteArrayEquals(byte[] expected, byte[] actual) {
     if (Arrays.equals(expected, actual)) {
       return ComparisonResult.equal();
     }
+    if (isLargeByteArrayPair(expected, actual)) {
+      return ComparisonResult.differentWithDescription(
+          describeByteArrayDifference(expected, actual));
+    }
     return ComparisonResult.differentWithDescription(
         fact("expected", Arrays.toString(expected)), fact("but was", Arrays.toString(actual)));
   }
 
+  /**
+   * Whether the arrays are too long to be rendered in full in a failure message. For such arrays,
+   * {@link #checkByteArrayEquals} describes only the regions around the first and last differences,
+   * and {@link #failEqualityCheck} reports that description alone.
+   */
+  private static boolean isLargeByteArrayPair(@Nullable Object expected, @Nullable Object actual) {
+    return expected instanceof byte[]
+        && actual instanceof byte[]
+        && Math.max(((byte[]) expected).length, ((byte[]) actual).length)
+            > MAX_FULLY_RENDERED_BYTE_ARRAY_LENGTH;
+  }
+
+  private static final int MAX_FULLY_RENDERED_BYTE_ARRAY_LENGTH = 4 * 1024;
+
+  /** The number of bytes shown on each side of a difference between large byte arrays. */
+  private static final int BYTE_ARRAY_WINDOW_RADIUS = 8;
+
+  /**
+   * Describes the difference between two unequal byte arrays by their lengths and the bytes around
+   * the first and last differences. The last difference is the last index, within the length of
+   * the shorter array, at which the arrays differ; any difference in length is shown by the lengths
+   * themselves.
+   */
+  private static ImmutableList<Fact> describeByteArrayDifference(byte[] expected, byte[] actual) {
+    int common = Math.min(expected.length, actual.length);
+    int first = Platform.mismatch(expected, actual, 0, common);
+    if (first < 0) {
+      first = common;
+    }
+    int last = lastMismatch(expected, actual, first, common);
+
+    ImmutableList.Builder<Fact> facts = ImmutableList.builder();
+    if (expected.length == actual.length) {
+      facts.add(fact("length", actual.length));
+    } else {
+      facts.add(fact("expected length", expected.length));
+      facts.add(fact("but length was", actual.length));
+    }
+    facts.add(fact("first difference at index", first));
+    facts.add(fact("expected", byteArrayWindow(expected, first)));
+    facts.add(fact("but was", byteArrayWindow(actual, first)));
+    if (last > first) {
+      facts.add(fact("last difference at index", last));
+      facts.add(fact("expected near last difference", byteArrayWindow(expected, last)));
+      facts.add(fact("but was near last difference", byteArrayWindow(actual, last)));
+    }
+    return facts.build();
+  }
+
+  /**
+   * Returns the last index in {@code (first, end)} at which the arrays differ, or {@code first} if
+   * there is none. The range is searched backwards a block at a time with {@link
+   * Platform#mismatch}, so that only the block holding the last difference is scanned byte by
+   * byte.
+   */
+  private static int lastMismatch(byte[] expected, byte[] actual, int first, int end) {
+    for (int to = end; to > first + 1; ) {
+      int from = Math.max(first + 1, to - BYTE_ARRAY_MISMATCH_BLOCK);
+      if (Platform.mismatch(expected, actual, from, to) >= 0) {
+        int last = to - 1;
+        while (expected[last] == actual[last]) {
+          last--;
+        }
+        return last;
+      }
+      to = from;
+    }
+    return first;
+  }
+
+  private static final int BYTE_ARRAY_MISMATCH_BLOCK = 1024;
+
+  /**
+   * Returns the bytes around {@code index} in base16, with the byte at {@code index} in brackets,
+   * like "... 0A 0B [0C] 0D ...". If {@code index} is past the end of the array, the window ends
+   * with "(end)".
+   */
+  private static String byteArrayWindow(byte[] bytes, int index) {
+    int from = Math.max(0, index - BYTE_ARRAY_WINDOW_RADIUS);
+    int to = Math.min(bytes.length, index + BYTE_ARRAY_WINDOW_RADIUS + 1);
+    StringBuilder sb = new StringBuilder();
+    if (from > 0) {
+      sb.append("...");
+    }
+    for (int i = from; i < to; i++) {
+      if (sb.length() > 0) {
+        sb.append(' ');
+      }
+      byte b = bytes[i];
+      if (i == index) {
+        sb.append('[');
+      }
+      sb.append(hexDigitsUpper[(b >> 4) & 0xf]).append(hexDigitsUpper[b & 0xf]);
+      if (i == index) {
+        sb.append(']');
+      }
+    }
+    if (index >= bytes.length) {
+      sb.append(sb.length() > 0 ? " (end)" : "(end)");
+    } else if (to < bytes.length) {
+      sb.append(" ...");
+    }
+    return sb.toString();
+  }
+
   /**
    * Returns {@link ComparisonResult#equal} if the arrays are equal, recursively. If not equal,
    * returns the string of the index at which they're different.
@@ -810,7 +933,10 @@ public class Subject {
    * the user, see {@link #ignoreCheck()}.
    */
   protected final void failWithActual(Fact first, Fact... rest) {
-    metadata.fail(sandwich(first, rest, butWas()));
+    // Start timing before butWas() renders the actual value.
+    TruthInstrumentation instrumentation = TruthInstrumentation.installed();
+    long startNanos = instrumentation == null ? 0 : instrumentation.start(Work.FAILURE);
+    metadata.fail(sandwich(first, rest, butWas()), instrumentation, startNanos);
   }
 
   // TODO(cpovirk): Consider making this protected if there's a need for it.
@@ -826,7 +952,9 @@ public class Subject {
    * the user, see {@link #ignoreCheck()}.
    */
   final void failWithActual(Iterable<Fact> facts) {
-    metadata.fail(append(ImmutableList.copyOf(facts), butWas()));
+    TruthInstrumentation instrumentation = TruthInstrumentation.installed();
+    long startNanos = instrumentation == null ? 0 : instrumentation.start(Work.FAILURE);
+    metadata.fail(append(ImmutableList.copyOf(facts), butWas()), instrumentation, startNanos);
   }
 
   enum EqualityCheck {
@@ -869,6 +997,16 @@ public class Subject {
    */
   private void failEqualityCheck(
       EqualityCheck equalityCheck, @Nullable Object expected, ComparisonResult difference) {
+    if (equalityCheck == EqualityCheck.EQUAL
+        && isLargeByteArrayPair(expected, actual)
+        && !difference.factsOrEmpty().isEmpty()) {
+      // Don't render the whole arrays: The description already shows where they differ.
+      failWithoutActual(difference.factsOrEmpty());
+      return;
+    }
+    // Start timing before the values are rendered, which is usually the bulk of the work.
+    TruthInstrumentation instrumentation = TruthInstrumentation.installed();
+    long startNanos = instrumentation == null ? 0 : instrumentation.start(Work.FAILURE);
     String actualString = actualCustomStringRepresentation();
     String expectedString = formatActualOrExpected(expected);
     String actualClass = actual == null ? "(null reference)" : longName(actual.getClass());
@@ -904,11 +1042,15 @@ public class Subject {
                 : "(non-equal instance of same class with same string representation)";
         failEqualityCheckNoComparisonFailure(
             difference,
+            instrumentation,
+            startNanos,
             fact(equalityCheck.keyForExpected, expectedString),
             fact("but was", doppelgangerDescription));
       } else {
         failEqualityCheckNoComparisonFailure(
             difference,
+            instrumentation,
+            startNanos,
             fact(equalityCheck.keyForExpected, expectedString),
             fact("an instance of", expectedClass),
             fact("but was", "(non-equal value with same string representation)"),
@@ -916,10 +1058,13 @@ public class Subject {
       }
     } else {
       if (equalityCheck == EqualityCheck.EQUAL && actual != null && expected != null) {
-        metadata.failEqualityCheck(difference.factsOrEmpty(), expectedString, actualString);
+        metadata.failEqualityCheck(
+            difference.factsOrEmpty(), expectedString, actualString, instrumentation, startNanos);
       } else {
         failEqualityCheckNoComparisonFailure(
             difference,
+            instrumentation,
+            startNanos,
             fact(equalityCheck.keyForExpected, expectedString),
             fact("but was", actualString));
       }
@@ -1037,9 +1182,14 @@ public class Subject {
     return r;
   }
 
-  private void failEqualityCheckNoComparisonFailure(ComparisonResult difference, Fact... facts) {
+  private void failEqualityCheckNoComparisonFailure(
+      ComparisonResult difference,
+      @Nullable TruthInstrumentation instrumentation,
+      long startNanos,
+      Fact... facts) {
     // TODO(cpovirk): Is it possible for difference.factsOrEmpty() to be nonempty? If not, remove.
-    metadata.fail(concat(asList(facts), difference.factsOrEmpty()));
+    metadata.fail(
+        concat(asList(facts), difference.factsOrEmpty()), instrumentation, startNanos);
   }
 
   /**
@@ -1267,6 +1417,7 @@ public class Subject {
   private static final ImmutableMap<Class<? extends Subject>, String> TYPE_DESCRIPTION_OVERRIDES =
       new ImmutableMap.Builder<Class<? extends Subject>, String>()
           // keep-sorted start
+          .put(DoubleStreamSubject.class, "stream")
           .put(GuavaOptionalSubject.class, "optional")
           .put(IntStreamSubject.class, "stream")
           .put(IterableSubject.class, "iterable")
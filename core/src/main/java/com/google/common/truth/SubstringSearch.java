@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import java.util.Arrays;
+
+/**
+ * A Boyer-Moore-Horspool search for occurrences of a needle in {@link CharSequence}s, optionally
+ * ignoring case. The shifts are keyed by the low byte of each character, so the table stays small
+ * whatever characters the needle has.
+ */
+final class SubstringSearch {
+  private final char[] pattern;
+  private final int[] shifts;
+  private final boolean ignoreCase;
+
+  SubstringSearch(CharSequence needle, boolean ignoreCase) {
+    int length = needle.length();
+    this.pattern = new char[length];
+    for (int i = 0; i < length; i++) {
+      pattern[i] = fold(needle.charAt(i), ignoreCase);
+    }
+    // Characters that share a low byte get the smallest of their shifts, which is always safe.
+    this.shifts = new int[256];
+    Arrays.fill(shifts, length);
+    for (int i = 0; i < length - 1; i++) {
+      shifts[pattern[i] & 0xFF] = length - 1 - i;
+    }
+    this.ignoreCase = ignoreCase;
+  }
+
+  /**
+   * Returns the offset of the first occurrence of {@code needle} in {@code text}, or -1. When
+   * ignoring case, characters are compared by their {@linkplain #fold folded} forms.
+   */
+  static int indexOf(CharSequence text, CharSequence needle, boolean ignoreCase) {
+    return new SubstringSearch(needle, ignoreCase).indexIn(text, 0);
+  }
+
+  /**
+   * Returns the offset of the first occurrence of the needle in {@code text} at or after {@code
+   * fromIndex}, or -1.
+   */
+  int indexIn(CharSequence text, int fromIndex) {
+    int length = pattern.length;
+    if (length == 0) {
+      return fromIndex <= text.length() ? fromIndex : -1;
+    }
+    char last = pattern[length - 1];
+    for (int offset = fromIndex; offset <= text.length() - length; ) {
+      char c = fold(text.charAt(offset + length - 1), ignoreCase);
+      if (c == last && matchesBeforeLast(text, offset)) {
+        return offset;
+      }
+      offset += shifts[c & 0xFF];
+    }
+    return -1;
+  }
+
+  private boolean matchesBeforeLast(CharSequence text, int offset) {
+    for (int i = pattern.length - 2; i >= 0; i--) {
+      if (fold(text.charAt(offset + i), ignoreCase) != pattern[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Folds case the way {@link String#regionMatches(boolean, int, String, int, int)} compares
+   * {@code char} values: two characters are equal ignoring case exactly when their folded forms
+   * are equal.
+   */
+  static char fold(char c, boolean ignoreCase) {
+    return ignoreCase ? Character.toLowerCase(Character.toUpperCase(c)) : c;
+  }
+}
@@ -15,12 +15,19 @@
  */
 package com.google.common.truth;
 
+import static com.google.common.collect.Maps.immutableEntry;
 import static com.google.common.truth.Fact.fact;
 import static com.google.common.truth.Fact.simpleFact;
 
+import com.google.common.collect.HashBasedTable;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableTable;
 import com.google.common.collect.Table;
 import com.google.common.collect.Table.Cell;
 import com.google.common.collect.Tables;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import org.jspecify.annotations.Nullable;
 
 /** A subject for {@link Table} values. */
@@ -183,6 +190,226 @@ public final class TableSubject extends Subject {
     }
   }
 
+  /**
+   * Checks that the actual table contains exactly the cells in the given table: the same row-column
+   * key pairs, each mapped to an equal value.
+   *
+   * <p>On failure, the differences are reported grouped by row: cells with a different value,
+   * cells that are missing, and cells that were not expected. Only the first 100 differences of
+   * each kind are listed, and tables with more than 100 cells are summarized by their size.
+   *
+   * @since 1.5.0
+   */
+  public void containsExactlyCellsIn(@Nullable Table<?, ?, ?> expected) {
+    containsCellsIn(expected, /* allowUnexpected= */ false);
+  }
+
+  /**
+   * Checks that the actual table contains at least the cells in the given table: each of its
+   * row-column key pairs, mapped to an equal value. Failures are reported as for {@link
+   * #containsExactlyCellsIn}.
+   *
+   * @since 1.5.0
+   */
+  public void containsAtLeastCellsIn(@Nullable Table<?, ?, ?> expected) {
+    containsCellsIn(expected, /* allowUnexpected= */ true);
+  }
+
+  private void containsCellsIn(@Nullable Table<?, ?, ?> expected, boolean allowUnexpected) {
+    if (expected == null) {
+      failWithoutActual(
+          simpleFact("could not perform containment check because expected table was null"),
+          actualValue("actual contents"));
+      return;
+    } else if (actual == null) {
+      failWithActual(
+          allowUnexpected
+              ? "expected a table that contains at least"
+              : "expected a table that contains exactly",
+          expected);
+      return;
+    }
+    TableDifference diff = TableDifference.create(actual, expected, allowUnexpected);
+    if (diff.isEmpty()) {
+      return;
+    }
+    String expectedKey = allowUnexpected ? "expected to contain at least" : "expected";
+    failWithoutActual(
+        factsBuilder()
+            .addAll(diff.describe())
+            .add(simpleFact("---"))
+            .add(
+                expected.size() <= MAX_REPORTED_CELLS
+                    ? fact(expectedKey, expected)
+                    : fact(expectedKey, "a table with " + expected.size() + " cells"))
+            .add(
+                actual.size() <= MAX_REPORTED_CELLS
+                    ? butWas()
+                    : fact("but was", "a table with " + actual.size() + " cells"))
+            .build());
+  }
+
+  /**
+   * The maximum number of cells of each kind that a failure message lists individually, and the
+   * largest table whose contents it prints in full.
+   */
+  private static final int MAX_REPORTED_CELLS = 100;
+
+  /**
+   * The differences between two tables. When both tables match keys by {@link Object#equals}, it
+   * walks the expected table one row at a time, looking up each row of the actual table once, and
+   * walks the actual table only when looking for unexpected cells in a check that is already known
+   * to fail. Otherwise, it matches cells by {@code equals} against a copy of the actual cells, so
+   * that a table with a looser notion of key equality can't match one actual cell to several
+   * expected cells.
+   */
+  private static final class TableDifference {
+    private final CellsByRow<ValueDifference> wrongValues = new CellsByRow<>();
+    private final CellsByRow<@Nullable Object> missing = new CellsByRow<>();
+    private final CellsByRow<@Nullable Object> unexpected = new CellsByRow<>();
+
+    static TableDifference create(
+        Table<?, ?, ?> actual, Table<?, ?, ?> expected, boolean allowUnexpected) {
+      if (!hasHashEquality(actual) || !hasHashEquality(expected)) {
+        return createByCopying(actual, expected, allowUnexpected);
+      }
+      TableDifference diff = new TableDifference();
+      Map<?, ? extends Map<?, ?>> actualRows = actual.rowMap();
+      Map<?, ? extends Map<?, ?>> expectedRows = expected.rowMap();
+      for (Map.Entry<?, ? extends Map<?, ?>> expectedRow : expectedRows.entrySet()) {
+        Object rowKey = expectedRow.getKey();
+        Map<?, ?> actualRow = actualRows.get(rowKey);
+        for (Map.Entry<?, ?> expectedCell : expectedRow.getValue().entrySet()) {
+          Object columnKey = expectedCell.getKey();
+          Object expectedValue = expectedCell.getValue();
+          if (actualRow == null || !actualRow.containsKey(columnKey)) {
+            diff.missing.add(rowKey, columnKey, expectedValue);
+          } else {
+            diff.testValue(rowKey, columnKey, actualRow.get(columnKey), expectedValue);
+          }
+        }
+      }
+      // Each expected cell matched a distinct actual cell, so equal sizes rule out unexpected ones.
+      if (!allowUnexpected && (!diff.isEmpty() || actual.size() != expected.size())) {
+        for (Map.Entry<?, ? extends Map<?, ?>> actualRow : actualRows.entrySet()) {
+          Map<?, ?> expectedRow = expectedRows.get(actualRow.getKey());
+          for (Map.Entry<?, ?> actualCell : actualRow.getValue().entrySet()) {
+            if (expectedRow == null || !expectedRow.containsKey(actualCell.getKey())) {
+              diff.unexpected.add(actualRow.getKey(), actualCell.getKey(), actualCell.getValue());
+            }
+          }
+        }
+      }
+      return diff;
+    }
+
+    private static TableDifference createByCopying(
+        Table<?, ?, ?> actual, Table<?, ?, ?> expected, boolean allowUnexpected) {
+      TableDifference diff = new TableDifference();
+      Map<Map.Entry<?, ?>, @Nullable Object> unmatched = new LinkedHashMap<>();
+      for (Cell<?, ?, ?> cell : actual.cellSet()) {
+        unmatched.put(immutableEntry(cell.getRowKey(), cell.getColumnKey()), cell.getValue());
+      }
+      for (Cell<?, ?, ?> cell : expected.cellSet()) {
+        Map.Entry<?, ?> key = immutableEntry(cell.getRowKey(), cell.getColumnKey());
+        if (unmatched.containsKey(key)) {
+          diff.testValue(
+              cell.getRowKey(), cell.getColumnKey(), unmatched.remove(key), cell.getValue());
+        } else {
+          diff.missing.add(cell.getRowKey(), cell.getColumnKey(), cell.getValue());
+        }
+      }
+      if (!allowUnexpected) {
+        for (Map.Entry<Map.Entry<?, ?>, @Nullable Object> cell : unmatched.entrySet()) {
+          diff.unexpected.add(cell.getKey().getKey(), cell.getKey().getValue(), cell.getValue());
+        }
+      }
+      return diff;
+    }
+
+    /**
+     * Returns whether {@code table} is of a type known to match keys by {@link Object#hashCode} and
+     * {@link Object#equals} (and not, for example, by a comparator).
+     */
+    private static boolean hasHashEquality(Table<?, ?, ?> table) {
+      return table instanceof HashBasedTable || table instanceof ImmutableTable;
+    }
+
+    private void testValue(
+        @Nullable Object rowKey,
+        @Nullable Object columnKey,
+        @Nullable Object actualValue,
+        @Nullable Object expectedValue) {
+      if (!Objects.equals(actualValue, expectedValue)) {
+        wrongValues.add(rowKey, columnKey, new ValueDifference(actualValue, expectedValue));
+      }
+    }
+
+    boolean isEmpty() {
+      return wrongValues.count == 0 && missing.count == 0 && unexpected.count == 0;
+    }
+
+    ImmutableList<Fact> describe() {
+      ImmutableList.Builder<Fact> facts = factsBuilder();
+      if (wrongValues.count > 0) {
+        facts.add(simpleFact("cells with wrong values"));
+        for (Map.Entry<?, Map<@Nullable Object, ValueDifference>> row :
+            wrongValues.rows.entrySet()) {
+          facts.add(fact("in row", row.getKey()));
+          for (Map.Entry<?, ValueDifference> cell : row.getValue().entrySet()) {
+            facts.add(fact("for column", cell.getKey()));
+            facts.add(fact("expected value", cell.getValue().expected));
+            facts.add(fact("but got value", cell.getValue().actual));
+          }
+        }
+        wrongValues.addOmittedCount(facts);
+      }
+      missing.describe(facts, "missing cells", "missing");
+      unexpected.describe(facts, "unexpected cells", "unexpected");
+      return facts.build();
+    }
+  }
+
+  /** Up to {@link #MAX_REPORTED_CELLS} cells grouped by row, plus a count of all cells added. */
+  private static final class CellsByRow<V extends @Nullable Object> {
+    final Map<@Nullable Object, Map<@Nullable Object, V>> rows = new LinkedHashMap<>();
+    int count;
+
+    void add(@Nullable Object rowKey, @Nullable Object columnKey, V value) {
+      if (count++ < MAX_REPORTED_CELLS) {
+        rows.computeIfAbsent(rowKey, k -> new LinkedHashMap<>()).put(columnKey, value);
+      }
+    }
+
+    void describe(ImmutableList.Builder<Fact> facts, String header, String cellsKey) {
+      if (count == 0) {
+        return;
+      }
+      facts.add(simpleFact(header));
+      for (Map.Entry<?, Map<@Nullable Object, V>> row : rows.entrySet()) {
+        facts.add(fact("in row", row.getKey()));
+        facts.add(fact(cellsKey, row.getValue()));
+      }
+      addOmittedCount(facts);
+    }
+
+    void addOmittedCount(ImmutableList.Builder<Fact> facts) {
+      if (count > MAX_REPORTED_CELLS) {
+        facts.add(fact("cells not shown", count - MAX_REPORTED_CELLS));
+      }
+    }
+  }
+
+  private static final class ValueDifference {
+    final @Nullable Object actual;
+    final @Nullable Object expected;
+
+    ValueDifference(@Nullable Object actual, @Nullable Object expected) {
+      this.actual = actual;
+      this.expected = expected;
+    }
+  }
+
   private Fact fullContents() {
     return actualValue("full contents");
   }
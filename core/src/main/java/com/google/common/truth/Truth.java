@@ -27,6 +27,7 @@ import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
@@ -362,7 +363,14 @@ public final class Truth {
     return assert_().that(actual);
   }
 
-  // TODO(b/64757353): Add support for DoubleStream?
+  /**
+   * Begins an assertion about a {@link DoubleStream}.
+   *
+   * @since 1.5.0
+   */
+  public static DoubleStreamSubject assertThat(@Nullable DoubleStream actual) {
+    return assert_().that(actual);
+  }
 
   /**
    * Begins an assertion about a {@link Path}.
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A listener that is told about the work Truth does while creating subjects and reporting
+ * failures, for measuring where a test suite spends its time in Truth.
+ *
+ * <p>At most one instrumentation is active at a time. On the JVM, Truth looks for one with {@link
+ * java.util.ServiceLoader} when it first needs it, and {@link #install} replaces it at any time.
+ * {@link CountingTruthInstrumentation} is a ready-made implementation that keeps totals.
+ *
+ * <p>Every method has an empty default implementation, so implementations override only the events
+ * they care about. Methods may be called from any thread, concurrently, and they are called on the
+ * thread that is performing the assertion, so they should be fast and must not throw. Elapsed times
+ * come from {@link System#nanoTime}. When no instrumentation is installed, Truth neither reads the
+ * clock nor allocates anything on its behalf.
+ *
+ * @since 1.5.0
+ */
+public abstract class TruthInstrumentation {
+  private static volatile @Nullable TruthInstrumentation current = Platform.loadInstrumentation();
+
+  /** Constructor for use by subclasses. */
+  protected TruthInstrumentation() {}
+
+  /**
+   * Makes the given instrumentation the active one, replacing any that was discovered or installed
+   * previously. Passing {@code null} turns instrumentation off.
+   */
+  public static void install(@Nullable TruthInstrumentation instrumentation) {
+    current = instrumentation;
+  }
+
+  /** Returns the active instrumentation, or {@code null} if there is none. */
+  public static @Nullable TruthInstrumentation installed() {
+    return current;
+  }
+
+  /**
+   * The kinds of timed work that Truth reports to instrumentation. For each, Truth calls {@link
+   * #workStarted} just before it starts the work, and later reports how the work ended, on the same
+   * thread, to the callback named for it. The end isn't reported if the work throws.
+   */
+  enum Work {
+    /**
+     * Reporting a failure, which ends with {@link #failureFormatted} once its error is built and
+     * then with {@link #assertionFailed} once the {@link FailureStrategy} has returned.
+     */
+    FAILURE,
+    /** Cleaning a stack trace, which ends with {@link #stackTraceCleaned}. */
+    STACK_TRACE_CLEANING,
+    /** Inferring a description of the actual value, ending with {@link #descriptionInferred}. */
+    DESCRIPTION_INFERENCE,
+    /** Computing a diff, which ends with {@link #diffComputed}. */
+    DIFF,
+  }
+
+  /**
+   * Called just before Truth starts work of the given kind, for implementations that mark the
+   * start of the work themselves rather than relying on the elapsed times passed to the callbacks.
+   */
+  void workStarted(Work work) {}
+
+  /** Calls {@link #workStarted} and then returns the current {@link System#nanoTime}. */
+  final long start(Work work) {
+    workStarted(work);
+    return System.nanoTime();
+  }
+
+  /** Called when a subject of the given class is constructed. */
+  public void subjectCreated(Class<?> subjectClass) {}
+
+  /**
+   * Called when a subject of the given class is constructed to start an assertion, as by {@code
+   * assertThat} or {@code expect.that}, rather than derived from another subject, as by {@link
+   * Subject#check} or {@link ThrowableSubject#hasMessageThat}.
+   *
+   * <p>This is the outcome event for passing assertions: An assertion that starts and is not
+   * followed by {@link #assertionFailed} for the same chain has passed. Truth can't observe the
+   * moment an assertion method returns, so it has no separate callback for a pass.
+   */
+  public void assertionStarted(Class<?> subjectClass) {}
+
+  /**
+   * Called after an assertion fails and its failure has been handed to the {@link FailureStrategy}
+   * (whether or not the strategy threw).
+   *
+   * @param subjectClass the class of the subject whose assertion failed, or {@code null} if the
+   *     failure came from {@link StandardSubjectBuilder#fail()}
+   * @param factCount the number of facts that the assertion reported
+   * @param elapsedNanos the time from the start of failure reporting until the strategy returned
+   */
+  public void assertionFailed(@Nullable Class<?> subjectClass, int factCount, long elapsedNanos) {}
+
+  /**
+   * Called when Truth has built the {@link AssertionError} for a failure, including its message,
+   * description, and any inferred description or diff.
+   *
+   * @param factCount the number of facts that the assertion reported
+   * @param elapsedNanos the time spent building the error, starting before Truth renders the
+   *     actual and expected values for its facts
+   */
+  public void failureFormatted(int factCount, long elapsedNanos) {}
+
+  /**
+   * Called after Truth cleans the stack trace of a failure.
+   *
+   * @param originalFrames the number of frames before cleaning
+   * @param cleanedFrames the number of frames after cleaning
+   * @param elapsedNanos the time spent cleaning
+   */
+  public void stackTraceCleaned(int originalFrames, int cleanedFrames, long elapsedNanos) {}
+
+  /**
+   * Called after Truth tries to infer a description of the actual value from the bytecode of the
+   * test.
+   *
+   * @param inferred whether a description was found
+   * @param elapsedNanos the time spent reading and analyzing the bytecode
+   */
+  public void descriptionInferred(boolean inferred, long elapsedNanos) {}
+
+  /**
+   * Called after Truth computes a line-based diff between two strings.
+   *
+   * @param expectedLines the number of lines in the expected string
+   * @param actualLines the number of lines in the actual string
+   * @param elapsedNanos the time spent computing the diff
+   */
+  public void diffComputed(int expectedLines, int actualLines, long elapsedNanos) {}
+
+  /**
+   * Called when a regex assertion that takes its regex as a {@code String}, in Truth or its RE2/J
+   * extension, looks up the compiled form of that regex in a cache of compiled patterns.
+   *
+   * @param cached whether the compiled pattern was already in the cache
+   */
+  public void patternLookedUp(boolean cached) {}
+}
@@ -20,7 +20,9 @@ import static java.lang.Float.parseFloat;
 import static jsinterop.annotations.JsPackage.GLOBAL;
 
 import com.google.common.base.Strings;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Predicate;
 import jsinterop.annotations.JsMethod;
 import jsinterop.annotations.JsProperty;
 import jsinterop.annotations.JsType;
@@ -180,6 +182,10 @@ final class Platform {
         + " verifying that the expected failure occurred.)";
   }
 
+  static @Nullable TruthInstrumentation loadInstrumentation() {
+    return null; // ServiceLoader isn't available, so users must call TruthInstrumentation.install
+  }
+
   static boolean forceInferDescription() {
     return false; // irrelevant because we can infer descriptions only under the JVM
   }
@@ -249,6 +255,29 @@ final class Platform {
     throw new AssertionError(); // never called under GWT because isKotlinRange returns false
   }
 
+  /**
+   * Returns the first index in {@code [from, to)} at which {@code a} and {@code b} differ, or -1 if
+   * they are equal over that range. Both arrays must be at least {@code to} long.
+   */
+  static int mismatch(byte[] a, byte[] b, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (a[i] != b[i]) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  static <T extends @Nullable Object> boolean allMatch(
+      Collection<T> elements, Predicate<? super T> predicate, boolean parallel) {
+    for (T element : elements) {
+      if (!predicate.test(element)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   static boolean classMetadataUnsupported() {
     return String.class.getSuperclass() == null;
   }
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.j2objc.annotations.J2ObjCIncompatible;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link TruthInstrumentation} that emits Java Flight Recorder events, so that slow assertions
+ * show up in JDK Mission Control next to GC and allocation data.
+ *
+ * <p>Enable it by setting the system property {@code com.google.common.truth.jfr_events} to {@code
+ * true}. This class is compiled for Java 11 into {@code META-INF/versions/11} of the multi-release
+ * jar, and {@link Platform#loadInstrumentation} loads it reflectively, so that Truth still runs on
+ * older JVMs and on JVMs without {@code jdk.jfr}.
+ *
+ * <p>Each event is begun in {@link #workStarted}, just before Truth starts the work, and ended in
+ * the callback that reports the end of the work, so the event's own duration is the time Truth
+ * spent. Work that was already under way when an event was enabled is not recorded. When no
+ * recording has an event enabled, that event costs one check of {@link EventType#isEnabled}.
+ */
+@GwtIncompatible
+@J2ObjCIncompatible
+@J2ktIncompatible
+final class JfrTruthInstrumentation extends TruthInstrumentation {
+  private static final EventType ASSERTION = EventType.getEventType(AssertionEvent.class);
+  private static final EventType FAILURE_FORMAT = EventType.getEventType(FailureFormatEvent.class);
+  private static final EventType STACK_CLEAN = EventType.getEventType(StackCleanEvent.class);
+  private static final EventType INFERENCE = EventType.getEventType(InferenceEvent.class);
+  private static final EventType DIFF = EventType.getEventType(DiffEvent.class);
+
+  // Indexes into the array of pending events.
+  private static final int ASSERTION_SLOT = 0;
+  private static final int FAILURE_FORMAT_SLOT = 1;
+  private static final int STACK_CLEAN_SLOT = 2;
+  private static final int INFERENCE_SLOT = 3;
+  private static final int DIFF_SLOT = 4;
+  private static final int SLOT_COUNT = 5;
+
+  /**
+   * For each thread, the events that have begun and not yet ended, one per slot. If work throws,
+   * its event is never ended, and it is replaced when the next work of its kind starts.
+   */
+  private static final ThreadLocal<Event @Nullable []> pending = new ThreadLocal<>();
+
+  @UsedByReflection
+  JfrTruthInstrumentation() {}
+
+  @Override
+  void workStarted(Work work) {
+    switch (work) {
+      case FAILURE:
+        if (ASSERTION.isEnabled()) {
+          begin(ASSERTION_SLOT, new AssertionEvent());
+        }
+        if (FAILURE_FORMAT.isEnabled()) {
+          begin(FAILURE_FORMAT_SLOT, new FailureFormatEvent());
+        }
+        break;
+      case STACK_TRACE_CLEANING:
+        if (STACK_CLEAN.isEnabled()) {
+          begin(STACK_CLEAN_SLOT, new StackCleanEvent());
+        }
+        break;
+      case DESCRIPTION_INFERENCE:
+        if (INFERENCE.isEnabled()) {
+          begin(INFERENCE_SLOT, new InferenceEvent());
+        }
+        break;
+      case DIFF:
+        if (DIFF.isEnabled()) {
+          begin(DIFF_SLOT, new DiffEvent());
+        }
+        break;
+    }
+  }
+
+  @Override
+  public void assertionFailed(@Nullable Class<?> subjectClass, int factCount, long elapsedNanos) {
+    AssertionEvent event = end(ASSERTION_SLOT, AssertionEvent.class);
+    if (event != null) {
+      event.subjectClass = subjectClass;
+      event.factCount = factCount;
+      event.commit();
+    }
+  }
+
+  @Override
+  public void failureFormatted(int factCount, long elapsedNanos) {
+    FailureFormatEvent event = end(FAILURE_FORMAT_SLOT, FailureFormatEvent.class);
+    if (event != null) {
+      event.factCount = factCount;
+      event.commit();
+    }
+  }
+
+  @Override
+  public void stackTraceCleaned(int originalFrames, int cleanedFrames, long elapsedNanos) {
+    StackCleanEvent event = end(STACK_CLEAN_SLOT, StackCleanEvent.class);
+    if (event != null) {
+      event.originalFrames = originalFrames;
+      event.cleanedFrames = cleanedFrames;
+      event.commit();
+    }
+  }
+
+  @Override
+  public void descriptionInferred(boolean inferred, long elapsedNanos) {
+    InferenceEvent event = end(INFERENCE_SLOT, InferenceEvent.class);
+    if (event != null) {
+      event.inferred = inferred;
+      event.commit();
+    }
+  }
+
+  @Override
+  public void diffComputed(int expectedLines, int actualLines, long elapsedNanos) {
+    DiffEvent event = end(DIFF_SLOT, DiffEvent.class);
+    if (event != null) {
+      event.expectedLines = expectedLines;
+      event.actualLines = actualLines;
+      event.commit();
+    }
+  }
+
+  private static void begin(int slot, Event event) {
+    Event[] events = pending.get();
+    if (events == null) {
+      events = new Event[SLOT_COUNT];
+      pending.set(events);
+    }
+    event.begin();
+    events[slot] = event;
+  }
+
+  /**
+   * Ends and returns the event pending in the given slot on this thread, or returns null if no
+   * event was begun there.
+   */
+  private static <E extends Event> @Nullable E end(int slot, Class<E> type) {
+    Event[] events = pending.get();
+    if (events == null || events[slot] == null) {
+      return null;
+    }
+    E event = type.cast(events[slot]);
+    events[slot] = null;
+    event.end();
+    return event;
+  }
+
+  @Name("truth.Assertion")
+  @Label("Failed Assertion")
+  @Description("A Truth assertion failed, timed from the start of failure reporting")
+  @Category("Truth")
+  @StackTrace(true)
+  static final class AssertionEvent extends Event {
+    @Label("Subject Class")
+    @Nullable Class<?> subjectClass;
+
+    @Label("Fact Count")
+    int factCount;
+  }
+
+  @Name("truth.FailureFormat")
+  @Label("Failure Formatting")
+  @Description("Truth built the error for a failed assertion")
+  @Category("Truth")
+  @StackTrace(false)
+  static final class FailureFormatEvent extends Event {
+    @Label("Fact Count")
+    int factCount;
+  }
+
+  @Name("truth.StackClean")
+  @Label("Stack Trace Cleaning")
+  @Description("Truth removed framework frames from a failure's stack trace")
+  @Category("Truth")
+  @StackTrace(false)
+  static final class StackCleanEvent extends Event {
+    @Label("Original Frames")
+    int originalFrames;
+
+    @Label("Cleaned Frames")
+    int cleanedFrames;
+  }
+
+  @Name("truth.Inference")
+  @Label("Description Inference")
+  @Description("Truth read test bytecode to describe the actual value")
+  @Category("Truth")
+  @StackTrace(false)
+  static final class InferenceEvent extends Event {
+    @Label("Inferred")
+    boolean inferred;
+  }
+
+  @Name("truth.Diff")
+  @Label("Diff")
+  @Description("Truth computed a line-based diff of two strings")
+  @Category("Truth")
+  @StackTrace(false)
+  static final class DiffEvent extends Event {
+    @Label("Expected Lines")
+    int expectedLines;
+
+    @Label("Actual Lines")
+    int actualLines;
+  }
+}
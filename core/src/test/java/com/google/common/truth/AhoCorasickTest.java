@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/** Tests for {@link AhoCorasick}. */
+public final class AhoCorasickTest {
+  @Test
+  public void overlappingPatterns() {
+    AhoCorasick automaton =
+        new AhoCorasick(ImmutableList.of("he", "she", "his", "hers", "", "she", "x"));
+    assertThat(automaton.firstOccurrences("ushers", Integer.MAX_VALUE))
+        .asList()
+        .containsExactly(2, 1, -1, 2, 0, 1, -1)
+        .inOrder();
+  }
+
+  @Test
+  public void stopsEarly() {
+    AhoCorasick automaton = new AhoCorasick(ImmutableList.of("a", "b"));
+    assertThat(automaton.firstOccurrences("xaxb", 1)).asList().containsExactly(1, -1).inOrder();
+  }
+
+  @Test
+  public void manyEdgesFromOneNode() {
+    List<String> patterns = new ArrayList<>();
+    for (char c = 'z'; c >= 'a'; c--) {
+      patterns.add("q" + c);
+    }
+    int[] offsets = new AhoCorasick(patterns).firstOccurrences("qqaqmqz", Integer.MAX_VALUE);
+    for (int i = 0; i < patterns.size(); i++) {
+      assertWithMessage("offset of %s", patterns.get(i))
+          .that(offsets[i])
+          .isEqualTo("qqaqmqz".indexOf(patterns.get(i)));
+    }
+  }
+
+  @Test
+  public void matchesIndexOf() {
+    Random random = new Random(42);
+    for (int trial = 0; trial < 200; trial++) {
+      String text = randomString(random, 200);
+      List<String> patterns = new ArrayList<>();
+      for (int i = 0; i < 10; i++) {
+        patterns.add(randomString(random, 1 + random.nextInt(4)));
+      }
+      int[] offsets = new AhoCorasick(patterns).firstOccurrences(text, Integer.MAX_VALUE);
+      for (int i = 0; i < patterns.size(); i++) {
+        assertWithMessage("offset of %s in %s", patterns.get(i), text)
+            .that(offsets[i])
+            .isEqualTo(text.indexOf(patterns.get(i)));
+      }
+    }
+  }
+
+  private static String randomString(Random random, int length) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < length; i++) {
+      builder.append((char) ('a' + random.nextInt(3)));
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import static com.google.common.truth.BufferSubject.buffers;
+import static com.google.common.truth.ExpectFailure.expectFailure;
+import static com.google.common.truth.FailureAssertions.assertFailureKeys;
+import static com.google.common.truth.FailureAssertions.assertFailureValue;
+import static com.google.common.truth.TestBytes.randomBytes;
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import org.junit.Test;
+
+/** Tests for {@link BufferSubject}. */
+public final class BufferSubjectTest {
+  @Test
+  public void isEqualTo_byteBuffers() {
+    byte[] bytes = randomBytes(100_000);
+    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+    direct.put(bytes);
+    ((Buffer) direct).flip();
+    assertAbout(buffers()).that(direct).isEqualTo(ByteBuffer.wrap(bytes.clone()));
+    assertThat(direct.position()).isEqualTo(0);
+  }
+
+  @Test
+  public void isEqualTo_comparesOnlyRemaining() {
+    ByteBuffer actual = ByteBuffer.wrap(new byte[] {9, 1, 2, 3, 9});
+    ((Buffer) actual).position(1);
+    ((Buffer) actual).limit(4);
+    assertAbout(buffers()).that(actual).isEqualTo(ByteBuffer.wrap(new byte[] {1, 2, 3}));
+    assertAbout(buffers())
+        .that(IntBuffer.wrap(new int[] {0, 5, 6}, 1, 2))
+        .isEqualTo(IntBuffer.wrap(new int[] {5, 6}));
+  }
+
+  @Test
+  public void isEqualTo_byteBuffers_fails() {
+    byte[] expected = randomBytes(10_000);
+    byte[] bytes = expected.clone();
+    bytes[4321] ^= 1;
+    ByteBuffer actual = ByteBuffer.allocateDirect(bytes.length);
+    actual.put(bytes);
+    ((Buffer) actual).flip();
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting.about(buffers()).that(actual).isEqualTo(ByteBuffer.wrap(expected)));
+    assertFailureKeys(
+        e, "expected to be equal", "first difference at index", "expected", "but was", "buffer");
+    assertFailureValue(e, "first difference at index", "4321");
+    assertFailureValue(e, "expected", FileContents.hexWindow(expected, 4321));
+    assertFailureValue(e, "but was", FileContents.hexWindow(bytes, 4321));
+  }
+
+  @Test
+  public void isEqualTo_byteBuffers_fails_differentByteOrders() {
+    ByteBuffer actual = ByteBuffer.allocate(32).order(ByteOrder.LITTLE_ENDIAN);
+    actual.put(20, (byte) 1);
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting.about(buffers()).that(actual).isEqualTo(ByteBuffer.allocate(32)));
+    assertFailureValue(e, "first difference at index", "20");
+  }
+
+  @Test
+  public void isEqualTo_fails_differentRemaining() {
+    ByteBuffer actual = ByteBuffer.wrap(new byte[] {1, 2, 3});
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .about(buffers())
+                    .that(actual)
+                    .isEqualTo(ByteBuffer.wrap(new byte[] {1, 2, 3, 4})));
+    assertFailureKeys(
+        e,
+        "expected to be equal",
+        "first difference at index",
+        "expected remaining",
+        "but remaining was",
+        "expected",
+        "but was",
+        "buffer");
+    assertFailureValue(e, "first difference at index", "3");
+    assertFailureValue(e, "but remaining was", "3");
+  }
+
+  @Test
+  public void isEqualTo_intBuffers_fails() {
+    int[] expected = new int[1000];
+    Arrays.setAll(expected, i -> i);
+    int[] ints = expected.clone();
+    ints[500] = -1;
+    IntBuffer actual = IntBuffer.wrap(ints);
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting.about(buffers()).that(actual).isEqualTo(IntBuffer.wrap(expected)));
+    assertFailureValue(e, "first difference at index", "500");
+    assertFailureValue(
+        e,
+        "expected",
+        "[... (492 more), 492, 493, 494, 495, 496, 497, 498, 499, 500, 501, 502, 503, 504, 505,"
+            + " 506, 507, 508, ... (491 more)]");
+    assertFailureValue(
+        e,
+        "but was",
+        "[... (492 more), 492, 493, 494, 495, 496, 497, 498, 499, -1, 501, 502, 503, 504, 505,"
+            + " 506, 507, 508, ... (491 more)]");
+  }
+
+  @Test
+  public void isEqualTo_longBuffers_fails_atStart() {
+    LongBuffer actual = LongBuffer.wrap(new long[] {7, 2});
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .about(buffers())
+                    .that(actual)
+                    .isEqualTo(LongBuffer.wrap(new long[] {1, 2})));
+    assertFailureValue(e, "first difference at index", "0");
+    assertFailureValue(e, "expected", "[1, 2]");
+    assertFailureValue(e, "but was", "[7, 2]");
+  }
+
+  @Test
+  public void isEqualTo_doubleBuffers_followsBufferEquals() {
+    assertAbout(buffers())
+        .that(DoubleBuffer.wrap(new double[] {Double.NaN, -0.0}))
+        .isEqualTo(DoubleBuffer.wrap(new double[] {Double.NaN, 0.0}));
+  }
+
+  @Test
+  public void isEqualTo_charBuffers_fails_rendersOnlyIndexes() {
+    char[] chars = new char[100_000];
+    Arrays.fill(chars, 'a');
+    char[] expected = chars.clone();
+    expected[50_000] = 'b';
+    CharBuffer actual = CharBuffer.wrap(chars);
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting.about(buffers()).that(actual).isEqualTo(CharBuffer.wrap(expected)));
+    assertFailureValue(e, "first difference at index", "50000");
+    assertFailureValue(
+        e, "buffer", actual.getClass().getName() + "[pos=0 lim=100000 cap=100000]");
+    assertThat(e).hasMessageThat().doesNotContain("aaaaaaaaaaaaaaaaaaaa");
+  }
+
+  @Test
+  public void isEqualTo_differentKinds_fails() {
+    IntBuffer actual = IntBuffer.wrap(new int[] {1});
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .about(buffers())
+                    .that(actual)
+                    .isEqualTo(LongBuffer.wrap(new long[] {1})));
+    assertFailureKeys(e, "expected", "but was");
+  }
+
+  @Test
+  public void hasRemaining() {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(100);
+    ((Buffer) buffer).position(40);
+    assertAbout(buffers()).that(buffer).hasRemaining(60);
+  }
+
+  @Test
+  public void hasRemaining_fails() {
+    DoubleBuffer actual = DoubleBuffer.allocate(3);
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.about(buffers()).that(actual).hasRemaining(4));
+    assertFailureValue(e, "expected", "4");
+    assertFailureValue(e, "but was", "3");
+  }
+
+  @Test
+  public void isWithin() {
+    assertAbout(buffers())
+        .that(DoubleBuffer.wrap(new double[] {1.0, 2.05, -3.0}))
+        .isWithin(0.1)
+        .of(DoubleBuffer.wrap(new double[] {1.0, 2.0, -3.01}));
+    assertAbout(buffers())
+        .that(FloatBuffer.wrap(new float[] {0.5f}))
+        .isWithin(0.0)
+        .of(FloatBuffer.wrap(new float[] {0.5f}));
+  }
+
+  @Test
+  public void isWithin_fails() {
+    DoubleBuffer actual = DoubleBuffer.wrap(new double[] {1.0, 2.5, 3.0});
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .about(buffers())
+                    .that(actual)
+                    .isWithin(0.1)
+                    .of(DoubleBuffer.wrap(new double[] {1.0, 2.0, 3.0})));
+    assertFailureKeys(
+        e,
+        "expected elements within tolerance",
+        "first difference at index",
+        "expected",
+        "but was",
+        "buffer");
+    assertFailureValue(e, "first difference at index", "1");
+    assertFailureValue(e, "but was", "[1.0, 2.5, 3.0]");
+  }
+
+  @Test
+  public void isWithin_fails_nan() {
+    DoubleBuffer actual = DoubleBuffer.wrap(new double[] {Double.NaN});
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .about(buffers())
+                    .that(actual)
+                    .isWithin(0.1)
+                    .of(DoubleBuffer.wrap(new double[] {Double.NaN})));
+    assertFailureValue(e, "first difference at index", "0");
+  }
+
+  @Test
+  public void isWithin_fails_differentRemaining() {
+    FloatBuffer actual = FloatBuffer.wrap(new float[] {1f});
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .about(buffers())
+                    .that(actual)
+                    .isWithin(0.1)
+                    .of(FloatBuffer.wrap(new float[] {1f, 2f})));
+    assertFailureValue(e, "first difference at index", "1");
+    assertFailureValue(e, "expected remaining", "2");
+  }
+
+  @Test
+  public void isWithin_invalid() {
+    BufferSubject subject = assertAbout(buffers()).that(DoubleBuffer.allocate(1));
+    assertThrows(IllegalArgumentException.class, () -> subject.isWithin(-1));
+    assertThrows(IllegalArgumentException.class, () -> subject.isWithin(Double.NaN));
+    assertThrows(
+        IllegalArgumentException.class, () -> subject.isWithin(0.1).of(IntBuffer.allocate(1)));
+  }
+
+  @Test
+  public void nullActual() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.about(buffers()).that(null).hasRemaining(0));
+    assertFailureKeys(e, "expected a buffer with remaining", "but was");
+  }
+}
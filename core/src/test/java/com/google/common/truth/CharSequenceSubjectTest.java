@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import static com.google.common.truth.CharSequenceSubject.charSequences;
+import static com.google.common.truth.ExpectFailure.expectFailure;
+import static com.google.common.truth.FailureAssertions.assertFailureKeys;
+import static com.google.common.truth.FailureAssertions.assertFailureValue;
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.base.Strings;
+import java.nio.CharBuffer;
+import java.util.Random;
+import java.util.regex.Pattern;
+import org.junit.Test;
+
+/** Tests for {@link CharSequenceSubject}. */
+public final class CharSequenceSubjectTest {
+
+  @Test
+  public void hasLength() {
+    assertAbout(charSequences()).that(new StringBuilder("kurt")).hasLength(4);
+  }
+
+  @Test
+  public void hasLength_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting.about(charSequences()).that(new StringBuilder("kurt")).hasLength(5));
+    assertFailureValue(e, "value of", "charSequence.length()");
+    assertFailureValue(e, "expected", "5");
+    assertFailureValue(e, "but was", "4");
+  }
+
+  @Test
+  public void hasLength_null() {
+    AssertionError e =
+        expectFailure(
+            whenTesting -> whenTesting.about(charSequences()).that(null).hasLength(2));
+    assertFailureKeys(e, "expected a char sequence with length", "but was");
+  }
+
+  @Test
+  public void isEmpty() {
+    assertAbout(charSequences()).that(new StringBuilder()).isEmpty();
+    assertAbout(charSequences()).that(CharBuffer.wrap("abc")).isNotEmpty();
+  }
+
+  @Test
+  public void isEmpty_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting.about(charSequences()).that(new StringBuilder("a")).isEmpty());
+    assertFailureKeys(e, "expected to be empty", "but was");
+  }
+
+  @Test
+  public void contains() {
+    CharBuffer buffer = CharBuffer.wrap("xxabcxx");
+    assertAbout(charSequences()).that(buffer).contains("abc");
+    assertAbout(charSequences()).that(buffer).contains("");
+    assertAbout(charSequences()).that(buffer).doesNotContain("abd");
+    assertAbout(charSequences()).that(buffer).doesNotContain("xxabcxxx");
+  }
+
+  @Test
+  public void contains_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting.about(charSequences()).that(new StringBuilder("abc")).contains("d"));
+    assertFailureValue(e, "expected to contain", "d");
+    assertFailureValue(e, "but was", "abc");
+  }
+
+  @Test
+  public void doesNotContain_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .about(charSequences())
+                    .that(new StringBuilder("abc"))
+                    .doesNotContain("bc"));
+    assertFailureKeys(e, "expected not to contain", "but was");
+  }
+
+  @Test
+  public void contains_agreesWithString() {
+    Random random = new Random(0);
+    for (int i = 0; i < 1000; i++) {
+      String text = randomString(random, 20);
+      String needle = randomString(random, 1 + random.nextInt(3));
+      assertWithMessage(text + " / " + needle)
+          .that(SubstringSearch.indexOf(new StringBuilder(text), needle, false))
+          .isEqualTo(text.indexOf(needle));
+      int from = random.nextInt(text.length() + 1);
+      assertWithMessage(text + " / " + needle + " from " + from)
+          .that(new SubstringSearch(needle, /* ignoreCase= */ false).indexIn(text, from))
+          .isEqualTo(text.indexOf(needle, from));
+    }
+  }
+
+  @Test
+  public void startsWithAndEndsWith() {
+    StringBuilder actual = new StringBuilder("abcdef");
+    assertAbout(charSequences()).that(actual).startsWith("abc");
+    assertAbout(charSequences()).that(actual).startsWith("");
+    assertAbout(charSequences()).that(actual).endsWith("def");
+    assertAbout(charSequences()).that(actual).endsWith(actual);
+  }
+
+  @Test
+  public void startsWith_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting.about(charSequences()).that(new StringBuilder("ab")).startsWith("abc"));
+    assertFailureKeys(e, "expected to start with", "but was");
+  }
+
+  @Test
+  public void endsWith_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting.about(charSequences()).that(new StringBuilder("abc")).endsWith("b"));
+    assertFailureKeys(e, "expected to end with", "but was");
+  }
+
+  @Test
+  public void matches() {
+    StringBuilder actual = new StringBuilder("abc123");
+    assertAbout(charSequences()).that(actual).matches("[a-c]+\\d+");
+    assertAbout(charSequences()).that(actual).matches(Pattern.compile("abc\\d{3}"));
+    assertAbout(charSequences()).that(actual).doesNotMatch("\\d+");
+    assertAbout(charSequences()).that(actual).containsMatch("c1");
+    assertAbout(charSequences()).that(actual).doesNotContainMatch(Pattern.compile("c2"));
+  }
+
+  @Test
+  public void matches_fails_suggestsContainsMatch() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting.about(charSequences()).that(new StringBuilder("abc")).matches("b"));
+    assertFailureKeys(
+        e,
+        "expected to match",
+        "but was",
+        "Did you mean to call containsMatch() instead of match()?");
+  }
+
+  @Test
+  public void matches_invalidRegex() {
+    assertThrows(
+        RuntimeException.class,
+        () -> assertAbout(charSequences()).that(new StringBuilder("abc")).matches("("));
+  }
+
+  @Test
+  public void containsMatch_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .about(charSequences())
+                    .that(new StringBuilder("abc"))
+                    .containsMatch("d"));
+    assertFailureKeys(e, "expected to contain a match for", "but was");
+  }
+
+  @Test
+  public void doesNotContainMatch_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .about(charSequences())
+                    .that(new StringBuilder("abc123"))
+                    .doesNotContainMatch("\\d+"));
+    assertFailureKeys(
+        e,
+        "expected not to contain a match for",
+        "but contained",
+        "at offset",
+        "full char sequence");
+    assertFailureValue(e, "but contained", "123");
+    assertFailureValue(e, "at offset", "3");
+  }
+
+  @Test
+  public void longActual_isShownAsExcerpt() {
+    StringBuilder actual = new StringBuilder(Strings.repeat("a", 5000));
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.about(charSequences()).that(actual).contains("b"));
+    assertFailureValue(
+        e, "but was", Strings.repeat("a", 500) + "... (5000 characters in total)");
+  }
+
+  @Test
+  public void excerpt_doesNotSplitSurrogatePair() {
+    String text = Strings.repeat("a", 499) + "😀" + Strings.repeat("a", 1000);
+    assertThat(CharSequenceSubject.excerpt(text))
+        .isEqualTo(Strings.repeat("a", 499) + "... (1501 characters in total)");
+  }
+
+  @Test
+  public void ignoringCase() {
+    StringBuilder actual = new StringBuilder("Hello World");
+    assertAbout(charSequences()).that(actual).ignoringCase().isEqualTo("hello world");
+    assertAbout(charSequences()).that(actual).ignoringCase().isNotEqualTo("hello");
+    assertAbout(charSequences()).that(actual).ignoringCase().contains("O WOR");
+    assertAbout(charSequences()).that(actual).ignoringCase().doesNotContain("worlds");
+    assertAbout(charSequences()).that(null).ignoringCase().isEqualTo(null);
+  }
+
+  @Test
+  public void ignoringCase_isEqualTo_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .about(charSequences())
+                    .that(new StringBuilder("abc"))
+                    .ignoringCase()
+                    .isEqualTo("abd"));
+    assertFailureKeys(e, "expected", "but was", "(case is ignored)");
+    assertFailureValue(e, "expected", "abd");
+  }
+
+  @Test
+  public void ignoringCase_contains_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .about(charSequences())
+                    .that(new StringBuilder("abc"))
+                    .ignoringCase()
+                    .contains("CD"));
+    assertFailureKeys(e, "expected to contain", "but was", "(case is ignored)");
+  }
+
+  @Test
+  public void ignoringCase_agreesWithStringRegionMatches() {
+    Random random = new Random(0);
+    for (int i = 0; i < 1000; i++) {
+      String text = randomString(random, 20);
+      String needle = randomString(random, 1 + random.nextInt(3));
+      boolean expected = false;
+      for (int offset = 0; offset <= text.length() - needle.length(); offset++) {
+        expected |= text.regionMatches(true, offset, needle, 0, needle.length());
+      }
+      assertWithMessage(text + " / " + needle)
+          .that(SubstringSearch.indexOf(CharBuffer.wrap(text), needle, true) >= 0)
+          .isEqualTo(expected);
+    }
+  }
+
+  private static String randomString(Random random, int length) {
+    String alphabet = "abABİiıIß";
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < length; i++) {
+      builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+    }
+    return builder.toString();
+  }
+}
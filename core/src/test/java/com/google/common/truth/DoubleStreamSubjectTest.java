@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import static com.google.common.truth.ExpectFailure.expectFailure;
+import static com.google.common.truth.FailureAssertions.assertFailureKeys;
+import static com.google.common.truth.FailureAssertions.assertFailureValue;
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.Arrays.asList;
+
+import com.google.common.primitives.Doubles;
+import com.google.common.truth.ExpectFailure.StandardSubjectBuilderCallback;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.DoubleStream;
+import org.junit.Test;
+
+/** Tests for {@link DoubleStreamSubject}. */
+public final class DoubleStreamSubjectTest {
+
+  @Test
+  public void nullStream_fails() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that((DoubleStream) null).isEmpty());
+    assertFailureKeys(e, "expected an empty iterable", "but was");
+  }
+
+  @Test
+  public void nullStreamIsNull() {
+    assertThat((DoubleStream) null).isNull();
+  }
+
+  @Test
+  public void isEmpty() {
+    assertThat(DoubleStream.of()).isEmpty();
+  }
+
+  @Test
+  public void isEmpty_fails() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(DoubleStream.of(1.5)).isEmpty());
+    assertFailureKeys(e, "expected to be empty", "but was");
+    assertFailureValue(e, "but was", "[1.5]");
+  }
+
+  @Test
+  public void isNotEmpty() {
+    assertThat(DoubleStream.of(1.5)).isNotEmpty();
+  }
+
+  @Test
+  public void isNotEmpty_fails() {
+    expectFailure(whenTesting -> whenTesting.that(DoubleStream.of()).isNotEmpty());
+  }
+
+  @Test
+  public void hasSize() {
+    assertThat(DoubleStream.of(1.5, 2.5)).hasSize(2);
+  }
+
+  @Test
+  public void hasSize_fails() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(DoubleStream.of(1.5)).hasSize(2));
+    assertFailureValue(e, "value of", "stream.size()");
+    assertFailureValue(e, "expected", "2");
+    assertFailureValue(e, "but was", "1");
+  }
+
+  @Test
+  public void contains() {
+    assertThat(DoubleStream.of(1.5, Double.NaN)).contains(Double.NaN);
+    assertThat(DoubleStream.of(1.5, 2.5)).doesNotContain(3.5);
+  }
+
+  @Test
+  public void contains_usesDoubleEquals() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(DoubleStream.of(0.0)).contains(-0.0));
+    assertFailureKeys(e, "expected to contain", "but was");
+    assertFailureValue(e, "expected to contain", "-0.0");
+  }
+
+  @Test
+  public void doesNotContain_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting -> whenTesting.that(DoubleStream.of(1.5, 2.5)).doesNotContain(2.5));
+    assertFailureKeys(e, "expected not to contain", "but was");
+  }
+
+  @Test
+  public void containsNoDuplicates() {
+    assertThat(DoubleStream.of(0.0, -0.0, Double.NaN)).containsNoDuplicates();
+  }
+
+  @Test
+  public void containsNoDuplicates_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .that(DoubleStream.of(1.5, Double.NaN, 1.5, Double.NaN))
+                    .containsNoDuplicates());
+    assertFailureKeys(e, "expected not to contain duplicates", "but contained", "full contents");
+    assertFailureValue(e, "but contained", "[1.5 x 2, NaN x 2]");
+  }
+
+  @Test
+  public void containsAnyOf() {
+    assertThat(DoubleStream.of(1.5, 2.5)).containsAnyOf(9.5, 8.5, 2.5);
+  }
+
+  @Test
+  public void containsAnyOf_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting -> whenTesting.that(DoubleStream.of(1.5, 2.5)).containsAnyOf(9.5, 8.5));
+    assertFailureKeys(e, "expected to contain any of", "but was");
+    assertFailureValue(e, "expected to contain any of", "[9.5, 8.5]");
+  }
+
+  @Test
+  public void containsAtLeast() {
+    assertThat(DoubleStream.of(1.5, 2.5, 3.5)).containsAtLeast(1.5, 3.5).inOrder();
+    assertThat(DoubleStream.of(1.5, 2.5, 3.5)).containsAtLeast(3.5, 1.5);
+  }
+
+  @Test
+  public void containsAtLeast_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting -> whenTesting.that(DoubleStream.of(1.5, 2.5)).containsAtLeast(1.5, 4.5));
+    assertFailureKeys(e, "missing (1)", "---", "expected to contain at least", "but was");
+  }
+
+  @Test
+  public void containsAtLeast_inOrder_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .that(DoubleStream.of(1.5, 2.5, 3.5))
+                    .containsAtLeast(3.5, 1.5)
+                    .inOrder());
+    assertFailureKeys(
+        e,
+        "required elements were all found, but order was wrong",
+        "expected order for required elements",
+        "but order was",
+        "full contents");
+  }
+
+  @Test
+  public void containsExactly() {
+    assertThat(DoubleStream.of(1.5, 2.5)).containsExactly(1.5, 2.5).inOrder();
+    assertThat(DoubleStream.of(1.5, 2.5)).containsExactly(2.5, 1.5);
+  }
+
+  @Test
+  public void containsExactly_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting -> whenTesting.that(DoubleStream.of(1.5, 2.5)).containsExactly(1.5, 3.5));
+    assertFailureKeys(e, "missing (1)", "unexpected (1)", "---", "expected", "but was");
+  }
+
+  @Test
+  public void containsExactly_inOrder_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting.that(DoubleStream.of(1.5, 2.5)).containsExactly(2.5, 1.5).inOrder());
+    assertFailureKeys(e, "contents match, but order was wrong", "expected", "but was");
+  }
+
+  @Test
+  public void containsExactly_nullExpected() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting.that(DoubleStream.of(1.5)).containsExactly((double[]) null));
+    assertFailureKeys(
+        e,
+        "could not perform containment check because expected array was null",
+        "actual contents");
+  }
+
+  @Test
+  public void containsExactlyElementsIn() {
+    assertThat(DoubleStream.of(1.5, 2.5)).containsExactlyElementsIn(asList(1.5, 2.5));
+  }
+
+  @Test
+  public void containsNoneOf() {
+    assertThat(DoubleStream.of(1.5, 2.5)).containsNoneOf(3.5, 4.5);
+  }
+
+  @Test
+  public void containsNoneOf_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting -> whenTesting.that(DoubleStream.of(1.5, 2.5)).containsNoneOf(2.5, 4.5));
+    assertFailureKeys(e, "expected not to contain any of", "but contained", "full contents");
+    assertFailureValue(e, "but contained", "[2.5]");
+  }
+
+  @Test
+  public void isInOrder() {
+    assertThat(DoubleStream.of()).isInOrder();
+    assertThat(DoubleStream.of(-0.0, 0.0, 0.0, Double.NaN)).isInOrder();
+    assertThat(DoubleStream.of(-0.0, 0.0, Double.NaN)).isInStrictOrder();
+    assertThat(DoubleStream.of(3.5, 2.5)).isInStrictOrder(Comparator.reverseOrder());
+  }
+
+  @Test
+  public void isInOrder_fails() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(DoubleStream.of(1.5, 3.5, 2.5)).isInOrder());
+    assertFailureKeys(
+        e, "expected to be in order", "but contained", "followed by", "at index", "full contents");
+    assertFailureValue(e, "but contained", "3.5");
+    assertFailureValue(e, "followed by", "2.5");
+    assertFailureValue(e, "at index", "2");
+  }
+
+  @Test
+  public void isInStrictOrder_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting -> whenTesting.that(DoubleStream.of(1.5, 1.5)).isInStrictOrder());
+    assertFailureValue(e, "at index", "1");
+  }
+
+  @Test
+  public void summary() {
+    DoubleStreamSubject subject = assertThat(DoubleStream.of(2.5, -1.0, 4.0, 0.5));
+    subject.min().isEqualTo(-1.0);
+    subject.max().isEqualTo(4.0);
+    subject.sum().isEqualTo(6.0);
+    subject.average().isEqualTo(1.5);
+  }
+
+  @Test
+  public void sum_empty() {
+    assertThat(DoubleStream.of()).sum().isZero();
+  }
+
+  @Test
+  public void max_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting -> whenTesting.that(DoubleStream.of(1.0, 3.0)).max().isLessThan(2.0));
+    assertFailureKeys(e, "value of", "expected to be less than", "but was", "stream was");
+    assertFailureValue(e, "value of", "stream.max()");
+    assertFailureValue(e, "but was", "3.0");
+  }
+
+  @Test
+  public void average_empty_fails() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(DoubleStream.of()).average().isEqualTo(0.0));
+    assertFailureKeys(e, "expected not to be empty", "for");
+    assertFailureValue(e, "for", "average()");
+  }
+
+  @Test
+  public void min_nullStream_fails() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that((DoubleStream) null).min().isEqualTo(0.0));
+    assertFailureKeys(e, "cannot perform assertions on the contents of a null stream");
+  }
+
+  @Test
+  public void usingTolerance() {
+    assertThat(DoubleStream.of(1.0, 2.0)).usingTolerance(0.1).contains(2.05);
+    assertThat(DoubleStream.of(1.0, 2.0))
+        .usingTolerance(0.1)
+        .containsExactly(new double[] {1.05, 1.95})
+        .inOrder();
+  }
+
+  @Test
+  public void usingTolerance_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting.that(DoubleStream.of(1.0, 2.0)).usingTolerance(0.01).contains(2.05));
+    assertFailureKeys(e, "expected to contain", "testing whether", "but was");
+    assertFailureValue(
+        e,
+        "testing whether",
+        "actual element is a finite number within 0.01 of expected element");
+  }
+
+  @Test
+  public void usingTolerance_nullStream() {
+    AssertionError e =
+        expectFailure(
+            whenTesting -> whenTesting.that((DoubleStream) null).usingTolerance(0.1).contains(1.0));
+    assertFailureKeys(e, "cannot perform assertions on the contents of a null stream");
+  }
+
+  @Test
+  public void usingExactEquality() {
+    assertThat(DoubleStream.of(1.0, 2.0)).usingExactEquality().containsAnyOf(new double[] {2.0});
+    expectFailure(
+        whenTesting ->
+            whenTesting.that(DoubleStream.of(0.0)).usingExactEquality().contains(-0.0));
+  }
+
+  @Test
+  public void messagesMatchIterableSubject() {
+    double[][][] cases = {
+      {{3, 1, 1, 3, 3}, {1, 3, 4}},
+      {{1, 2, 3}, {3, 2, 1, 0}},
+      {{Double.NaN, 0.0}, {-0.0, Double.NaN}},
+      {{4, 2}, {9, 8, 7}},
+    };
+    for (double[][] c : cases) {
+      double[] actual = c[0];
+      double[] expected = c[1];
+      List<Double> actualList = Doubles.asList(actual);
+      List<Double> expectedList = Doubles.asList(expected);
+      double[] rest = Arrays.copyOfRange(expected, 2, expected.length);
+      assertThat(
+              failureMessage(that -> that.that(DoubleStream.of(actual)).containsExactly(expected)))
+          .isEqualTo(
+              failureMessage(
+                  that -> that.that(actualList).containsExactlyElementsIn(expectedList)));
+      assertThat(
+              failureMessage(
+                  that ->
+                      that.that(DoubleStream.of(actual))
+                          .containsAtLeast(expected[0], expected[1], rest)))
+          .isEqualTo(
+              failureMessage(
+                  that -> that.that(actualList).containsAtLeastElementsIn(expectedList)));
+    }
+  }
+
+  private static String failureMessage(StandardSubjectBuilderCallback callback) {
+    return expectFailure(callback).getMessage();
+  }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import static com.google.common.truth.ExpectFailure.expectFailure;
+import static com.google.common.truth.FailureAssertions.assertFailureKeys;
+import static com.google.common.truth.FailureAssertions.assertFailureValue;
+import static com.google.common.truth.InputStreamSubject.inputStreams;
+import static com.google.common.truth.TestBytes.ascii;
+import static com.google.common.truth.TestBytes.randomBytes;
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/** Tests for {@link InputStreamSubject}. */
+public final class InputStreamSubjectTest {
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void hasLength() {
+    assertAbout(inputStreams()).that(stream(new byte[100_000])).hasLength(100_000);
+  }
+
+  @Test
+  public void hasLength_fails() {
+    InputStream actual = stream(new byte[3]);
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.about(inputStreams()).that(actual).hasLength(4));
+    assertFailureValue(e, "value of", "inputStream.length()");
+    assertFailureValue(e, "expected", "4");
+    assertFailureValue(e, "but was", "3");
+  }
+
+  @Test
+  public void hasContent() {
+    byte[] bytes = randomBytes(100_000);
+    assertAbout(inputStreams()).that(stream(bytes)).hasContent(bytes.clone());
+    assertAbout(inputStreams()).that(stream(new byte[0])).hasContent(new byte[0]);
+  }
+
+  @Test
+  public void hasContent_fails() {
+    InputStream actual = stream(ascii("Hello, world!"));
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting.about(inputStreams()).that(actual).hasContent(ascii("Hello, World!")));
+    assertFailureKeys(
+        e,
+        "expected to have the given content",
+        "but differed at offset",
+        "expected bytes",
+        "but bytes were");
+    assertFailureValue(e, "but differed at offset", "7");
+    assertFailureValue(e, "expected bytes", FileContents.hexWindow(ascii("Hello, World!"), 7));
+    assertFailureValue(e, "but bytes were", FileContents.hexWindow(ascii("Hello, world!"), 7));
+  }
+
+  @Test
+  public void hasContent_fails_windowsSpanChunks() {
+    // Differences just before and just after chunk boundaries need bytes from both chunks.
+    byte[] expected = randomBytes(50_000);
+    for (int offset : new int[] {0, 5, 8191, 8192, 8200, 16_380, 49_999}) {
+      byte[] actual = expected.clone();
+      actual[offset] ^= 1;
+      AssertionError e =
+          expectFailure(
+              whenTesting ->
+                  whenTesting.about(inputStreams()).that(stream(actual)).hasContent(expected));
+      assertFailureValue(e, "but differed at offset", Integer.toString(offset));
+      assertFailureValue(e, "expected bytes", FileContents.hexWindow(expected, offset));
+      assertFailureValue(e, "but bytes were", FileContents.hexWindow(actual, offset));
+    }
+  }
+
+  @Test
+  public void hasContent_fails_actualShorter() {
+    byte[] expected = randomBytes(20_000);
+    byte[] actual = Arrays.copyOf(expected, 8192);
+    InputStream actualStream = stream(actual);
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting.about(inputStreams()).that(actualStream).hasContent(expected));
+    assertFailureKeys(
+        e,
+        "expected to have the given content",
+        "but differed at offset",
+        "but length was",
+        "expected bytes",
+        "but bytes were");
+    assertFailureValue(e, "but length was", "8192");
+    assertFailureValue(e, "but bytes were", FileContents.hexWindow(actual, 8192));
+  }
+
+  @Test
+  public void hasContent_fails_actualLonger() {
+    InputStream actual = stream(ascii("abcd"));
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting.about(inputStreams()).that(actual).hasContent(ascii("abc")));
+    assertFailureKeys(
+        e,
+        "expected to have the given content",
+        "but differed at offset",
+        "expected length",
+        "but actual content was longer",
+        "expected bytes",
+        "but bytes were");
+    assertFailureValue(e, "expected length", "3");
+  }
+
+  @Test
+  public void startsWith() {
+    byte[] bytes = randomBytes(100_000);
+    assertAbout(inputStreams()).that(stream(bytes)).startsWith(Arrays.copyOf(bytes, 9000));
+    assertAbout(inputStreams()).that(stream(bytes)).startsWith(new byte[0]);
+  }
+
+  @Test
+  public void startsWith_readsOnlyThePrefix() throws IOException {
+    byte[] bytes = randomBytes(100_000);
+    InputStream actual = stream(bytes);
+    assertAbout(inputStreams()).that(actual).startsWith(Arrays.copyOf(bytes, 10));
+    assertThat(actual.read()).isEqualTo(bytes[10] & 0xFF);
+  }
+
+  @Test
+  public void startsWith_fails() {
+    InputStream actual = stream(ascii("ab"));
+    AssertionError e =
+        expectFailure(
+            whenTesting -> whenTesting.about(inputStreams()).that(actual).startsWith(ascii("abc")));
+    assertFailureKeys(
+        e,
+        "expected to start with the given bytes",
+        "but differed at offset",
+        "but length was",
+        "expected bytes",
+        "but bytes were");
+  }
+
+  @Test
+  public void hasSameContentAs() throws IOException {
+    byte[] bytes = randomBytes(100_000);
+    assertAbout(inputStreams()).that(stream(bytes)).hasSameContentAs(stream(bytes));
+    Path file = temporaryFolder.newFile().toPath();
+    Files.write(file, bytes);
+    assertAbout(inputStreams()).that(stream(bytes)).hasSameContentAs(file);
+  }
+
+  @Test
+  public void hasSameContentAs_fails() throws IOException {
+    Path file = temporaryFolder.newFile().toPath();
+    Files.write(file, ascii("abc"));
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .about(inputStreams())
+                    .that(stream(ascii("abd")))
+                    .hasSameContentAs(file));
+    assertFailureValue(e, "expected to have the same content as", file.toString());
+    assertFailureValue(e, "but differed at offset", "2");
+  }
+
+  @Test
+  public void readsInSmallPieces() {
+    // A stream that returns fewer bytes than requested must still be compared chunk by chunk.
+    byte[] bytes = randomBytes(30_000);
+    InputStream trickle =
+        new ByteArrayInputStream(bytes) {
+          @Override
+          public synchronized int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, 7));
+          }
+        };
+    assertAbout(inputStreams()).that(trickle).hasSameContentAs(stream(bytes));
+  }
+
+  @Test
+  public void unreadable() {
+    InputStream broken =
+        new InputStream() {
+          @Override
+          public int read() throws IOException {
+            throw new IOException("broken");
+          }
+        };
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.about(inputStreams()).that(broken).hasLength(0));
+    assertFailureKeys(e, "could not read stream because of");
+  }
+
+  @Test
+  public void nullActual() {
+    AssertionError e =
+        expectFailure(
+            whenTesting -> whenTesting.about(inputStreams()).that(null).hasContent(new byte[0]));
+    assertFailureKeys(e, "expected to have the given content", "but was");
+    assertThat(e).hasMessageThat().contains("null");
+  }
+
+  private static InputStream stream(byte[] bytes) {
+    return new ByteArrayInputStream(bytes);
+  }
+}
@@ -22,6 +22,10 @@ import static com.google.common.truth.Truth.assertThat;
 import static java.util.Arrays.asList;
 
 import com.google.common.annotations.GwtIncompatible;
+import com.google.common.primitives.Ints;
+import com.google.common.truth.ExpectFailure.StandardSubjectBuilderCallback;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.IntStream;
 import org.junit.Test;
@@ -87,7 +91,10 @@ public final class IntStreamSubjectTest {
 
   @Test
   public void hasSize_fails() {
-    expectFailure(whenTesting -> whenTesting.that(IntStream.of(42)).hasSize(2));
+    AssertionError e = expectFailure(whenTesting -> whenTesting.that(IntStream.of(42)).hasSize(2));
+    assertFailureValue(e, "value of", "stream.size()");
+    assertFailureValue(e, "expected", "2");
+    assertFailureValue(e, "but was", "1");
   }
 
   @Test
@@ -322,7 +329,46 @@ public final class IntStreamSubjectTest {
 
   @Test
   public void isInOrder_fails() {
-    expectFailure(whenTesting -> whenTesting.that(IntStream.of(1, 3, 2, 4)).isInOrder());
+    AssertionError e =
+        expectFailure(
+            whenTesting -> whenTesting.that(IntStream.of(1, 3, 2, 4)).isInOrder());
+    assertFailureKeys(
+        e, "expected to be in order", "but contained", "followed by", "at index", "full contents");
+    assertFailureValue(e, "but contained", "3");
+    assertFailureValue(e, "followed by", "2");
+    assertFailureValue(e, "at index", "2");
+    assertFailureValue(e, "full contents", "[1, 3, 2, 4]");
+  }
+
+  @Test
+  public void isInOrder_comparator() {
+    assertThat(IntStream.of(3, 2, 2)).isInOrder(Comparator.reverseOrder());
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .that(IntStream.of(3, 2, 2))
+                    .isInStrictOrder(Comparator.reverseOrder()));
+    assertFailureValue(e, "at index", "2");
+  }
+
+  @Test
+  public void isInOrderUsing() {
+    assertThat(IntStream.of(3, 2, 2)).isInOrderUsing((a, b) -> Integer.compare(b, a));
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .that(IntStream.of(3, 2, 2))
+                    .isInStrictOrderUsing((a, b) -> Integer.compare(b, a)));
+    assertFailureKeys(
+        e,
+        "expected to be in strict order",
+        "but contained",
+        "followed by",
+        "at index",
+        "full contents");
+    assertFailureValue(e, "at index", "2");
   }
 
   @Test
@@ -336,4 +382,43 @@ public final class IntStreamSubjectTest {
   public void isInStrictOrder_fails() {
     expectFailure(whenTesting -> whenTesting.that(IntStream.of(1, 2, 2, 4)).isInStrictOrder());
   }
+
+  @Test
+  public void primitiveChecks_messagesMatchIterableSubject() {
+    int[][][] cases = {
+      {{3, 1, 1, 3, 3}, {1, 3, 4}},
+      {{1, 2, 3}, {3, 2, 1, 0}},
+      {{5, 5, 5}, {6, 5}},
+      {{1}, {1, 1, 2, 2}},
+      {{4, 2}, {9, 8, 7}},
+    };
+    for (int[][] c : cases) {
+      int[] actual = c[0];
+      int[] expected = c[1];
+      List<Integer> actualList = Ints.asList(actual);
+      List<Integer> expectedList = Ints.asList(expected);
+      int[] rest = Arrays.copyOfRange(expected, 2, expected.length);
+      assertThat(failureMessage(that -> that.that(IntStream.of(actual)).containsExactly(expected)))
+          .isEqualTo(
+              failureMessage(
+                  that -> that.that(actualList).containsExactlyElementsIn(expectedList)));
+      assertThat(
+              failureMessage(
+                  that ->
+                      that.that(IntStream.of(actual))
+                          .containsAtLeast(expected[0], expected[1], rest)))
+          .isEqualTo(
+              failureMessage(
+                  that -> that.that(actualList).containsAtLeastElementsIn(expectedList)));
+    }
+    for (int[] actual : new int[][] {{3, 1, 1, 3, 3}, {5, 5, 5}, {1, 2, 1}}) {
+      List<Integer> actualList = Ints.asList(actual);
+      assertThat(failureMessage(that -> that.that(IntStream.of(actual)).containsNoDuplicates()))
+          .isEqualTo(failureMessage(that -> that.that(actualList).containsNoDuplicates()));
+    }
+  }
+
+  private static String failureMessage(StandardSubjectBuilderCallback callback) {
+    return expectFailure(callback).getMessage();
+  }
 }
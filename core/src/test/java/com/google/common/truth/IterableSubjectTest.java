@@ -15,6 +15,7 @@
  */
 package com.google.common.truth;
 
+import static com.google.common.collect.Sets.newLinkedHashSet;
 import static com.google.common.truth.ExpectFailure.assertThat;
 import static com.google.common.truth.ExpectFailure.expectFailure;
 import static com.google.common.truth.FailureAssertions.assertFailureKeys;
@@ -27,10 +28,14 @@ import static java.util.Collections.singleton;
 import static org.junit.Assert.assertThrows;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Iterators;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.TreeSet;
 import org.jspecify.annotations.Nullable;
 import org.junit.Test;
@@ -774,6 +779,136 @@ public class IterableSubjectTest {
         whenTesting -> whenTesting.that(asList(1, 2, 3)).containsNoneIn(new Integer[] {1, 2, 4}));
   }
 
+  @Test
+  public void lazilyContains() {
+    CountingIterable naturals = new CountingIterable(Integer.MAX_VALUE);
+    assertThat(naturals).lazily().contains(5);
+    assertThat(naturals.iterators).isEqualTo(1);
+    assertThat(naturals.elementsRead).isEqualTo(6);
+  }
+
+  @Test
+  public void lazilyContainsFailure() {
+    Iterable<Integer> actual = asList(1, 2, 3);
+    AssertionError e = expectFailure(whenTesting -> whenTesting.that(actual).lazily().contains(4));
+    assertFailureKeys(e, "expected to contain", "but was");
+    assertFailureValue(e, "but was", "[1, 2, 3]");
+  }
+
+  @Test
+  public void lazilyContainsFailure_capsReportedElements() {
+    CountingIterable actual = new CountingIterable(250);
+    AssertionError e = expectFailure(whenTesting -> whenTesting.that(actual).lazily().contains(-1));
+    assertThat(e).factValue("but was").endsWith(", 99, <150 more>]");
+  }
+
+  @Test
+  public void lazilyIsEmptyAndIsNotEmpty() {
+    CountingIterable naturals = new CountingIterable(Integer.MAX_VALUE);
+    assertThat(naturals).lazily().isNotEmpty();
+    assertThat(naturals.elementsRead).isEqualTo(0);
+    assertThat(ImmutableList.of()).lazily().isEmpty();
+
+    AssertionError e = expectFailure(whenTesting -> whenTesting.that(naturals).lazily().isEmpty());
+    assertFailureKeys(e, "expected to be empty", "but was");
+    assertFailureValue(e, "but was", "[0, ...]");
+  }
+
+  @Test
+  public void lazilyHasSize() {
+    assertThat(asList(1, 2, 3)).lazily().hasSize(3);
+    CountingIterable naturals = new CountingIterable(Integer.MAX_VALUE);
+    AssertionError e = expectFailure(whenTesting -> whenTesting.that(naturals).lazily().hasSize(3));
+    assertFailureKeys(e, "expected size", "but had at least", "contents");
+    assertFailureValue(e, "but had at least", "4");
+    assertFailureValue(e, "contents", "[0, 1, 2, 3, ...]");
+    assertThat(naturals.elementsRead).isEqualTo(4);
+  }
+
+  @Test
+  public void lazilyHasSizeFailure_tooFew() {
+    Iterable<Integer> actual = asList(1, 2);
+    AssertionError e = expectFailure(whenTesting -> whenTesting.that(actual).lazily().hasSize(3));
+    assertFailureKeys(e, "expected size", "but had", "contents");
+    assertFailureValue(e, "but had", "2");
+  }
+
+  @Test
+  public void lazilyContainsAnyIn() {
+    CountingIterable naturals = new CountingIterable(Integer.MAX_VALUE);
+    assertThat(naturals).lazily().containsAnyIn(asList(-1, 2));
+    assertThat(naturals.elementsRead).isEqualTo(3);
+
+    Iterable<Integer> actual = asList(1, 2, 3);
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(actual).lazily().containsAnyOf(4, 5));
+    assertFailureKeys(e, "expected to contain any of", "but was");
+  }
+
+  @Test
+  public void lazilyContainsNoneIn() {
+    assertThat(asList(1, 2, 3)).lazily().containsNoneIn(asList(4, 5));
+    CountingIterable naturals = new CountingIterable(Integer.MAX_VALUE);
+    AssertionError e =
+        expectFailure(
+            whenTesting -> whenTesting.that(naturals).lazily().containsNoneIn(asList(7, 2)));
+    assertFailureKeys(e, "expected not to contain any of", "but contained", "contents");
+    assertFailureValue(e, "but contained", "2");
+    assertFailureValue(e, "contents", "[0, 1, 2, ...]");
+  }
+
+  @Test
+  public void lazilyDoesNotContain() {
+    assertThat(asList(1, 2, 3)).lazily().doesNotContain(4);
+    Iterable<Integer> actual = asList(1, 2, 3);
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(actual).lazily().doesNotContain(2));
+    assertFailureKeys(e, "expected not to contain", "but was");
+    assertFailureValue(e, "but was", "[1, 2, ...]");
+  }
+
+  @Test
+  public void lazilyOnNullIterable() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that((Iterable<?>) null).lazily().contains(1));
+    assertFailureKeys(e, "cannot perform assertions on the contents of a null iterable");
+  }
+
+  /** An iterable over 0, 1, 2, ... that counts its iterators and the elements they return. */
+  private static final class CountingIterable implements Iterable<Integer> {
+    private final int size;
+    int iterators;
+    int elementsRead;
+
+    CountingIterable(int size) {
+      this.size = size;
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+      iterators++;
+      return new Iterator<Integer>() {
+        int next;
+
+        @Override
+        public boolean hasNext() {
+          return next < size;
+        }
+
+        @Override
+        public Integer next() {
+          elementsRead++;
+          return next++;
+        }
+      };
+    }
+
+    @Override
+    public String toString() {
+      return "CountingIterable";
+    }
+  }
+
   @Test
   public void containsExactlyArray() {
     String[] stringArray = {"a", "b"};
@@ -1634,4 +1769,130 @@ public class IterableSubjectTest {
       return super.toString();
     }
   }
+
+  @Test
+  public void containsExactly_hashSets() {
+    Set<Integer> actual = new HashSet<>();
+    for (int i = 0; i < 10_000; i++) {
+      actual.add(i);
+    }
+    assertThat(actual).containsExactlyElementsIn(ImmutableSet.copyOf(actual)).inOrder();
+    assertThat(ImmutableSet.of(1, 2, 3))
+        .containsExactlyElementsIn(newLinkedHashSet(asList(3, 2, 1)));
+  }
+
+  @Test
+  public void containsExactly_hashSets_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .that(ImmutableSet.of(1, 2, 3))
+                    .containsExactlyElementsIn(newLinkedHashSet(asList(4, 3, 2))));
+    assertFailureKeys(e, "missing (1)", "unexpected (1)", "---", "expected", "but was");
+    assertFailureValue(e, "missing (1)", "4");
+    assertFailureValue(e, "unexpected (1)", "1");
+  }
+
+  @Test
+  public void containsExactly_hashSets_inOrder_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .that(ImmutableSet.of(1, 2, 3))
+                    .containsExactlyElementsIn(ImmutableSet.of(3, 2, 1))
+                    .inOrder());
+    assertFailureKeys(e, "contents match, but order was wrong", "expected", "but was");
+  }
+
+  @Test
+  public void containsExactly_hashSets_emptyExpected_fails() {
+    Set<Integer> actual = newLinkedHashSet(asList(1, 2, 3));
+    AssertionError e =
+        expectFailure(
+            whenTesting -> whenTesting.that(actual).containsExactlyElementsIn(ImmutableSet.of()));
+    assertFailureKeys(e, "expected to be empty", "but was");
+    assertFailureValue(e, "but was", "[1, 2, 3]");
+  }
+
+  @Test
+  public void containsExactly_singletonSets_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .that(ImmutableSet.of(1))
+                    .containsExactlyElementsIn(ImmutableSet.of(2)));
+    assertFailureKeys(e, "value of", "expected", "but was");
+    assertFailureValue(e, "value of", "iterable.onlyElement()");
+  }
+
+  @Test
+  public void containsExactly_sortedSets() {
+    TreeSet<Integer> actual = new TreeSet<>();
+    for (int i = 0; i < 10_000; i++) {
+      actual.add(i);
+    }
+    assertThat(actual).containsExactlyElementsIn(ImmutableSortedSet.copyOf(actual)).inOrder();
+    assertThat(actual)
+        .containsAtLeastElementsIn(ImmutableSortedSet.of(0, 5_000, 9_999))
+        .inOrder();
+  }
+
+  @Test
+  public void containsExactly_sortedSets_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .that(ImmutableSortedSet.of(1, 2, 3))
+                    .containsExactlyElementsIn(ImmutableSortedSet.of(2, 3, 4)));
+    assertFailureKeys(e, "missing (1)", "unexpected (1)", "---", "expected", "but was");
+    assertFailureValue(e, "missing (1)", "4");
+    assertFailureValue(e, "unexpected (1)", "1");
+  }
+
+  @Test
+  public void containsAtLeast_sortedSets_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .that(ImmutableSortedSet.of(1, 2, 3))
+                    .containsAtLeastElementsIn(ImmutableSortedSet.of(0, 2)));
+    assertFailureKeys(e, "missing (1)", "---", "expected to contain at least", "but was");
+    assertFailureValue(e, "missing (1)", "0");
+  }
+
+  @Test
+  public void containsExactly_sortedSetsWithDifferentComparators() {
+    assertThat(ImmutableSortedSet.of(1, 2, 3))
+        .containsExactlyElementsIn(
+            ImmutableSortedSet.orderedBy(Comparator.<Integer>reverseOrder()).add(1, 2, 3).build());
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .that(ImmutableSortedSet.of(1, 2, 3))
+                    .containsExactlyElementsIn(
+                        ImmutableSortedSet.orderedBy(Comparator.<Integer>reverseOrder())
+                            .add(1, 2, 3)
+                            .build())
+                    .inOrder());
+    assertFailureKeys(e, "contents match, but order was wrong", "expected", "but was");
+  }
+
+  @Test
+  public void containsExactly_sortedSetsInconsistentWithEquals() {
+    TreeSet<String> actual = new TreeSet<>(CASE_INSENSITIVE_ORDER);
+    TreeSet<String> expected = new TreeSet<>(CASE_INSENSITIVE_ORDER);
+    actual.addAll(asList("a", "b"));
+    expected.addAll(asList("a", "B"));
+    AssertionError e =
+        expectFailure(
+            whenTesting -> whenTesting.that(actual).containsExactlyElementsIn(expected));
+    assertFailureValue(e, "missing (1)", "B");
+    assertFailureValue(e, "unexpected (1)", "b");
+  }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import static com.google.common.truth.ExpectFailure.expectFailure;
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.GwtIncompatible;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.jspecify.annotations.Nullable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@code JfrTruthInstrumentation}, which is compiled separately for Java 11 and so is
+ * loaded the way Truth itself loads it.
+ */
+@GwtIncompatible
+@J2ktIncompatible
+public final class JfrTruthInstrumentationTest {
+  private @Nullable TruthInstrumentation previous;
+
+  @Before
+  public void install() {
+    previous = TruthInstrumentation.installed();
+    TruthInstrumentation.install(requireNonNull(Platform.loadJfrInstrumentation()));
+  }
+
+  @After
+  public void restore() {
+    TruthInstrumentation.install(previous);
+  }
+
+  @Test
+  public void failedAssertionEmitsEvents() throws Exception {
+    Path file = Files.createTempFile("truth", ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable("truth.Assertion");
+      recording.enable("truth.FailureFormat");
+      recording.enable("truth.StackClean");
+      recording.enable("truth.Diff");
+      recording.start();
+      expectFailure(whenTesting -> whenTesting.that("a\nb").isEqualTo("a\nc"));
+      recording.stop();
+      recording.dump(file);
+    }
+
+    List<String> names = new ArrayList<>();
+    RecordedEvent assertion = null;
+    for (RecordedEvent event : readTruthEvents(file)) {
+      names.add(event.getEventType().getName());
+      if (event.getEventType().getName().equals("truth.Assertion")) {
+        assertion = event;
+      }
+    }
+    assertThat(names)
+        .containsAtLeast(
+            "truth.Assertion", "truth.FailureFormat", "truth.StackClean", "truth.Diff");
+    assertThat(assertion.getClass("subjectClass").getName())
+        .isEqualTo(StringSubject.class.getName());
+    // The event began before the failure was reported, rather than being committed at its end.
+    assertThat(assertion.getDuration().isZero()).isFalse();
+  }
+
+  @Test
+  public void disabledEventsAreNotRecorded() throws Exception {
+    Path file = Files.createTempFile("truth", ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.disable("truth.Assertion");
+      recording.disable("truth.FailureFormat");
+      recording.disable("truth.StackClean");
+      recording.disable("truth.Inference");
+      recording.disable("truth.Diff");
+      recording.start();
+      expectFailure(whenTesting -> whenTesting.that("a\nb").isEqualTo("a\nc"));
+      recording.stop();
+      recording.dump(file);
+    }
+
+    assertThat(readTruthEvents(file)).isEmpty();
+  }
+
+  /** Returns the Truth events in the given recording, and deletes the recording. */
+  private static List<RecordedEvent> readTruthEvents(Path file) throws IOException {
+    List<RecordedEvent> events = new ArrayList<>();
+    for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+      if (event.getEventType().getName().startsWith("truth.")) {
+        events.add(event);
+      }
+    }
+    Files.delete(file);
+    return events;
+  }
+}
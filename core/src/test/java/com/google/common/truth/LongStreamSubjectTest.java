@@ -22,6 +22,10 @@ import static com.google.common.truth.Truth.assertThat;
 import static java.util.Arrays.asList;
 
 import com.google.common.annotations.GwtIncompatible;
+import com.google.common.primitives.Longs;
+import com.google.common.truth.ExpectFailure.StandardSubjectBuilderCallback;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.LongStream;
 import org.junit.Test;
@@ -87,7 +91,10 @@ public final class LongStreamSubjectTest {
 
   @Test
   public void hasSize_fails() {
-    expectFailure(whenTesting -> whenTesting.that(LongStream.of(42)).hasSize(2));
+    AssertionError e = expectFailure(whenTesting -> whenTesting.that(LongStream.of(42)).hasSize(2));
+    assertFailureValue(e, "value of", "stream.size()");
+    assertFailureValue(e, "expected", "2");
+    assertFailureValue(e, "but was", "1");
   }
 
   @Test
@@ -354,7 +361,43 @@ public final class LongStreamSubjectTest {
 
   @Test
   public void isInOrder_fails() {
-    expectFailure(whenTesting -> whenTesting.that(LongStream.of(1, 3, 2, 4)).isInOrder());
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(LongStream.of(1, 3, 2, 4)).isInOrder());
+    assertFailureKeys(
+        e, "expected to be in order", "but contained", "followed by", "at index", "full contents");
+    assertFailureValue(e, "at index", "2");
+    assertFailureValue(e, "full contents", "[1, 3, 2, 4]");
+  }
+
+  @Test
+  public void isInOrder_comparator() {
+    assertThat(LongStream.of(3, 2, 2)).isInOrder(Comparator.reverseOrder());
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .that(LongStream.of(3, 2, 2))
+                    .isInStrictOrder(Comparator.reverseOrder()));
+    assertFailureValue(e, "at index", "2");
+  }
+
+  @Test
+  public void isInOrderUsing() {
+    assertThat(LongStream.of(3, 2, 2)).isInOrderUsing((a, b) -> Long.compare(b, a));
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .that(LongStream.of(3, 2, 2))
+                    .isInStrictOrderUsing((a, b) -> Long.compare(b, a)));
+    assertFailureKeys(
+        e,
+        "expected to be in strict order",
+        "but contained",
+        "followed by",
+        "at index",
+        "full contents");
+    assertFailureValue(e, "at index", "2");
   }
 
   @Test
@@ -368,4 +411,43 @@ public final class LongStreamSubjectTest {
   public void isInStrictOrder_fails() {
     expectFailure(whenTesting -> whenTesting.that(LongStream.of(1, 2, 2, 4)).isInStrictOrder());
   }
+
+  @Test
+  public void primitiveChecks_messagesMatchIterableSubject() {
+    long[][][] cases = {
+      {{3, 1, 1, 3, 3}, {1, 3, 4}},
+      {{1, 2, 3}, {3, 2, 1, 0}},
+      {{5, 5, 5}, {6, 5}},
+      {{1}, {1, 1, 2, 2}},
+      {{4, 2}, {9, 8, 7}},
+    };
+    for (long[][] c : cases) {
+      long[] actual = c[0];
+      long[] expected = c[1];
+      List<Long> actualList = Longs.asList(actual);
+      List<Long> expectedList = Longs.asList(expected);
+      long[] rest = Arrays.copyOfRange(expected, 2, expected.length);
+      assertThat(failureMessage(that -> that.that(LongStream.of(actual)).containsExactly(expected)))
+          .isEqualTo(
+              failureMessage(
+                  that -> that.that(actualList).containsExactlyElementsIn(expectedList)));
+      assertThat(
+              failureMessage(
+                  that ->
+                      that.that(LongStream.of(actual))
+                          .containsAtLeast(expected[0], expected[1], rest)))
+          .isEqualTo(
+              failureMessage(
+                  that -> that.that(actualList).containsAtLeastElementsIn(expectedList)));
+    }
+    for (long[] actual : new long[][] {{3, 1, 1, 3, 3}, {5, 5, 5}, {1, 2, 1}}) {
+      List<Long> actualList = Longs.asList(actual);
+      assertThat(failureMessage(that -> that.that(LongStream.of(actual)).containsNoDuplicates()))
+          .isEqualTo(failureMessage(that -> that.that(actualList).containsNoDuplicates()));
+    }
+  }
+
+  private static String failureMessage(StandardSubjectBuilderCallback callback) {
+    return expectFailure(callback).getMessage();
+  }
 }
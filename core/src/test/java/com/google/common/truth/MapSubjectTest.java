@@ -29,6 +29,7 @@ import static java.lang.String.CASE_INSENSITIVE_ORDER;
 import static org.junit.Assert.assertThrows;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
@@ -2597,4 +2598,108 @@ public class MapSubjectTest {
     assertFailureValue(e, "but got value", "201");
     assertFailureValue(e, "diff", "1");
   }
+
+  @Test
+  public void containsExactlyEntriesIn_sortedMaps() {
+    TreeMap<Integer, String> actual = new TreeMap<>();
+    for (int i = 0; i < 10_000; i++) {
+      actual.put(i, "v" + i);
+    }
+    assertThat(actual).containsExactlyEntriesIn(ImmutableSortedMap.copyOf(actual)).inOrder();
+    assertThat(actual)
+        .containsAtLeastEntriesIn(ImmutableSortedMap.of(0, "v0", 9_999, "v9999"))
+        .inOrder();
+  }
+
+  @Test
+  public void containsExactlyEntriesIn_sortedMaps_wrongValue() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .that(ImmutableSortedMap.of("jan", 1, "feb", 2))
+                    .containsExactlyEntriesIn(ImmutableSortedMap.of("jan", 1, "feb", 3)));
+    assertFailureKeys(
+        e,
+        "keys with wrong values",
+        "for key",
+        "expected value",
+        "but got value",
+        "---",
+        "expected",
+        "but was");
+    assertFailureValue(e, "for key", "feb");
+  }
+
+  @Test
+  public void containsAtLeastEntriesIn_sortedMaps_missingKey() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .that(ImmutableSortedMap.of("jan", 1, "feb", 2))
+                    .containsAtLeastEntriesIn(ImmutableSortedMap.of("dec", 12)));
+    assertFailureKeys(
+        e,
+        "missing keys",
+        "for key",
+        "expected value",
+        "---",
+        "expected to contain at least",
+        "but was");
+  }
+
+  @Test
+  public void containsExactlyEntriesIn_sortedMapsInconsistentWithEquals() {
+    TreeMap<String, Integer> actual = new TreeMap<>(CASE_INSENSITIVE_ORDER);
+    TreeMap<String, Integer> expected = new TreeMap<>(CASE_INSENSITIVE_ORDER);
+    actual.put("one", 1);
+    expected.put("ONE", 1);
+    expectFailure(whenTesting -> whenTesting.that(actual).containsExactlyEntriesIn(expected));
+  }
+
+  @Test
+  public void containsExactlyEntriesIn_sortedActualMatchesTwoExpectedKeys() {
+    TreeMap<String, Integer> actual = new TreeMap<>(CASE_INSENSITIVE_ORDER);
+    actual.put("a", 1);
+    actual.put("B", 2);
+    Map<String, Integer> expected = new HashMap<>();
+    expected.put("a", 1);
+    expected.put("A", 1);
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(actual).containsExactlyEntriesIn(expected));
+    assertFailureKeys(
+        e,
+        "keys with wrong values",
+        "for key",
+        "expected value",
+        "but got value",
+        "unexpected keys",
+        "for key",
+        "unexpected value",
+        "---",
+        "expected",
+        "but was");
+    assertFailureValueIndexed(e, "for key", 0, "A");
+    assertFailureValueIndexed(e, "for key", 1, "B");
+  }
+
+  @Test
+  public void containsExactlyEntriesIn_manyDifferences_reportsFirstKeys() {
+    Map<Integer, Integer> actual = new LinkedHashMap<>();
+    Map<Integer, Integer> expected = new LinkedHashMap<>();
+    for (int i = 0; i < 10_000; i++) {
+      actual.put(i, i);
+    }
+    for (int i = 0; i < 250; i++) {
+      expected.put(-1 - i, i);
+    }
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(actual).containsExactlyEntriesIn(expected));
+    assertFailureValueIndexed(e, "keys not shown", 0, "150");
+    assertFailureValueIndexed(e, "keys not shown", 1, "9900");
+    assertFailureValueIndexed(e, "for key", 0, "-1");
+    assertFailureValueIndexed(e, "for key", 100, "0");
+    assertFailureValueIndexed(e, "for key", 199, "99");
+  }
 }
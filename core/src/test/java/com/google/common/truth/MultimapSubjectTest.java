@@ -2244,4 +2244,154 @@ public class MultimapSubjectTest {
     assertFailureValue(
         e, "expected order for required elements", "[abc=123, def=64, def=128, def=64]");
   }
+
+  @Test
+  public void comparingValuesUsing_containsExactlyEntriesIn_manyValuesPerKey() {
+    ListMultimap<Integer, String> actual = ArrayListMultimap.create();
+    ListMultimap<Integer, Integer> expected = ArrayListMultimap.create();
+    for (int key = 0; key < 100; key++) {
+      for (int value = 0; value < 100; value++) {
+        actual.put(key, "+" + value);
+        expected.put(key, 99 - value);
+      }
+    }
+    assertThat(actual)
+        .comparingValuesUsing(STRING_PARSES_TO_INTEGER_CORRESPONDENCE)
+        .containsExactlyEntriesIn(expected);
+    assertThat(actual)
+        .comparingValuesUsing(STRING_PARSES_TO_INTEGER_CORRESPONDENCE)
+        .containsAtLeastEntriesIn(expected);
+  }
+
+  @Test
+  public void comparingValuesUsing_transforming_manyValuesPerKey() {
+    ListMultimap<Integer, String> actual = ArrayListMultimap.create();
+    ListMultimap<Integer, Integer> expected = ArrayListMultimap.create();
+    for (int key = 0; key < 10; key++) {
+      for (int value = 0; value < 1_000; value++) {
+        actual.put(key, Integer.toString(value));
+        expected.put(key, 999 - value);
+      }
+    }
+    Correspondence<String, Integer> parsesTo =
+        Correspondence.transforming(Integer::valueOf, "parses to");
+    assertThat(actual).comparingValuesUsing(parsesTo).containsExactlyEntriesIn(expected);
+    assertThat(actual).comparingValuesUsing(parsesTo).containsAtLeastEntriesIn(expected);
+
+    expected.put(3, 5);
+    expectFailure(
+        whenTesting ->
+            whenTesting
+                .that(actual)
+                .comparingValuesUsing(parsesTo)
+                .containsAtLeastEntriesIn(expected));
+  }
+
+  @Test
+  public void comparingValuesUsing_containsExactlyEntriesIn_inOrder_interleavedKeys() {
+    LinkedListMultimap<String, String> actual = LinkedListMultimap.create();
+    actual.put("abc", "+123");
+    actual.put("def", "+64");
+    actual.put("abc", "+456");
+    LinkedListMultimap<String, Integer> expected = LinkedListMultimap.create();
+    expected.put("abc", 123);
+    expected.put("def", 64);
+    expected.put("abc", 456);
+    assertThat(actual)
+        .comparingValuesUsing(STRING_PARSES_TO_INTEGER_CORRESPONDENCE)
+        .containsExactlyEntriesIn(expected)
+        .inOrder();
+
+    LinkedListMultimap<String, Integer> regrouped = LinkedListMultimap.create();
+    regrouped.put("abc", 123);
+    regrouped.put("abc", 456);
+    regrouped.put("def", 64);
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .that(actual)
+                    .comparingValuesUsing(STRING_PARSES_TO_INTEGER_CORRESPONDENCE)
+                    .containsExactlyEntriesIn(regrouped)
+                    .inOrder());
+    assertFailureKeys(
+        e, "contents match, but order was wrong", "expected", "testing whether", "but was");
+  }
+
+  @Test
+  public void comparingValuesUsing_containsExactlyEntriesIn_inOrder_fails() {
+    ImmutableListMultimap<String, String> actual =
+        ImmutableListMultimap.of("abc", "+123", "def", "+64", "def", "+128");
+    ImmutableListMultimap<String, Integer> expected =
+        ImmutableListMultimap.of("def", 128, "def", 64, "abc", 123);
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .that(actual)
+                    .comparingValuesUsing(STRING_PARSES_TO_INTEGER_CORRESPONDENCE)
+                    .containsExactlyEntriesIn(expected)
+                    .inOrder());
+    assertFailureKeys(
+        e, "contents match, but order was wrong", "expected", "testing whether", "but was");
+  }
+
+  @Test
+  public void comparingValuesUsing_comparingKeysInParallel() {
+    ListMultimap<Integer, String> actual = ArrayListMultimap.create();
+    ListMultimap<Integer, Integer> expected = ArrayListMultimap.create();
+    for (int key = 0; key < 1_000; key++) {
+      for (int value = 0; value < 20; value++) {
+        actual.put(key, "+" + value);
+        expected.put(key, value);
+      }
+    }
+    assertThat(actual)
+        .comparingValuesUsing(STRING_PARSES_TO_INTEGER_CORRESPONDENCE)
+        .comparingKeysInParallel()
+        .containsExactlyEntriesIn(expected)
+        .inOrder();
+  }
+
+  @Test
+  public void comparingValuesUsing_comparingKeysInParallel_fails() {
+    ImmutableListMultimap<String, String> actual =
+        ImmutableListMultimap.of("abc", "+123", "def", "+64", "def", "0x40");
+    ImmutableListMultimap<String, Integer> expected =
+        ImmutableListMultimap.of("def", 64, "abc", 123, "ghi", 0);
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .that(actual)
+                    .comparingValuesUsing(STRING_PARSES_TO_INTEGER_CORRESPONDENCE)
+                    .comparingKeysInParallel()
+                    .containsAtLeastEntriesIn(expected));
+    assertFailureKeys(
+        e, "missing (1)", "---", "expected to contain at least", "testing whether", "but was");
+    assertFailureValue(e, "missing (1)", "ghi=0");
+  }
+
+  @Test
+  public void comparingValuesUsing_comparingKeysInParallel_handlesException() {
+    ListMultimap<Integer, @Nullable String> actual = LinkedListMultimap.create();
+    actual.put(1, "one");
+    actual.put(2, null);
+    actual.put(2, "two");
+    ListMultimap<Integer, @Nullable String> expected = LinkedListMultimap.create();
+    expected.put(1, "ONE");
+    expected.put(2, "TWO");
+    expected.put(2, null);
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .that(actual)
+                    .comparingValuesUsing(CASE_INSENSITIVE_EQUALITY_HALF_NULL_SAFE)
+                    .comparingKeysInParallel()
+                    .containsExactlyEntriesIn(expected));
+    assertThat(e)
+        .factValue("first exception")
+        .startsWith("compare(2=null, 2=TWO) threw java.lang.NullPointerException");
+  }
 }
@@ -20,9 +20,13 @@ import static com.google.common.truth.FailureAssertions.assertFailureKeys;
 import static com.google.common.truth.FailureAssertions.assertFailureValue;
 import static com.google.common.truth.Truth.assertThat;
 import static com.google.common.truth.Truth.assertWithMessage;
+import static java.util.Arrays.asList;
 
+import com.google.common.collect.HashMultiset;
 import com.google.common.collect.ImmutableMultiset;
+import com.google.common.collect.LinkedHashMultiset;
 import com.google.common.collect.Multiset;
+import com.google.common.collect.TreeMultiset;
 import org.junit.Test;
 
 /** Tests for {@link MultisetSubject}. */
@@ -74,4 +78,53 @@ public class MultisetSubjectTest {
     assertFailureValue(e, "element", "kurt");
     assertFailureValue(e, "expected count", "3");
   }
+
+  @Test
+  public void containsExactly_largeCounts() {
+    Multiset<String> actual = HashMultiset.create();
+    actual.add("a", 1_000_000_000);
+    actual.add("b", 2);
+    Multiset<String> expected = LinkedHashMultiset.create();
+    expected.add("a", 1_000_000_000);
+    expected.add("b", 2);
+    assertThat(actual).containsExactlyElementsIn(expected);
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  public void containsExactly_hashMultisets_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .that(HashMultiset.create(asList("a", "a", "b", "c")))
+                    .containsExactlyElementsIn(ImmutableMultiset.of("a", "b", "b", "d")));
+    assertFailureKeys(e, "missing (2)", "unexpected (2)", "---", "expected", "but was");
+    assertFailureValue(e, "missing (2)", "b, d");
+    assertFailureValue(e, "unexpected (2)", "a, c");
+  }
+
+  @Test
+  public void containsExactly_hashMultisets_inOrder() {
+    assertThat(ImmutableMultiset.of("a", "a", "b"))
+        .containsExactlyElementsIn(LinkedHashMultiset.create(asList("a", "b", "a")))
+        .inOrder();
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .that(ImmutableMultiset.of("a", "a", "b"))
+                    .containsExactlyElementsIn(ImmutableMultiset.of("b", "a", "a"))
+                    .inOrder());
+    assertFailureKeys(e, "contents match, but order was wrong", "expected", "but was");
+  }
+
+  @Test
+  public void containsExactly_sortedMultisets_usesGeneralImplementation() {
+    Multiset<String> actual = TreeMultiset.create(String.CASE_INSENSITIVE_ORDER);
+    actual.addAll(asList("B", "a", "b"));
+    assertThat(actual)
+        .containsExactlyElementsIn(ImmutableMultiset.of("a", "B", "B"))
+        .inOrder();
+  }
 }
@@ -15,15 +15,232 @@
  */
 package com.google.common.truth;
 
+import static com.google.common.truth.ExpectFailure.expectFailure;
+import static com.google.common.truth.FailureAssertions.assertFailureKeys;
+import static com.google.common.truth.FailureAssertions.assertFailureValue;
+import static com.google.common.truth.TestBytes.ascii;
+import static com.google.common.truth.TestBytes.randomBytes;
 import static com.google.common.truth.Truth.assertThat;
 
+import com.google.common.base.Strings;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /** Tests for {@link PathSubject}. */
 public class PathSubjectTest {
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
   @Test
   public void basicEquality() {
     assertThat(Paths.get("foo")).isEqualTo(Paths.get("foo"));
   }
+
+  @Test
+  public void hasSize() throws IOException {
+    assertThat(file("a", new byte[1234])).hasSize(1234);
+  }
+
+  @Test
+  public void hasSize_fails() throws IOException {
+    Path file = file("a", new byte[3]);
+    AssertionError e = expectFailure(whenTesting -> whenTesting.that(file).hasSize(4));
+    assertFailureValue(e, "value of", "path.size()");
+    assertFailureValue(e, "expected", "4");
+    assertFailureValue(e, "but was", "3");
+  }
+
+  @Test
+  public void hasSize_missingFile() {
+    Path file = temporaryFolder.getRoot().toPath().resolve("missing");
+    AssertionError e = expectFailure(whenTesting -> whenTesting.that(file).hasSize(4));
+    assertFailureKeys(e, "could not read file contents because of", "file");
+  }
+
+  @Test
+  public void hasContent() throws IOException {
+    byte[] bytes = randomBytes(200_000);
+    assertThat(file("a", bytes)).hasContent(bytes.clone());
+    assertThat(file("empty", new byte[0])).hasContent(new byte[0]);
+  }
+
+  @Test
+  public void hasContent_fails() throws IOException {
+    Path file = file("a", ascii("Hello, world!"));
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(file).hasContent(ascii("Hello, World!")));
+    assertFailureKeys(
+        e,
+        "expected to have the given content",
+        "but differed at offset",
+        "expected bytes",
+        "but bytes were",
+        "file");
+    assertFailureValue(e, "but differed at offset", "7");
+    assertFailureValue(
+        e,
+        "expected bytes",
+        "00000000  48 65 6c 6c 6f 2c 20 57 6f 72 6c 64 21           |Hello, World!|");
+    assertFailureValue(
+        e,
+        "but bytes were",
+        "00000000  48 65 6c 6c 6f 2c 20 77 6f 72 6c 64 21           |Hello, world!|");
+  }
+
+  @Test
+  public void hasContent_fails_differentSize() throws IOException {
+    Path file = file("a", ascii("abc"));
+    AssertionError e = expectFailure(whenTesting -> whenTesting.that(file).hasContent(ascii("ab")));
+    assertFailureValue(e, "but differed at offset", "2");
+    assertFailureValue(e, "expected size", "2");
+    assertFailureValue(e, "but size was", "3");
+    assertFailureValue(
+        e, "expected bytes", "00000000  61 62" + Strings.repeat(" ", 3 * 14) + "  |ab|");
+  }
+
+  @Test
+  public void hasSameContentAs() throws IOException {
+    byte[] bytes = randomBytes(3_000_000);
+    assertThat(file("a", bytes)).hasSameContentAs(file("b", bytes));
+  }
+
+  @Test
+  public void hasSameContentAs_fails_showsWindowAroundFirstDifference() throws IOException {
+    byte[] expected = randomBytes(3_000_000);
+    byte[] actual = expected.clone();
+    actual[2_000_037] ^= 1;
+    actual[2_500_000] ^= 1;
+    Path actualFile = file("actual", actual);
+    Path expectedFile = file("expected", expected);
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(actualFile).hasSameContentAs(expectedFile));
+    assertFailureKeys(
+        e,
+        "expected to have the same content as",
+        "but differed at offset",
+        "expected bytes",
+        "but bytes were",
+        "file");
+    assertFailureValue(e, "but differed at offset", "2000037");
+    assertFailureValue(e, "expected bytes", FileContents.hexWindow(expected, 2_000_037));
+    String window = FileContents.hexWindow(actual, 2_000_037);
+    assertFailureValue(e, "but bytes were", window);
+    assertThat(window.split("\n")).hasLength(3);
+    assertThat(window).startsWith(String.format("%08x", 2_000_016));
+  }
+
+  @Test
+  public void hasSameContentAs_fails_prefix() throws IOException {
+    Path actualFile = file("actual", ascii("abcdef"));
+    Path expectedFile = file("expected", ascii("abcdefg"));
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(actualFile).hasSameContentAs(expectedFile));
+    assertFailureValue(e, "but differed at offset", "6");
+    assertFailureValue(e, "expected size", "7");
+    assertFailureValue(e, "but size was", "6");
+  }
+
+  @Test
+  public void hasSameContentAs_nullActual() {
+    AssertionError e =
+        expectFailure(
+            whenTesting -> whenTesting.that((Path) null).hasSameContentAs(Paths.get("foo")));
+    assertFailureKeys(e, "expected a file with the same content as", "but was");
+  }
+
+  @Test
+  public void hasSameTreeAs() throws IOException {
+    Path actual = tree("actual", "a.txt", "1", "dir/b.txt", "22", "dir/sub/c.bin", "333");
+    Path expected = tree("expected", "a.txt", "1", "dir/b.txt", "22", "dir/sub/c.bin", "333");
+    Files.createDirectories(actual.resolve("empty"));
+    assertThat(actual).hasSameTreeAs(expected);
+    assertThat(actual).containsFilesMatching(expected);
+  }
+
+  @Test
+  public void hasSameTreeAs_fails() throws IOException {
+    Path actual =
+        tree("actual", "same", "x", "size", "long", "content", "abc", "extra", "", "z/extra", "");
+    Path expected =
+        tree("expected", "same", "x", "size", "short!", "content", "abd", "z/missing", "");
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(actual).hasSameTreeAs(expected));
+    assertFailureKeys(
+        e,
+        "missing (1)",
+        "unexpected (2)",
+        "with different contents (2)",
+        "---",
+        "expected to have the same tree as",
+        "but was");
+    assertFailureValue(e, "missing (1)", "[z/missing]");
+    assertFailureValue(e, "unexpected (2)", "[extra, z/extra]");
+    assertFailureValue(e, "with different contents (2)", "[content, size]");
+  }
+
+  @Test
+  public void containsFilesMatching_allowsUnexpectedFiles() throws IOException {
+    Path actual = tree("actual", "a", "1", "b", "2");
+    Path expected = tree("expected", "a", "1");
+    assertThat(actual).containsFilesMatching(expected);
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(expected).containsFilesMatching(actual));
+    assertFailureKeys(
+        e, "missing (1)", "---", "expected to contain files matching those in", "but was");
+  }
+
+  @Test
+  public void hasSameTreeAs_manyDifferences_listsFirstPaths() throws IOException {
+    Path actual = tree("actual");
+    Path expected = tree("expected");
+    for (int i = 0; i < 150; i++) {
+      file("actual/" + String.format("%03d", i), new byte[] {1});
+      file("expected/" + String.format("%03d", i), new byte[] {2});
+    }
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(actual).hasSameTreeAs(expected));
+    assertFailureKeys(
+        e,
+        "with different contents (150)",
+        "files not shown",
+        "---",
+        "expected to have the same tree as",
+        "but was");
+    ExpectFailure.assertThat(e)
+        .factValue("with different contents (150)")
+        .startsWith("[000, 001, 002,");
+    assertFailureValue(e, "files not shown", "50");
+  }
+
+  @Test
+  public void hasSameTreeAs_notADirectory() throws IOException {
+    Path file = file("file", new byte[0]);
+    Path expected = tree("expected");
+    AssertionError e = expectFailure(whenTesting -> whenTesting.that(file).hasSameTreeAs(expected));
+    assertFailureKeys(e, "expected to be a directory", "but was");
+  }
+
+  @Test
+  public void hexWindow_pastEnd() {
+    assertThat(FileContents.hexWindow(new byte[4], 100)).isEqualTo("(no bytes at this offset)");
+  }
+
+  private Path file(String name, byte[] contents) throws IOException {
+    return Files.write(temporaryFolder.getRoot().toPath().resolve(name), contents);
+  }
+
+  /** Creates a directory with the given alternating relative file names and contents. */
+  private Path tree(String name, String... namesAndContents) throws IOException {
+    Path root = Files.createDirectories(temporaryFolder.getRoot().toPath().resolve(name));
+    for (int i = 0; i < namesAndContents.length; i += 2) {
+      Path file = root.resolve(namesAndContents[i]);
+      Files.createDirectories(file.getParent());
+      Files.write(file, ascii(namesAndContents[i + 1]));
+    }
+    return root;
+  }
 }
@@ -64,6 +64,64 @@ public class PrimitiveByteArraySubjectTest {
     assertIsComparisonFailureIfAvailable(e);
   }
 
+  @Test
+  public void isEqualTo_fail_arraysShortEnoughToRenderInFull() {
+    byte[] expected = sequence(1000);
+    byte[] actual = sequence(1000);
+    actual[900] = (byte) 0xFF;
+    AssertionError e = expectFailure(whenTesting -> whenTesting.that(actual).isEqualTo(expected));
+    assertFailureKeys(e, "expected", "but was", "expected", "but was");
+    assertIsComparisonFailureIfAvailable(e);
+  }
+
+  @Test
+  public void isEqualTo_fail_largeArrays() {
+    byte[] expected = sequence(10000);
+    byte[] actual = sequence(10000);
+    actual[100] = (byte) 0xFF;
+    actual[9000] = (byte) 0xFF;
+    AssertionError e = expectFailure(whenTesting -> whenTesting.that(actual).isEqualTo(expected));
+    assertFailureKeys(
+        e,
+        "length",
+        "first difference at index",
+        "expected",
+        "but was",
+        "last difference at index",
+        "expected near last difference",
+        "but was near last difference");
+    assertFailureValue(e, "length", "10000");
+    assertFailureValue(e, "first difference at index", "100");
+    assertFailureValue(
+        e, "expected", "... 5C 5D 5E 5F 60 61 62 63 [64] 65 66 67 68 69 6A 6B 6C ...");
+    assertFailureValue(
+        e, "but was", "... 5C 5D 5E 5F 60 61 62 63 [FF] 65 66 67 68 69 6A 6B 6C ...");
+    assertFailureValue(e, "last difference at index", "9000");
+    assertFailureValue(
+        e,
+        "expected near last difference",
+        "... 20 21 22 23 24 25 26 27 [28] 29 2A 2B 2C 2D 2E 2F 30 ...");
+    assertFailureValue(
+        e,
+        "but was near last difference",
+        "... 20 21 22 23 24 25 26 27 [FF] 29 2A 2B 2C 2D 2E 2F 30 ...");
+  }
+
+  @Test
+  public void isEqualTo_fail_largeArrays_differentLengths() {
+    byte[] expected = sequence(5000);
+    byte[] actual = sequence(4000);
+    AssertionError e = expectFailure(whenTesting -> whenTesting.that(actual).isEqualTo(expected));
+    assertFailureKeys(
+        e, "expected length", "but length was", "first difference at index", "expected", "but was");
+    assertFailureValue(e, "expected length", "5000");
+    assertFailureValue(e, "but length was", "4000");
+    assertFailureValue(e, "first difference at index", "4000");
+    assertFailureValue(
+        e, "expected", "... 98 99 9A 9B 9C 9D 9E 9F [A0] A1 A2 A3 A4 A5 A6 A7 A8 ...");
+    assertFailureValue(e, "but was", "... 98 99 9A 9B 9C 9D 9E 9F (end)");
+  }
+
   @Test
   public void isEqualTo_fail_differentArrayType() {
     AssertionError e =
@@ -114,7 +172,33 @@ public class PrimitiveByteArraySubjectTest {
     assertFailureValue(e, "expected an array with length", "1");
   }
 
+  @Test
+  public void containsExactly() {
+    assertThat(array(BYTE_1, BYTE_0)).containsExactly(BYTE_0, BYTE_1);
+  }
+
+  @Test
+  public void containsAtLeast_failure() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(array(BYTE_0)).containsAtLeast(BYTE_1));
+    assertFailureKeys(e, "missing (1)", "---", "expected to contain at least", "but was");
+    assertFailureValue(e, "missing (1)", "1");
+  }
+
+  @Test
+  public void containsNoneOf() {
+    assertThat(array(BYTE_0)).containsNoneOf(BYTE_1);
+  }
+
   private static byte[] array(byte... ts) {
     return ts;
   }
+
+  private static byte[] sequence(int length) {
+    byte[] bytes = new byte[length];
+    for (int i = 0; i < length; i++) {
+      bytes[i] = (byte) i;
+    }
+    return bytes;
+  }
 }
@@ -104,6 +104,49 @@ public class PrimitiveCharArraySubjectTest {
     assertFailureValue(e, "expected an array with length", "1");
   }
 
+  @Test
+  public void containsExactly() {
+    assertThat(array('b', 'a')).containsExactly('a', 'b');
+  }
+
+  @Test
+  public void containsExactly_failure() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(array('a', 'b')).containsExactly('a', 'c'));
+    assertFailureValue(e, "missing (1)", "c");
+    assertFailureValue(e, "unexpected (1)", "b");
+    assertFailureValue(e, "expected", "[a, c]");
+  }
+
+  @Test
+  public void containsNoDuplicates_failure() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(array('a', 'a')).containsNoDuplicates());
+    assertFailureValue(e, "but contained", "[a x 2]");
+  }
+
+  @Test
+  public void isInStrictOrder() {
+    assertThat(array('a', 'b', 'c')).isInStrictOrder();
+  }
+
+  @Test
+  public void isInOrder_comparator() {
+    assertThat(array('c', 'B', 'a'))
+        .isInStrictOrder((a, b) -> Character.toLowerCase(b) - Character.toLowerCase(a));
+    AssertionError e =
+        expectFailure(
+            whenTesting -> whenTesting.that(array('a', 'b')).isInOrder((a, b) -> b - a));
+    assertFailureValue(e, "but contained", "a");
+    assertFailureValue(e, "followed by", "b");
+  }
+
+  @Test
+  public void isInOrder_failure() {
+    AssertionError e = expectFailure(whenTesting -> whenTesting.that(array('b', 'a')).isInOrder());
+    assertFailureValue(e, "at index", "1");
+  }
+
   private static char[] array(char... ts) {
     return ts;
   }
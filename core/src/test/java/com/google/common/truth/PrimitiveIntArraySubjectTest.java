@@ -21,6 +21,7 @@ import static com.google.common.truth.FailureAssertions.assertFailureValue;
 import static com.google.common.truth.FailureAssertions.assertFailureValueIndexed;
 import static com.google.common.truth.Truth.assertThat;
 
+import com.google.common.primitives.Ints;
 import org.junit.Test;
 
 /** Tests for {@link PrimitiveIntArraySubject}. */
@@ -149,6 +150,187 @@ public class PrimitiveIntArraySubjectTest {
     expectFailure(whenTesting -> whenTesting.that(same).isNotEqualTo(same));
   }
 
+  @Test
+  public void containsExactly() {
+    assertThat(array(2, 5, 2)).containsExactly(2, 2, 5);
+    assertThat(array(2, 5, 2)).containsExactly(2, 5, 2).inOrder();
+    assertThat(EMPTY).containsExactly();
+  }
+
+  @Test
+  public void containsExactly_manyDistinctValues() {
+    int[] actual = new int[10_000];
+    int[] expected = new int[actual.length];
+    for (int i = 0; i < actual.length; i++) {
+      actual[i] = (i / 2) * 1_000_003;
+      expected[actual.length - 1 - i] = actual[i];
+    }
+    assertThat(actual).containsExactly(expected);
+    expected[0] = -1;
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(actual).containsExactly(expected));
+    assertFailureValue(e, "missing (1)", "-1");
+    assertFailureValue(e, "unexpected (1)", String.valueOf(actual[actual.length - 1]));
+  }
+
+  @Test
+  public void containsExactly_failure() {
+    AssertionError e =
+        expectFailure(
+            whenTesting -> whenTesting.that(array(1, 2, 2, 3)).containsExactly(1, 2, 3, 4));
+    assertFailureKeys(e, "missing (1)", "unexpected (1)", "---", "expected", "but was");
+    assertFailureValue(e, "missing (1)", "4");
+    assertFailureValue(e, "unexpected (1)", "2");
+    assertFailureValue(e, "expected", "[1, 2, 3, 4]");
+    assertFailureValue(e, "but was", "[1, 2, 2, 3]");
+  }
+
+  @Test
+  public void containsExactly_inOrderFailure() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(array(1, 2)).containsExactly(2, 1).inOrder());
+    assertFailureKeys(e, "contents match, but order was wrong", "expected", "but was");
+    assertFailureValue(e, "expected", "[2, 1]");
+  }
+
+  @Test
+  public void containsExactly_emptyExpected() {
+    AssertionError e = expectFailure(whenTesting -> whenTesting.that(array(1)).containsExactly());
+    assertFailureKeys(e, "expected to be empty", "but was");
+  }
+
+  @Test
+  public void containsExactly_nullExpected() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(array(1)).containsExactly((int[]) null));
+    assertFailureKeys(
+        e,
+        "could not perform containment check because expected array was null",
+        "actual contents");
+  }
+
+  @Test
+  public void containsAtLeast() {
+    assertThat(array(1, 2, 3, 2)).containsAtLeast(2, 2, 3);
+    assertThat(array(1, 2, 3, 2)).containsAtLeast(1, 3, 2).inOrder();
+  }
+
+  @Test
+  public void containsAtLeast_failure() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(array(1, 2)).containsAtLeast(2, 2, 4));
+    assertFailureKeys(e, "missing (2)", "---", "expected to contain at least", "but was");
+    assertFailureValue(e, "missing (2)", "2, 4");
+  }
+
+  @Test
+  public void containsAtLeast_inOrderFailure() {
+    AssertionError e =
+        expectFailure(
+            whenTesting -> whenTesting.that(array(3, 1, 2)).containsAtLeast(1, 3).inOrder());
+    assertFailureKeys(
+        e,
+        "required elements were all found, but order was wrong",
+        "expected order for required elements",
+        "but order was",
+        "full contents");
+    assertFailureValue(e, "but order was", "[3, 1]");
+  }
+
+  @Test
+  public void containsNoneOf() {
+    assertThat(array(1, 2)).containsNoneOf(3, 4);
+  }
+
+  @Test
+  public void containsNoneOf_failure() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(array(1, 2, 3)).containsNoneOf(3, 4, 1, 3));
+    assertFailureKeys(e, "expected not to contain any of", "but contained", "full contents");
+    assertFailureValue(e, "but contained", "[3, 1]");
+  }
+
+  @Test
+  public void containsNoDuplicates() {
+    assertThat(array(1, 2, 3)).containsNoDuplicates();
+  }
+
+  @Test
+  public void containsNoDuplicates_failure() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(array(3, 1, 3, 1, 1)).containsNoDuplicates());
+    assertFailureKeys(e, "expected not to contain duplicates", "but contained", "full contents");
+    assertFailureValue(e, "but contained", "[3 x 2, 1 x 3]");
+  }
+
+  @Test
+  public void containsExactly_messagesMatchAsList() {
+    int[][][] cases = {
+      {{3, 1, 1, 3, 3}, {1, 3, 4}},
+      {{1, 2, 3}, {3, 2, 1, 0}},
+      {{5, 5, 5}, {6, 5}},
+      {{1}, {1, 1, 2, 2}},
+    };
+    for (int[][] c : cases) {
+      int[] actual = c[0];
+      int[] expected = c[1];
+      assertThat(
+              withoutDescription(
+                  expectFailure(whenTesting -> whenTesting.that(actual).containsExactly(expected))))
+          .isEqualTo(
+              withoutDescription(
+                  expectFailure(
+                      whenTesting ->
+                          whenTesting
+                              .that(actual)
+                              .asList()
+                              .containsExactlyElementsIn(Ints.asList(expected)))));
+      assertThat(
+              withoutDescription(
+                  expectFailure(whenTesting -> whenTesting.that(actual).containsAtLeast(expected))))
+          .isEqualTo(
+              withoutDescription(
+                  expectFailure(
+                      whenTesting ->
+                          whenTesting
+                              .that(actual)
+                              .asList()
+                              .containsAtLeastElementsIn(Ints.asList(expected)))));
+    }
+  }
+
+  /** Returns the failure message without the "value of" line that asList() adds. */
+  private static String withoutDescription(AssertionError e) {
+    return e.getMessage().replaceAll("(?m)^value of\\s*:.*\\n", "");
+  }
+
+  @Test
+  public void isInStrictOrder() {
+    assertThat(array(1, 2, 3)).isInStrictOrder();
+  }
+
+  @Test
+  public void isInOrder_failure() {
+    AssertionError e = expectFailure(whenTesting -> whenTesting.that(array(3, 1)).isInOrder());
+    assertFailureValue(e, "at index", "1");
+  }
+
+  @Test
+  public void isInOrder_comparator() {
+    assertThat(array(3, -2, 1)).isInOrder((a, b) -> Integer.compare(Math.abs(b), Math.abs(a)));
+    AssertionError e =
+        expectFailure(
+            whenTesting -> whenTesting.that(array(3, 3, 1)).isInStrictOrder((a, b) -> b - a));
+    assertFailureKeys(
+        e,
+        "expected to be in strict order",
+        "but contained",
+        "followed by",
+        "at index",
+        "full contents");
+    assertFailureValue(e, "at index", "1");
+  }
+
   private static int[] array(int... ts) {
     return ts;
   }
@@ -104,6 +104,80 @@ public class PrimitiveLongArraySubjectTest {
     assertFailureValue(e, "expected an array with length", "1");
   }
 
+  @Test
+  public void containsExactly() {
+    assertThat(array(2, 5, Long.MAX_VALUE)).containsExactly(Long.MAX_VALUE, 2, 5);
+  }
+
+  @Test
+  public void containsExactly_failure() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(array(1, 2)).containsExactly(2, 3).inOrder());
+    assertFailureKeys(e, "missing (1)", "unexpected (1)", "---", "expected", "but was");
+    assertFailureValue(e, "missing (1)", "3");
+    assertFailureValue(e, "unexpected (1)", "1");
+  }
+
+  @Test
+  public void containsAtLeast() {
+    assertThat(array(1, 2, 3)).containsAtLeast(1, 3).inOrder();
+  }
+
+  @Test
+  public void containsNoneOf_failure() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(array(1, 2)).containsNoneOf(2, 3));
+    assertFailureValue(e, "but contained", "[2]");
+  }
+
+  @Test
+  public void containsNoDuplicates_failure() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(array(1, 1)).containsNoDuplicates());
+    assertFailureValue(e, "but contained", "[1 x 2]");
+  }
+
+  @Test
+  public void isInOrder() {
+    assertThat(array()).isInOrder();
+    assertThat(array(1, 1, Long.MAX_VALUE)).isInOrder();
+    assertThat(array(1, 2, Long.MAX_VALUE)).isInStrictOrder();
+    assertThat(array(3, 2, 2)).isInOrder((a, b) -> Long.compare(b, a));
+  }
+
+  @Test
+  public void isInOrder_failure() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(array(1, 2, 2, 1)).isInOrder());
+    assertFailureKeys(
+        e, "expected to be in order", "but contained", "followed by", "at index", "full contents");
+    assertFailureValue(e, "but contained", "2");
+    assertFailureValue(e, "followed by", "1");
+    assertFailureValue(e, "at index", "3");
+  }
+
+  @Test
+  public void isInStrictOrder_failure() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(array(1, 2, 2)).isInStrictOrder());
+    assertFailureKeys(
+        e,
+        "expected to be in strict order",
+        "but contained",
+        "followed by",
+        "at index",
+        "full contents");
+    assertFailureValue(e, "at index", "2");
+  }
+
+  @Test
+  public void isInOrder_nullComparator() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(array(1, 2)).isInOrder(null));
+    assertFailureKeys(
+        e, "could not perform ordering check because comparator was null", "actual contents");
+  }
+
   private static long[] array(long... ts) {
     return ts;
   }
@@ -117,6 +117,27 @@ public class PrimitiveShortArraySubjectTest {
     assertFailureValue(e, "expected an array with length", "1");
   }
 
+  @Test
+  public void containsExactly() {
+    assertThat(array(1, 0, 1)).containsExactly((short) 0, (short) 1, (short) 1);
+  }
+
+  @Test
+  public void containsExactly_failure() {
+    AssertionError e =
+        expectFailure(
+            whenTesting -> whenTesting.that(array(1, 2)).containsExactly((short) 1, (short) 3));
+    assertFailureValue(e, "missing (1)", "3");
+    assertFailureValue(e, "unexpected (1)", "2");
+  }
+
+  @Test
+  public void containsNoDuplicates_failure() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(array(1, 2, 1)).containsNoDuplicates());
+    assertFailureValue(e, "but contained", "[1 x 2]");
+  }
+
   private static short[] array(int a, int b, int c) {
     return new short[] {(short) a, (short) b, (short) c};
   }
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import static com.google.common.truth.ExpectFailure.expectFailure;
+import static com.google.common.truth.FailureAssertions.assertFailureKeys;
+import static com.google.common.truth.FailureAssertions.assertFailureValue;
+import static com.google.common.truth.ReadableByteChannelSubject.readableByteChannels;
+import static com.google.common.truth.TestBytes.randomBytes;
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/** Tests for {@link ReadableByteChannelSubject}. */
+public final class ReadableByteChannelSubjectTest {
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void hasLength() {
+    assertAbout(readableByteChannels()).that(channel(new byte[20_000])).hasLength(20_000);
+  }
+
+  @Test
+  public void hasLength_fails() {
+    ReadableByteChannel actual = channel(new byte[3]);
+    AssertionError e =
+        expectFailure(
+            whenTesting -> whenTesting.about(readableByteChannels()).that(actual).hasLength(4));
+    assertFailureValue(e, "expected", "4");
+    assertFailureValue(e, "but was", "3");
+  }
+
+  @Test
+  public void hasSameContentAs_file() throws IOException {
+    byte[] bytes = randomBytes(100_000);
+    Path file = temporaryFolder.newFile().toPath();
+    Files.write(file, bytes);
+    try (FileChannel actual = FileChannel.open(file)) {
+      assertAbout(readableByteChannels()).that(actual).hasSameContentAs(file);
+    }
+    assertAbout(readableByteChannels()).that(channel(bytes)).hasContent(bytes);
+    assertAbout(readableByteChannels())
+        .that(channel(bytes))
+        .hasSameContentAs(new ByteArrayInputStream(bytes));
+  }
+
+  @Test
+  public void hasContent_fails() {
+    byte[] expected = randomBytes(20_000);
+    byte[] actual = expected.clone();
+    actual[12_345] ^= 1;
+    ReadableByteChannel actualChannel = channel(actual);
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting.about(readableByteChannels()).that(actualChannel).hasContent(expected));
+    assertFailureKeys(
+        e,
+        "expected to have the given content",
+        "but differed at offset",
+        "expected bytes",
+        "but bytes were");
+    assertFailureValue(e, "but differed at offset", "12345");
+    assertFailureValue(e, "but bytes were", FileContents.hexWindow(actual, 12_345));
+  }
+
+  @Test
+  public void startsWith() {
+    byte[] bytes = randomBytes(20_000);
+    assertAbout(readableByteChannels()).that(channel(bytes)).startsWith(Arrays.copyOf(bytes, 10));
+  }
+
+  @Test
+  public void startsWith_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .about(readableByteChannels())
+                    .that(channel(new byte[] {1, 2, 3}))
+                    .startsWith(new byte[] {1, 3}));
+    assertFailureValue(e, "but differed at offset", "1");
+  }
+
+  @Test
+  public void hasLength_channelReturnsNoBytes_fails() {
+    ReadableByteChannel actual =
+        new ReadableByteChannel() {
+          @Override
+          public int read(ByteBuffer dst) {
+            return 0;
+          }
+
+          @Override
+          public boolean isOpen() {
+            return true;
+          }
+
+          @Override
+          public void close() {}
+        };
+    AssertionError e =
+        expectFailure(
+            whenTesting -> whenTesting.about(readableByteChannels()).that(actual).hasLength(1));
+    assertFailureKeys(e, "could not read channel because of");
+    assertThat(e).hasMessageThat().contains("must be in blocking mode");
+  }
+
+  private static ReadableByteChannel channel(byte[] bytes) {
+    return Channels.newChannel(new ByteArrayInputStream(bytes));
+  }
+}
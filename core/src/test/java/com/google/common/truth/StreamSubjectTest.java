@@ -22,7 +22,11 @@ import static com.google.common.truth.FailureAssertions.assertFailureValue;
 import static com.google.common.truth.Truth.assertThat;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
+import static java.util.stream.Collectors.toList;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.Test;
 
@@ -414,4 +418,182 @@ public final class StreamSubjectTest {
   public void isInStrictOrder_fails() {
     expectFailure(whenTesting -> whenTesting.that(Stream.of(1, 2, 2, 4)).isInStrictOrder());
   }
+
+  @Test
+  public void lazily_contains_infiniteStream() {
+    assertThat(Stream.iterate(0, i -> i + 1)).lazily().contains(1_000);
+    assertThat(Stream.iterate(0, i -> i + 1)).lazily().containsAnyOf(-1, 5, 7);
+    assertThat(Stream.iterate(0, i -> i + 1)).lazily().isNotEmpty();
+  }
+
+  @Test
+  public void lazily_contains_fails() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(Stream.of("a", "b")).lazily().contains("c"));
+    assertFailureKeys(e, "expected to contain", "but was");
+    assertFailureValue(e, "but was", "[a, b]");
+  }
+
+  @Test
+  public void lazily_contains_fails_showsBoundedPrefix() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting.that(Stream.iterate(0, i -> i + 1).limit(250)).lazily().contains(-1));
+    assertThat(e).factValue("but was").startsWith("[0, 1, 2, ");
+    assertThat(e).factValue("but was").endsWith(", 99, <150 more>]");
+  }
+
+  @Test
+  public void lazily_containsAnyOf_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting -> whenTesting.that(Stream.of(1, 2)).lazily().containsAnyOf(3, 4));
+    assertFailureKeys(e, "expected to contain any of", "but was");
+    assertFailureValue(e, "expected to contain any of", "[3, 4]");
+  }
+
+  @Test
+  public void lazily_hasSize() {
+    assertThat(Stream.of(1, 2, 3)).lazily().hasSize(3);
+  }
+
+  @Test
+  public void lazily_hasSize_infiniteStream_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting -> whenTesting.that(Stream.iterate(0, i -> i + 1)).lazily().hasSize(2));
+    assertFailureKeys(e, "expected size", "but had at least", "contents");
+    assertFailureValue(e, "but had at least", "3");
+    assertFailureValue(e, "contents", "[0, 1, 2, ...]");
+  }
+
+  @Test
+  public void lazily_hasSize_tooFew_fails() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(Stream.of(1)).lazily().hasSize(2));
+    assertFailureKeys(e, "expected size", "but had", "contents");
+    assertFailureValue(e, "but had", "1");
+    assertFailureValue(e, "contents", "[1]");
+  }
+
+  @Test
+  public void lazily_isEmpty_infiniteStream_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting -> whenTesting.that(Stream.iterate(5, i -> i + 1)).lazily().isEmpty());
+    assertFailureKeys(e, "expected to be empty", "but was");
+    assertFailureValue(e, "but was", "[5, ...]");
+  }
+
+  @Test
+  public void lazily_isNotEmpty_fails() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(Stream.of()).lazily().isNotEmpty());
+    assertFailureKeys(e, "expected not to be empty");
+  }
+
+  @Test
+  public void lazily_doesNotContain() {
+    assertThat(Stream.of(1, 2)).lazily().doesNotContain(3);
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting.that(Stream.iterate(0, i -> i + 1)).lazily().doesNotContain(2));
+    assertFailureKeys(e, "expected not to contain", "but was");
+    assertFailureValue(e, "but was", "[0, 1, 2, ...]");
+  }
+
+  @Test
+  public void lazily_doesNotContain_fails_readsNoFurther() {
+    AtomicInteger read = new AtomicInteger();
+    Stream<Integer> actual = Stream.iterate(0, i -> i + 1).peek(i -> read.incrementAndGet());
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(actual).lazily().doesNotContain(2));
+    assertFailureValue(e, "but was", "[0, 1, 2, ...]");
+    assertThat(read.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void lazily_containsNoneOf() {
+    assertThat(Stream.of(1, 2)).lazily().containsNoneOf(3, 4);
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting.that(Stream.iterate(0, i -> i + 1)).lazily().containsNoneOf(9, 1));
+    assertFailureKeys(e, "expected not to contain any of", "but contained", "contents");
+    assertFailureValue(e, "but contained", "1");
+    assertFailureValue(e, "contents", "[0, 1, ...]");
+  }
+
+  @Test
+  public void lazily_nullStream_fails() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that((Stream<?>) null).lazily().contains(1));
+    assertFailureKeys(e, "cannot perform assertions on the contents of a null stream");
+  }
+
+  @Test
+  public void parallel_containsNoDuplicates() {
+    assertThat(IntStream.range(0, 10_000).boxed().parallel()).containsNoDuplicates();
+    assertThat(Stream.of(1, null, 2).parallel()).containsNoDuplicates();
+  }
+
+  @Test
+  public void parallel_containsNoDuplicates_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .that(Stream.of("a", null, "b", null).parallel())
+                    .containsNoDuplicates());
+    assertFailureKeys(e, "expected not to contain duplicates", "but contained", "full contents");
+    assertFailureValue(e, "but contained", "[null x 2]");
+    assertFailureValue(e, "full contents", "[a, null, b, null]");
+  }
+
+  @Test
+  public void parallel_containsExactlyElementsIn() {
+    List<Integer> expected = IntStream.range(0, 10_000).boxed().collect(toList());
+    assertThat(IntStream.range(0, 10_000).boxed().parallel())
+        .containsExactlyElementsIn(expected)
+        .inOrder();
+    assertThat(Stream.of(3, null, 3).parallel()).containsExactly(null, 3, 3);
+  }
+
+  @Test
+  public void parallel_containsExactlyElementsIn_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting.that(Stream.of(1, 2, 2).parallel()).containsExactly(1, 2, 3));
+    assertFailureKeys(e, "missing (1)", "unexpected (1)", "---", "expected", "but was");
+    assertFailureValue(e, "missing (1)", "3");
+    assertFailureValue(e, "unexpected (1)", "2");
+  }
+
+  @Test
+  public void parallel_containsExactlyElementsIn_inOrder_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting.that(Stream.of(1, 2, 3).parallel()).containsExactly(3, 2, 1).inOrder());
+    assertFailureKeys(e, "contents match, but order was wrong", "expected", "but was");
+    assertFailureValue(e, "but was", "[1, 2, 3]");
+  }
+
+  @Test
+  public void parallel_containsNoneIn() {
+    assertThat(IntStream.range(0, 10_000).boxed().parallel()).containsNoneIn(asList(-1, 10_000));
+  }
+
+  @Test
+  public void parallel_containsNoneIn_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting.that(Stream.of(1, 2, 3).parallel()).containsNoneIn(asList(0, 2)));
+    assertFailureKeys(e, "expected not to contain any of", "but contained", "full contents");
+    assertFailureValue(e, "but contained", "[2]");
+  }
 }
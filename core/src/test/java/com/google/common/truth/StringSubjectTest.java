@@ -25,7 +25,9 @@ import static com.google.common.truth.Truth.assertThat;
 import static org.junit.Assert.assertThrows;
 
 import com.google.common.annotations.GwtIncompatible;
+import com.google.common.collect.ImmutableList;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 import org.junit.Test;
 
 /** Tests for {@link StringSubject}. */
@@ -188,6 +190,64 @@ public class StringSubjectTest {
     assertThat("a").endsWith("");
   }
 
+  @Test
+  public void containsAllOf() {
+    assertThat("a rendered report with a header and a footer")
+        .containsAllOf("header", "footer", "report");
+    assertThat("abc").containsAllIn(ImmutableList.of());
+    assertThat("abc").containsAllIn(ImmutableList.of("", "abc", "bc"));
+  }
+
+  @Test
+  public void containsAllOfFail() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting.that("header body").containsAllOf("header", "footer", "body", "toc"));
+    assertFailureKeys(e, "expected to contain all of", "missing (2)", "but was");
+    assertFailureValue(e, "missing (2)", "[footer, toc]");
+  }
+
+  @Test
+  public void containsAnyOf() {
+    assertThat("a log line with WARNING in it").containsAnyOf("ERROR", "WARNING");
+  }
+
+  @Test
+  public void containsAnyOfFail() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting.that("all is well").containsAnyIn(ImmutableList.of("x", "y")));
+    assertFailureKeys(e, "expected to contain any of", "but was");
+    assertFailureValue(e, "expected to contain any of", "[x, y]");
+  }
+
+  @Test
+  public void containsNoneOf() {
+    assertThat("all is well").containsNoneOf("ERROR", "WARNING");
+    assertThat("abc").containsNoneIn(ImmutableList.of());
+  }
+
+  @Test
+  public void containsNoneOfFail() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .that("ERROR here, WARNING there, ERROR again")
+                    .containsNoneOf("WARNING", "FATAL", "ERROR"));
+    assertFailureKeys(e, "expected not to contain any of", "but contained", "but was");
+    assertFailureValue(e, "but contained", "[WARNING (at offset 12), ERROR (at offset 0)]");
+  }
+
+  @Test
+  public void containsAllOfFailBecauseNullSubject() {
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that((String) null).containsAllOf("a", "b"));
+    assertFailureValue(e, "expected a string that contains all of", "[a, b]");
+  }
+
   @Test
   public void matchesString() {
     assertThat("abcaaadev").matches(".*aaa.*");
@@ -243,6 +303,34 @@ public class StringSubjectTest {
     assertThat(e).hasMessageThat().doesNotContain("[)");
   }
 
+  @Test
+  @GwtIncompatible("Pattern cache")
+  public void matchesStringReusesCompiledPattern() {
+    String regex = "compiled-pattern-cache-[0-9]+";
+    CountingTruthInstrumentation counting = CountingTruthInstrumentation.create();
+    TruthInstrumentation previous = TruthInstrumentation.installed();
+    TruthInstrumentation.install(counting);
+    try {
+      assertThat("compiled-pattern-cache-1").matches(regex);
+      assertThat("compiled-pattern-cache-2").matches(regex);
+      assertThat("compiled-pattern-cache-x").doesNotMatch(regex);
+      assertThat("a compiled-pattern-cache-3").containsMatch(regex);
+    } finally {
+      TruthInstrumentation.install(previous);
+    }
+    assertThat(counting.patternCacheMisses()).isAtMost(1);
+    assertThat(counting.patternCacheHits()).isAtLeast(3);
+  }
+
+  @Test
+  @GwtIncompatible("PatternSyntaxException")
+  @SuppressWarnings("InvalidPatternSyntax") // testing Truth's behavior for an invalid pattern
+  public void containsMatchStringBadRegexThrowsPatternSyntaxException() {
+    assertThrows(PatternSyntaxException.class, () -> assertThat("aba").containsMatch("["));
+    // Again, to check that the failed compile wasn't cached as some other value.
+    assertThrows(PatternSyntaxException.class, () -> assertThat("aba").containsMatch("["));
+  }
+
   @Test
   @GwtIncompatible("Pattern")
   public void matchesPattern() {
@@ -587,6 +675,42 @@ public class StringSubjectTest {
     assertThat(e).factKeys().contains("(case is ignored)");
   }
 
+  @Test
+  public void containsIgnoringCaseLongString() {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 100_000; i++) {
+      builder.append("abcab");
+    }
+    String actual = builder + "abcABD" + builder;
+    assertThat(actual).ignoringCase().contains("ABCabd");
+    assertThat(actual).ignoringCase().doesNotContain("ABCabe");
+  }
+
+  @Test
+  public void containsIgnoringCaseMatchesRegionMatches() {
+    String[] strings = {
+      "", "a", "A", "abc", "xAbCx", "stra\u00dfe", "STRASSE", "\u0130stanbul", "istanbul",
+      "\u0131", "I", "\u03a3\u03c3\u03c2", "\u01c5", "\u01c4\u01c6",
+      "\ud801\udc00", "x\ud801\udc28y", "\ud801", "\udc00a", "a\u0100b\u0000c",
+    };
+    for (String actual : strings) {
+      for (String actualSuffix : strings) {
+        String haystack = actual + actualSuffix;
+        for (String needle : strings) {
+          boolean expected = false;
+          for (int i = 0; i <= haystack.length() - needle.length(); i++) {
+            expected |= haystack.regionMatches(true, i, needle, 0, needle.length());
+          }
+          if (expected) {
+            assertThat(haystack).ignoringCase().contains(needle);
+          } else {
+            assertThat(haystack).ignoringCase().doesNotContain(needle);
+          }
+        }
+      }
+    }
+  }
+
   @Test
   public void trailingWhitespaceInActual() {
     AssertionError e = expectFailure(whenTesting -> whenTesting.that("foo\n").isEqualTo("foo"));
@@ -20,11 +20,16 @@ import static com.google.common.truth.ExpectFailure.assertThat;
 import static com.google.common.truth.ExpectFailure.expectFailure;
 import static com.google.common.truth.FailureAssertions.assertFailureKeys;
 import static com.google.common.truth.FailureAssertions.assertFailureValue;
+import static com.google.common.truth.FailureAssertions.assertFailureValueIndexed;
 import static com.google.common.truth.Truth.assertThat;
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
 
+import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.ImmutableTable;
+import com.google.common.collect.Ordering;
 import com.google.common.collect.Table;
 import com.google.common.collect.Table.Cell;
+import com.google.common.collect.TreeBasedTable;
 import org.jspecify.annotations.Nullable;
 import org.junit.Test;
 
@@ -371,6 +376,146 @@ public class TableSubjectTest {
     assertFailureValue(e, "but was", "null");
   }
 
+  @Test
+  public void containsExactlyCellsIn() {
+    Table<Integer, Integer, Integer> actual = HashBasedTable.create();
+    ImmutableTable.Builder<Integer, Integer, Integer> expected = ImmutableTable.builder();
+    for (int row = 0; row < 100; row++) {
+      for (int column = 0; column < 100; column++) {
+        actual.put(row, column, row * column);
+        expected.put(row, column, row * column);
+      }
+    }
+    assertThat(actual).containsExactlyCellsIn(expected.build());
+    assertThat(actual).containsAtLeastCellsIn(ImmutableTable.of(3, 4, 12));
+  }
+
+  @Test
+  public void containsExactlyCellsInFailure() {
+    ImmutableTable<String, String, Integer> actual =
+        ImmutableTable.<String, String, Integer>builder()
+            .put("r1", "c1", 1)
+            .put("r1", "c2", 2)
+            .put("r2", "c1", 3)
+            .put("r3", "c1", 5)
+            .build();
+    ImmutableTable<String, String, Integer> expected =
+        ImmutableTable.<String, String, Integer>builder()
+            .put("r1", "c1", 1)
+            .put("r1", "c2", 20)
+            .put("r2", "c1", 3)
+            .put("r2", "c2", 4)
+            .build();
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(actual).containsExactlyCellsIn(expected));
+    assertFailureKeys(
+        e,
+        "cells with wrong values",
+        "in row",
+        "for column",
+        "expected value",
+        "but got value",
+        "missing cells",
+        "in row",
+        "missing",
+        "unexpected cells",
+        "in row",
+        "unexpected",
+        "---",
+        "expected",
+        "but was");
+    assertFailureValueIndexed(e, "in row", 0, "r1");
+    assertFailureValue(e, "for column", "c2");
+    assertFailureValue(e, "expected value", "20");
+    assertFailureValue(e, "but got value", "2");
+    assertFailureValueIndexed(e, "in row", 1, "r2");
+    assertFailureValue(e, "missing", "{c2=4}");
+    assertFailureValueIndexed(e, "in row", 2, "r3");
+    assertFailureValue(e, "unexpected", "{c1=5}");
+  }
+
+  @Test
+  public void containsAtLeastCellsInFailure() {
+    ImmutableTable<String, String, Integer> actual = ImmutableTable.of("r1", "c1", 1);
+    ImmutableTable<String, String, Integer> expected =
+        ImmutableTable.<String, String, Integer>builder()
+            .put("r1", "c1", 1)
+            .put("r1", "c2", 2)
+            .put("r1", "c3", 3)
+            .build();
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(actual).containsAtLeastCellsIn(expected));
+    assertFailureKeys(
+        e, "missing cells", "in row", "missing", "---", "expected to contain at least", "but was");
+    assertFailureValue(e, "missing", "{c2=2, c3=3}");
+  }
+
+  @Test
+  public void containsExactlyCellsInFailure_caseInsensitiveActual() {
+    Table<String, String, Integer> actual =
+        TreeBasedTable.create(CASE_INSENSITIVE_ORDER, Ordering.natural());
+    actual.put("a", "c", 1);
+    actual.put("B", "c", 2);
+    Table<String, String, Integer> expected = HashBasedTable.create();
+    expected.put("a", "c", 1);
+    expected.put("A", "c", 1);
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(actual).containsExactlyCellsIn(expected));
+    assertFailureKeys(
+        e,
+        "missing cells",
+        "in row",
+        "missing",
+        "unexpected cells",
+        "in row",
+        "unexpected",
+        "---",
+        "expected",
+        "but was");
+    assertFailureValueIndexed(e, "in row", 0, "A");
+    assertFailureValueIndexed(e, "in row", 1, "B");
+  }
+
+  @Test
+  public void containsExactlyCellsInFailure_largeTables() {
+    Table<Integer, Integer, Integer> actual = HashBasedTable.create();
+    Table<Integer, Integer, Integer> expected = HashBasedTable.create();
+    for (int row = 0; row < 100; row++) {
+      for (int column = 0; column < 100; column++) {
+        actual.put(row, column, 0);
+        expected.put(row, column, column < 3 ? 1 : 0);
+      }
+    }
+    AssertionError e =
+        expectFailure(whenTesting -> whenTesting.that(actual).containsExactlyCellsIn(expected));
+    assertFailureValue(e, "cells not shown", "200");
+    assertFailureValue(e, "expected", "a table with 10000 cells");
+    assertFailureValue(e, "but was", "a table with 10000 cells");
+  }
+
+  @Test
+  public void containsExactlyCellsInNullExpected() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting.that(ImmutableTable.of("r", "c", 1)).containsExactlyCellsIn(null));
+    assertFailureKeys(
+        e,
+        "could not perform containment check because expected table was null",
+        "actual contents");
+  }
+
+  @Test
+  public void containsExactlyCellsInOnNullTable() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .that((Table<?, ?, ?>) null)
+                    .containsExactlyCellsIn(ImmutableTable.of("r", "c", 1)));
+    assertFailureKeys(e, "expected a table that contains exactly", "but was");
+  }
+
   private static <
           R extends @Nullable Object, C extends @Nullable Object, V extends @Nullable Object>
       Cell<R, C, V> cell(R row, C col, V val) {
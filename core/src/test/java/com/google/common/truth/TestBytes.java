@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import java.util.Random;
+
+/** Byte arrays for tests of the subjects for files, streams, channels, and buffers. */
+final class TestBytes {
+  /** Returns {@code size} pseudorandom bytes, the same ones on every call. */
+  static byte[] randomBytes(int size) {
+    byte[] bytes = new byte[size];
+    new Random(0).nextBytes(bytes);
+    return bytes;
+  }
+
+  static byte[] ascii(String string) {
+    return string.getBytes(US_ASCII);
+  }
+
+  private TestBytes() {}
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.common.truth;
+
+import static com.google.common.truth.ExpectFailure.expectFailure;
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.util.concurrent.Uninterruptibles.sleepUninterruptibly;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.collect.ImmutableList;
+import com.google.common.truth.TruthInstrumentation.Work;
+import java.util.ArrayList;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Tests for {@link TruthInstrumentation}. */
+public final class TruthInstrumentationTest {
+  private final RecordingInstrumentation recording = new RecordingInstrumentation();
+  private @Nullable TruthInstrumentation previous;
+
+  @Before
+  public void install() {
+    previous = TruthInstrumentation.installed();
+    TruthInstrumentation.install(recording);
+  }
+
+  @After
+  public void restore() {
+    TruthInstrumentation.install(previous);
+  }
+
+  @Test
+  public void subjectCreated() {
+    assertThat(1).isEqualTo(1);
+    TruthInstrumentation.install(previous);
+
+    assertThat(recording.events).contains("subjectCreated IntegerSubject");
+  }
+
+  @Test
+  public void assertionStarted_onlyForTheRootSubject() {
+    assertThat(new IllegalStateException("x")).hasMessageThat().isEqualTo("x");
+    TruthInstrumentation.install(previous);
+
+    assertThat(recording.events)
+        .containsExactly(
+            "subjectCreated ThrowableSubject",
+            "assertionStarted ThrowableSubject",
+            "subjectCreated StringSubject")
+        .inOrder();
+  }
+
+  @Test
+  @GwtIncompatible("sleepUninterruptibly")
+  public void failureFormatted_includesRenderingTheActualValue() {
+    Object slowToRender =
+        new Object() {
+          @Override
+          public String toString() {
+            sleepUninterruptibly(20, MILLISECONDS);
+            return "slow";
+          }
+        };
+    expectFailure(whenTesting -> whenTesting.that(slowToRender).isNull());
+    TruthInstrumentation.install(previous);
+
+    assertThat(recording.formattingNanos).isAtLeast(MILLISECONDS.toNanos(20));
+  }
+
+  @Test
+  public void assertionFailed() {
+    expectFailure(whenTesting -> whenTesting.that(1).isEqualTo(2));
+    TruthInstrumentation.install(previous);
+
+    assertThat(recording.events)
+        .containsAtLeast(
+            "subjectCreated IntegerSubject",
+            "workStarted FAILURE",
+            "failureFormatted",
+            "assertionFailed IntegerSubject")
+        .inOrder();
+  }
+
+  @Test
+  public void failFromBuilder() {
+    expectFailure(whenTesting -> whenTesting.fail());
+    TruthInstrumentation.install(previous);
+
+    assertThat(recording.events).contains("assertionFailed null");
+  }
+
+  @Test
+  @GwtIncompatible("stack trace cleaning and diffs are JVM-only")
+  public void stackTraceCleanedAndDiffComputed() {
+    expectFailure(whenTesting -> whenTesting.that("a\nb\nc").isEqualTo("a\nx\nc"));
+    TruthInstrumentation.install(previous);
+
+    assertThat(recording.events)
+        .containsAtLeast(
+            "workStarted DIFF",
+            "diffComputed 3 3",
+            "workStarted STACK_TRACE_CLEANING",
+            "stackTraceCleaned");
+  }
+
+  @Test
+  public void notInstalled() {
+    TruthInstrumentation.install(null);
+    expectFailure(whenTesting -> whenTesting.that(1).isEqualTo(2));
+
+    assertThat(recording.events).isEmpty();
+  }
+
+  @Test
+  @GwtIncompatible
+  public void countingSummary() {
+    CountingTruthInstrumentation counting = CountingTruthInstrumentation.create();
+    TruthInstrumentation.install(counting);
+    assertThat("a").isEqualTo("a");
+    expectFailure(whenTesting -> whenTesting.that("a").isEqualTo("b"));
+    TruthInstrumentation.install(previous);
+
+    assertThat(counting.subjectsCreated(StringSubject.class)).isEqualTo(2);
+    assertThat(counting.assertionsStarted()).isEqualTo(2);
+    assertThat(counting.assertionsPassed()).isEqualTo(1);
+    assertThat(counting.assertionsFailed()).isEqualTo(1);
+    assertThat(counting.summary()).contains("failures by class:");
+    assertThat(counting.summary()).contains(StringSubject.class.getName());
+  }
+
+  @Test
+  @GwtIncompatible
+  public void composite_passesEventsToEach() {
+    CountingTruthInstrumentation counting = CountingTruthInstrumentation.create();
+    TruthInstrumentation.install(
+        CompositeTruthInstrumentation.of(ImmutableList.of(recording, counting)));
+    expectFailure(whenTesting -> whenTesting.that(1).isEqualTo(2));
+    TruthInstrumentation.install(previous);
+
+    assertThat(recording.events).contains("assertionFailed IntegerSubject");
+    assertThat(counting.assertionsFailed()).isEqualTo(1);
+  }
+
+  private static final class RecordingInstrumentation extends TruthInstrumentation {
+    final List<String> events = new ArrayList<>();
+    long formattingNanos;
+
+    @Override
+    void workStarted(Work work) {
+      events.add("workStarted " + work);
+    }
+
+    @Override
+    public void subjectCreated(Class<?> subjectClass) {
+      events.add("subjectCreated " + subjectClass.getSimpleName());
+    }
+
+    @Override
+    public void assertionStarted(Class<?> subjectClass) {
+      events.add("assertionStarted " + subjectClass.getSimpleName());
+    }
+
+    @Override
+    public void assertionFailed(@Nullable Class<?> subjectClass, int factCount, long elapsedNanos) {
+      events.add(
+          "assertionFailed " + (subjectClass == null ? null : subjectClass.getSimpleName()));
+    }
+
+    @Override
+    public void failureFormatted(int factCount, long elapsedNanos) {
+      events.add("failureFormatted");
+      formattingNanos = elapsedNanos;
+    }
+
+    @Override
+    public void stackTraceCleaned(int originalFrames, int cleanedFrames, long elapsedNanos) {
+      events.add("stackTraceCleaned");
+    }
+
+    @Override
+    public void diffComputed(int expectedLines, int actualLines, long elapsedNanos) {
+      events.add("diffComputed " + expectedLines + " " + actualLines);
+    }
+  }
+}
@@ -19,6 +19,7 @@ import com.google.common.truth.BigDecimalSubject;
 import com.google.common.truth.BooleanSubject;
 import com.google.common.truth.ClassSubject;
 import com.google.common.truth.ComparableSubject;
+import com.google.common.truth.DoubleStreamSubject;
 import com.google.common.truth.DoubleSubject;
 import com.google.common.truth.FailureStrategy;
 import com.google.common.truth.FloatSubject;
@@ -52,6 +53,7 @@ import com.google.common.truth.TableSubject;
 import com.google.common.truth.ThrowableSubject;
 import com.google.common.truth.Truth;
 import com.google.common.truth.Truth8;
+import com.google.common.truth.TruthInstrumentation;
 
 /**
  * Static references to a variety of classes to force their loading during the {@link TruthGwtTest}.
@@ -61,6 +63,7 @@ public class Inventory {
   BooleanSubject booleanSubject;
   ClassSubject classSubject;
   ComparableSubject<?> comparableSubject;
+  DoubleStreamSubject doubleStreamSubject;
   DoubleSubject doubleSubject;
   FailureStrategy failureStrategy;
   FloatSubject floatSubject;
@@ -95,4 +98,5 @@ public class Inventory {
   ThrowableSubject throwableSubject;
   Truth truth;
   Truth8 truth8;
+  TruthInstrumentation truthInstrumentation;
 }
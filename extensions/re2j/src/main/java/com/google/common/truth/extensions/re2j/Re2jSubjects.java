@@ -16,11 +16,16 @@
 package com.google.common.truth.extensions.re2j;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 import com.google.common.annotations.GwtIncompatible;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.truth.FailureMetadata;
 import com.google.common.truth.Subject;
+import com.google.common.truth.TruthInstrumentation;
 import com.google.re2j.Pattern;
+import java.nio.ByteBuffer;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -44,6 +49,70 @@ public final class Re2jSubjects {
     return Re2jStringSubject::new;
   }
 
+  /**
+   * Returns a subject factory for UTF-8 encoded {@code byte[]} subjects which you can use to assert
+   * things about {@link com.google.re2j.Pattern} regexes. The bytes are matched directly, without
+   * first being decoded to a {@link String}.
+   *
+   * @since 1.5.0
+   */
+  @GwtIncompatible("java.nio.charset.StandardCharsets")
+  public static Subject.Factory<Re2jUtf8Subject, byte[]> re2jUtf8Bytes() {
+    return (metadata, actual) -> new Re2jUtf8Subject(metadata, actual, actual);
+  }
+
+  /**
+   * Returns a subject factory for {@link ByteBuffer} subjects holding UTF-8 encoded text between
+   * their position and limit, which you can use to assert things about {@link
+   * com.google.re2j.Pattern} regexes. The buffer's position is not changed.
+   *
+   * <p>A heap buffer that exactly spans its backing array is matched in place. Any other buffer is
+   * copied to a {@code byte[]} once, but never decoded to a {@link String}.
+   *
+   * @since 1.5.0
+   */
+  @GwtIncompatible("java.nio.ByteBuffer")
+  public static Subject.Factory<Re2jUtf8Subject, ByteBuffer> re2jUtf8Buffer() {
+    return (metadata, actual) ->
+        new Re2jUtf8Subject(metadata, actual, actual == null ? null : remainingBytes(actual));
+  }
+
+  private static byte[] remainingBytes(ByteBuffer buffer) {
+    if (buffer.hasArray()
+        && buffer.arrayOffset() == 0
+        && buffer.position() == 0
+        && buffer.remaining() == buffer.array().length) {
+      return buffer.array();
+    }
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.duplicate().get(bytes);
+    return bytes;
+  }
+
+  /**
+   * Compiled forms of the regexes passed to the {@code String} overloads below, so that each regex
+   * is parsed and compiled to an RE2 program once rather than on every assertion.
+   */
+  private static final Cache<String, Pattern> compiledPatterns =
+      CacheBuilder.newBuilder().maximumSize(256).build();
+
+  /**
+   * Returns the compiled form of {@code regex}. The regex is compiled outside the cache, so an
+   * invalid one throws RE2/J's own {@code PatternSyntaxException} and is never cached.
+   */
+  private static Pattern compiledPattern(String regex) {
+    Pattern pattern = compiledPatterns.getIfPresent(regex);
+    TruthInstrumentation instrumentation = TruthInstrumentation.installed();
+    if (instrumentation != null) {
+      instrumentation.patternLookedUp(pattern != null);
+    }
+    if (pattern == null) {
+      pattern = Pattern.compile(regex);
+      compiledPatterns.put(regex, pattern);
+    }
+    return pattern;
+  }
+
   /**
    * Subject for {@link String} subjects which you can use to assert things about {@link
    * com.google.re2j.Pattern} regexes.
@@ -65,7 +134,7 @@ public final class Re2jSubjects {
 
     /** Fails if the string does not match the given regex. */
     public void matches(String regex) {
-      if (!Pattern.matches(regex, checkNotNull(actual))) {
+      if (!compiledPattern(regex).matches(checkNotNull(actual))) {
         failWithActual("expected to match ", regex);
       }
     }
@@ -80,7 +149,7 @@ public final class Re2jSubjects {
 
     /** Fails if the string matches the given regex. */
     public void doesNotMatch(String regex) {
-      if (Pattern.matches(regex, checkNotNull(actual))) {
+      if (compiledPattern(regex).matches(checkNotNull(actual))) {
         failWithActual("expected to fail to match", regex);
       }
     }
@@ -128,7 +197,87 @@ public final class Re2jSubjects {
     }
 
     private static boolean doContainsMatch(String subject, String regex) {
-      return Pattern.compile(regex).matcher(subject).find();
+      return compiledPattern(regex).matcher(subject).find();
+    }
+  }
+
+  /**
+   * Subject for UTF-8 encoded bytes which you can use to assert things about {@link
+   * com.google.re2j.Pattern} regexes. The bytes are decoded only to render a failure message.
+   *
+   * @see #re2jUtf8Bytes
+   * @see #re2jUtf8Buffer
+   * @since 1.5.0
+   */
+  @GwtIncompatible("java.nio.charset.StandardCharsets")
+  public static final class Re2jUtf8Subject extends Subject {
+    private final byte @Nullable [] actual;
+
+    private Re2jUtf8Subject(
+        FailureMetadata failureMetadata, @Nullable Object subject, byte @Nullable [] utf8) {
+      super(failureMetadata, subject);
+      this.actual = utf8;
+    }
+
+    @Override
+    protected String actualCustomStringRepresentation() {
+      return Re2jStringSubject.quote(new String(checkNotNull(actual), UTF_8));
+    }
+
+    /** Fails if the text does not match the given regex. */
+    public void matches(String regex) {
+      if (!compiledPattern(regex).matches(checkNotNull(actual))) {
+        failWithActual("expected to match ", regex);
+      }
+    }
+
+    /** Fails if the text does not match the given regex. */
+    public void matches(Pattern regex) {
+      if (!regex.matches(checkNotNull(actual))) {
+        failWithActual("expected to match ", regex);
+      }
+    }
+
+    /** Fails if the text matches the given regex. */
+    public void doesNotMatch(String regex) {
+      if (compiledPattern(regex).matches(checkNotNull(actual))) {
+        failWithActual("expected to fail to match", regex);
+      }
+    }
+
+    /** Fails if the text matches the given regex. */
+    public void doesNotMatch(Pattern regex) {
+      if (regex.matches(checkNotNull(actual))) {
+        failWithActual("expected to fail to match", regex);
+      }
+    }
+
+    /** Fails if the text does not contain a match on the given regex. */
+    public void containsMatch(String regex) {
+      if (!compiledPattern(regex).matcher(checkNotNull(actual)).find()) {
+        failWithActual("expected to contain a match for", regex);
+      }
+    }
+
+    /** Fails if the text does not contain a match on the given regex. */
+    public void containsMatch(Pattern pattern) {
+      if (!pattern.matcher(checkNotNull(actual)).find()) {
+        failWithActual("expected to contain a match for", pattern);
+      }
+    }
+
+    /** Fails if the text contains a match on the given regex. */
+    public void doesNotContainMatch(String regex) {
+      if (compiledPattern(regex).matcher(checkNotNull(actual)).find()) {
+        failWithActual("expected not to contain a match for", regex);
+      }
+    }
+
+    /** Fails if the text contains a match on the given regex. */
+    public void doesNotContainMatch(Pattern pattern) {
+      if (pattern.matcher(checkNotNull(actual)).find()) {
+        failWithActual("expected not to contain a match for", pattern);
+      }
     }
   }
 
@@ -15,10 +15,21 @@
  */
 package com.google.common.truth.extensions.re2j;
 
+import static com.google.common.truth.ExpectFailure.assertThat;
+import static com.google.common.truth.ExpectFailure.expectFailure;
 import static com.google.common.truth.Truth.assertAbout;
+import static com.google.common.truth.Truth.assertThat;
 import static com.google.common.truth.extensions.re2j.Re2jSubjects.re2jString;
+import static com.google.common.truth.extensions.re2j.Re2jSubjects.re2jUtf8Buffer;
+import static com.google.common.truth.extensions.re2j.Re2jSubjects.re2jUtf8Bytes;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertThrows;
 
+import com.google.common.truth.CountingTruthInstrumentation;
+import com.google.common.truth.TruthInstrumentation;
 import com.google.re2j.Pattern;
+import com.google.re2j.PatternSyntaxException;
+import java.nio.ByteBuffer;
 import org.junit.Test;
 
 /** Unit tests for {@link Re2jSubjects}. */
@@ -65,4 +76,62 @@ public class Re2jSubjectsTest {
   public void doesNotContainMatch_pattern_succeeds() {
     assertAbout(re2jString()).that("hello cruel world").doesNotContainMatch(PATTERN);
   }
+
+  @Test
+  public void matches_string_reusesCompiledPattern() {
+    String regex = "(?:cached )+world";
+    CountingTruthInstrumentation counting = CountingTruthInstrumentation.create();
+    TruthInstrumentation previous = TruthInstrumentation.installed();
+    TruthInstrumentation.install(counting);
+    try {
+      assertAbout(re2jString()).that("cached world").matches(regex);
+      assertAbout(re2jString()).that("cached cached world").matches(regex);
+      assertAbout(re2jString()).that("a cached world").containsMatch(regex);
+    } finally {
+      TruthInstrumentation.install(previous);
+    }
+    assertThat(counting.patternCacheMisses()).isAtMost(1);
+    assertThat(counting.patternCacheHits()).isAtLeast(2);
+  }
+
+  @Test
+  public void matches_string_invalidRegex() {
+    assertThrows(
+        PatternSyntaxException.class, () -> assertAbout(re2jString()).that("a").matches("["));
+  }
+
+  @Test
+  public void utf8Bytes_succeeds() {
+    byte[] bytes = "h\u00e9llo world".getBytes(UTF_8);
+    assertAbout(re2jUtf8Bytes()).that(bytes).matches("h\u00e9(?:llo )+world");
+    assertAbout(re2jUtf8Bytes()).that(bytes).matches(Pattern.compile("h.llo world"));
+    assertAbout(re2jUtf8Bytes()).that(bytes).doesNotMatch(PATTERN_STR);
+    assertAbout(re2jUtf8Bytes()).that(bytes).containsMatch("llo w");
+    assertAbout(re2jUtf8Bytes()).that(bytes).doesNotContainMatch(PATTERN);
+  }
+
+  @Test
+  public void utf8Bytes_fails() {
+    AssertionError e =
+        expectFailure(
+            whenTesting ->
+                whenTesting
+                    .about(re2jUtf8Bytes())
+                    .that("h\u00e9llo".getBytes(UTF_8))
+                    .containsMatch("world"));
+    assertThat(e).factValue("expected to contain a match for").isEqualTo("world");
+    assertThat(e).factValue("but was").isEqualTo("\"h\u00e9llo\"");
+  }
+
+  @Test
+  public void utf8Buffer_usesRemainingBytes() {
+    ByteBuffer buffer = ByteBuffer.wrap("xx hello world yy".getBytes(UTF_8));
+    buffer.position(3).limit(14);
+    assertAbout(re2jUtf8Buffer()).that(buffer).matches(PATTERN_STR);
+    assertThat(buffer.position()).isEqualTo(3);
+    ByteBuffer direct = ByteBuffer.allocateDirect(11);
+    direct.put("hello world".getBytes(UTF_8)).flip();
+    assertAbout(re2jUtf8Buffer()).that(direct).matches(PATTERN);
+    assertAbout(re2jUtf8Buffer()).that(ByteBuffer.wrap(new byte[0])).doesNotContainMatch("x");
+  }
 }